@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import panda.interpreter.PandaFrameworkException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Scores loaded from the JSON results of the previous run, used to detect regressions
+ */
+final class BenchmarkBaseline {
+
+    private final Map<String, Score> scores;
+
+    private BenchmarkBaseline(Map<String, Score> scores) {
+        this.scores = scores;
+    }
+
+    /**
+     * Compare results of the current run with the baseline and print the summary
+     *
+     * @param results the results of current run
+     * @param threshold the accepted relative slowdown, e.g. 0.1 for 10%
+     * @return amount of regressions
+     */
+    int compare(Collection<RunResult> results, double threshold) {
+        int regressions = 0;
+
+        System.out.println();
+        System.out.printf("%-90s %6s %14s %14s %9s%n", "Benchmark", "Mode", "Baseline", "Current", "Change");
+
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String key = toKey(params);
+            Score baseline = scores.get(key);
+            double current = result.getPrimaryResult().getScore();
+
+            if (baseline == null) {
+                System.out.printf("%-90s %6s %14s %14.3f %9s%n", key, params.getMode().shortLabel(), "-", current, "new");
+                continue;
+            }
+
+            // throughput is better when higher, other modes measure time
+            double change = (current - baseline.value) / baseline.value;
+            double slowdown = baseline.mode.equals("thrpt") ? -change : change;
+            boolean regression = slowdown > threshold;
+
+            if (regression) {
+                regressions++;
+            }
+
+            System.out.printf("%-90s %6s %14.3f %14.3f %+8.1f%%%s%n", key, baseline.mode, baseline.value, current, change * 100, regression ? "  REGRESSION" : "");
+        }
+
+        return regressions;
+    }
+
+    static String toKey(BenchmarkParams params) {
+        Map<String, String> values = new TreeMap<>();
+
+        for (String name : params.getParamsKeys()) {
+            values.put(name, params.getParam(name));
+        }
+
+        return toKey(params.getBenchmark(), values);
+    }
+
+    private static String toKey(String benchmark, Map<String, String> params) {
+        return params.isEmpty() ? benchmark : benchmark + " " + new TreeMap<>(params);
+    }
+
+    @SuppressWarnings("unchecked")
+    static BenchmarkBaseline load(Path file) {
+        String content;
+
+        try {
+            content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException ioException) {
+            throw new PandaFrameworkException("Cannot read baseline " + file, ioException);
+        }
+
+        Map<String, Score> scores = new LinkedHashMap<>();
+
+        for (Object element : (List<Object>) new JsonReader(content).read()) {
+            Map<String, Object> entry = (Map<String, Object>) element;
+            Map<String, String> params = new TreeMap<>();
+            Object rawParams = entry.get("params");
+
+            if (rawParams instanceof Map) {
+                ((Map<String, Object>) rawParams).forEach((name, value) -> params.put(name, String.valueOf(value)));
+            }
+
+            Map<String, Object> primaryMetric = (Map<String, Object>) entry.get("primaryMetric");
+            Object score = primaryMetric.get("score");
+
+            // JMH writes NaN scores as strings
+            double value = score instanceof Number ? ((Number) score).doubleValue() : Double.NaN;
+            scores.put(toKey((String) entry.get("benchmark"), params), new Score((String) entry.get("mode"), value));
+        }
+
+        return new BenchmarkBaseline(scores);
+    }
+
+    private static final class Score {
+
+        private final String mode;
+        private final double value;
+
+        private Score(String mode, double value) {
+            this.mode = mode;
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * Minimal reader of the JSON format produced by JMH
+     */
+    private static final class JsonReader {
+
+        private final String content;
+        private int index;
+
+        private JsonReader(String content) {
+            this.content = content;
+        }
+
+        private Object read() {
+            skipWhitespaces();
+            char character = content.charAt(index);
+
+            switch (character) {
+                case '{':
+                    return readObject();
+                case '[':
+                    return readArray();
+                case '"':
+                    return readString();
+                case 't':
+                    return readLiteral("true", Boolean.TRUE);
+                case 'f':
+                    return readLiteral("false", Boolean.FALSE);
+                case 'n':
+                    return readLiteral("null", null);
+                default:
+                    return readNumber();
+            }
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            index++;
+
+            while (next() != '}') {
+                String name = readString();
+                expect(':');
+                object.put(name, read());
+
+                if (next() == ',') {
+                    index++;
+                }
+            }
+
+            index++;
+            return object;
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            index++;
+
+            while (next() != ']') {
+                array.add(read());
+
+                if (next() == ',') {
+                    index++;
+                }
+            }
+
+            index++;
+            return array;
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+
+            for (char character = content.charAt(index++); character != '"'; character = content.charAt(index++)) {
+                if (character == '\\') {
+                    char escaped = content.charAt(index++);
+
+                    switch (escaped) {
+                        case 'n':
+                            value.append('\n');
+                            break;
+                        case 't':
+                            value.append('\t');
+                            break;
+                        case 'u':
+                            value.append((char) Integer.parseInt(content.substring(index, index + 4), 16));
+                            index += 4;
+                            break;
+                        default:
+                            value.append(escaped);
+                    }
+
+                    continue;
+                }
+
+                value.append(character);
+            }
+
+            return value.toString();
+        }
+
+        private Object readLiteral(String literal, Object value) {
+            if (!content.startsWith(literal, index)) {
+                throw new PandaFrameworkException("Unexpected token at " + index + " in baseline");
+            }
+
+            index += literal.length();
+            return value;
+        }
+
+        private Object readNumber() {
+            int start = index;
+
+            while (index < content.length() && "+-0123456789.eE".indexOf(content.charAt(index)) != -1) {
+                index++;
+            }
+
+            if (start == index) {
+                throw new PandaFrameworkException("Unexpected token at " + index + " in baseline");
+            }
+
+            return Double.valueOf(content.substring(start, index));
+        }
+
+        private char next() {
+            skipWhitespaces();
+            return content.charAt(index);
+        }
+
+        private void expect(char character) {
+            if (next() != character) {
+                throw new PandaFrameworkException("Expected '" + character + "' at " + index + " in baseline");
+            }
+
+            index++;
+        }
+
+        private void skipWhitespaces() {
+            while (index < content.length() && Character.isWhitespace(content.charAt(index))) {
+                index++;
+            }
+        }
+
+    }
+
+}
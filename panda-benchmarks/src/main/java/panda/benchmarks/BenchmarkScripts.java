@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.benchmarks;
+
+import panda.interpreter.PandaFrameworkException;
+import panda.interpreter.architecture.Application;
+import panda.interpreter.utils.PandaUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Access to the Panda sources used by benchmarks, stored in the resources of module
+ */
+final class BenchmarkScripts {
+
+    private BenchmarkScripts() { }
+
+    /**
+     * Copy script from resources into the temporary working directory
+     *
+     * @param name the name of script without extension
+     * @return the script file
+     */
+    static File extract(String name) {
+        try (InputStream resource = BenchmarkScripts.class.getResourceAsStream("/benchmarks/" + name + ".panda")) {
+            if (resource == null) {
+                throw new PandaFrameworkException("Cannot find benchmark script " + name);
+            }
+
+            Path directory = Files.createTempDirectory("panda-benchmarks");
+            Path script = directory.resolve(name + ".panda");
+            Files.copy(resource, script, StandardCopyOption.REPLACE_EXISTING);
+
+            directory.toFile().deleteOnExit();
+            script.toFile().deleteOnExit();
+
+            return script.toFile();
+        } catch (IOException ioException) {
+            throw new PandaFrameworkException("Cannot extract benchmark script " + name, ioException);
+        }
+    }
+
+    /**
+     * Interpret the given script
+     *
+     * @param script the script file
+     * @return the interpreted application
+     */
+    static Application load(File script) {
+        try {
+            return PandaUtils.load(script.getParentFile(), script).orElseThrow(PandaFrameworkException::new);
+        } catch (Exception exception) {
+            throw new PandaFrameworkException("Cannot interpret " + script, exception);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.PandaVariableData;
+import panda.interpreter.architecture.statement.VariableData;
+import panda.interpreter.lexer.PandaLexerUtils;
+import panda.interpreter.parser.Context;
+import panda.interpreter.parser.expression.ExpressionParser;
+import panda.interpreter.parser.expression.PandaExpressionParser;
+import panda.interpreter.syntax.expressions.PandaExpressions;
+import panda.interpreter.token.Snippet;
+import panda.interpreter.utils.PandaContextUtils;
+import panda.interpreter.utils.PandaUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of expressions in the stub context with a few variables
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ExpressionParserBenchmark {
+
+    @Param({
+            "variable.toString().toString().toString()",
+            "(i + 10) * 2 - i / 3 > 10 && i != 5",
+            "'value: ' + i + ', ' + variable.length()",
+            "new StringBuilder().append(variable).append(i).toString()"
+    })
+    public String expression;
+
+    private ExpressionParser parser;
+    private Context<?> context;
+    private Snippet source;
+
+    @Setup
+    public void setup() {
+        this.parser = new PandaExpressionParser(PandaExpressions.createExpressionSubparsers());
+        this.context = PandaContextUtils.createStubContext(PandaUtils.defaultInstance(), context -> {
+            Map<VariableData, Object> variables = new HashMap<>();
+            variables.put(new PandaVariableData(context.getTypeLoader().requireType("panda/panda@::String").getSignature(), "variable"), null);
+            variables.put(new PandaVariableData(context.getTypeLoader().requireType("panda/panda@::Int").getSignature(), "i", true, false), null);
+            return variables;
+        }).toContext();
+        this.source = PandaLexerUtils.convert(ExpressionParserBenchmark.class.getSimpleName(), expression);
+    }
+
+    @Benchmark
+    public Expression parse() {
+        return parser.parse(context, source);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import panda.interpreter.lexer.Lexer;
+import panda.interpreter.lexer.PandaLexer;
+import panda.interpreter.lexer.PandaLexerConfiguration;
+import panda.interpreter.resource.syntax.PandaSyntax;
+import panda.interpreter.source.PandaSource;
+import panda.interpreter.source.Source;
+import panda.interpreter.token.Snippet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of large generated source into tokens
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LexerBenchmark {
+
+    @Param({ "default", "trie" })
+    public String engine;
+
+    @Param({ "100", "10000" })
+    public int expressions;
+
+    private Lexer lexer;
+    private Source source;
+
+    @Setup
+    public void setup() {
+        PandaLexerConfiguration configuration = PandaLexer.of(new PandaSyntax()).enableSections();
+        this.lexer = engine.equals("trie") ? configuration.compile() : configuration.build();
+
+        StringBuilder content = new StringBuilder("main {\n    log\n");
+
+        for (int index = 0; index < expressions; index++) {
+            content.append("        \"Test\", (false || false) + ', ' + 1_000 * 2.5D, value.toString() != 'x' /* comment */,\n");
+        }
+
+        content.append("        true\n}\n");
+        this.source = new PandaSource(null, LexerBenchmark.class, content.toString());
+    }
+
+    @Benchmark
+    public Snippet lex() {
+        return lexer.convert(source);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * Usage: {@code java -jar benchmarks.jar [regex...] [--result file.json] [--baseline file.json] [--threshold percent] [--quick]}
+ *
+ * Results are always written in the JSON format of JMH, so the file from one run may be used as the baseline of the next one.
+ * If baseline is given, the process exits with status 1 when any benchmark got slower than the threshold (10% by default).
+ */
+public final class PandaBenchmarks {
+
+    private PandaBenchmarks() { }
+
+    public static void main(String[] args) throws RunnerException {
+        List<String> includes = new ArrayList<>();
+        String result = "benchmarks.json";
+        String baseline = null;
+        double threshold = 10;
+        boolean quick = false;
+
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--result":
+                    result = args[++index];
+                    break;
+                case "--baseline":
+                    baseline = args[++index];
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++index]);
+                    break;
+                case "--quick":
+                    quick = true;
+                    break;
+                default:
+                    includes.add(args[index]);
+            }
+        }
+
+        // load baseline before the run, results may be written to the same file
+        BenchmarkBaseline baselineScores = baseline != null ? BenchmarkBaseline.load(Paths.get(baseline)) : null;
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(result);
+
+        if (includes.isEmpty()) {
+            includes.add(PandaBenchmarks.class.getPackage().getName() + ".*");
+        }
+
+        includes.forEach(options::include);
+
+        if (quick) {
+            options.forks(1).warmupIterations(1).measurementIterations(1);
+        }
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        if (baselineScores == null) {
+            return;
+        }
+
+        int regressions = baselineScores.compare(results, threshold / 100);
+
+        if (regressions > 0) {
+            System.out.println();
+            System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+}
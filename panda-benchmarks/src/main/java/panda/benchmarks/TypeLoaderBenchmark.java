@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import panda.interpreter.PandaEnvironment;
+import panda.interpreter.architecture.module.TypeLoader;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.utils.PandaUtils;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of the standard library into a fresh environment, including generation of Java types and their members
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TypeLoaderBenchmark {
+
+    private static final String[] TYPES = {
+            "panda/panda@::Object",
+            "panda/panda@::String",
+            "panda/panda@::Int",
+            "panda/java@::StringBuilder",
+            "panda/java@collections::List",
+            "panda/java@collections::ArrayList",
+            "panda/java@collections::Map",
+            "panda/java@collections::HashMap"
+    };
+
+    private final File workingDirectory = new File("./");
+
+    @Benchmark
+    public void loadStd(Blackhole blackhole) {
+        PandaEnvironment environment = new PandaEnvironment(PandaUtils.defaultInstance(), workingDirectory);
+        environment.initialize();
+
+        TypeLoader typeLoader = environment.getTypeLoader();
+
+        for (String name : TYPES) {
+            typeLoader.forType(name).peek(type -> generateMembers(type, blackhole));
+        }
+    }
+
+    private static void generateMembers(Type type, Blackhole blackhole) {
+        blackhole.consume(type.getConstructors().getProperties());
+        blackhole.consume(type.getFields().getProperties());
+        blackhole.consume(type.getMethods().getProperties());
+    }
+
+}
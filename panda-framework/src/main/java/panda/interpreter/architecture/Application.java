@@ -18,6 +18,7 @@
 
 import panda.interpreter.logging.Logger;
 import panda.interpreter.logging.LoggerHolder;
+import panda.interpreter.runtime.Process;
 import panda.std.Option;
 import panda.std.Result;
 
@@ -31,6 +32,14 @@ public interface Application extends LoggerHolder {
      */
     <T> Result<Option<T>, Throwable> launch(String... arguments);
 
+    /**
+     * Create a new process of application, processes of the same application may be executed concurrently
+     *
+     * @param arguments the arguments of process
+     * @return a new process
+     */
+    Process createProcess(String... arguments);
+
     /**
      * Get application environment
      *
@@ -24,6 +24,7 @@
 import panda.std.Option;
 import panda.std.Result;
 
+import java.util.Collections;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,7 +40,7 @@ public PandaApplication(Environment environment) {
 
     @Override
     public <T> Result<Option<T>, Throwable> launch(String... args) {
-        Process process = new PandaProcess(this, selectMain(), args);
+        Process process = createProcess(args);
 
         try {
             return Result.ok(Option.of(process.execute()));
@@ -49,6 +50,11 @@ public <T> Result<Option<T>, Throwable> launch(String... args) {
         }
     }
 
+    @Override
+    public Process createProcess(String... arguments) {
+        return new PandaProcess(this, selectMain(), arguments);
+    }
+
     private Main selectMain() {
         List<Main> mains = scripts.stream()
                 .map(applicationScript -> applicationScript.select(Main.class))
@@ -70,6 +76,10 @@ public void addScript(Script script) {
         scripts.add(script);
     }
 
+    public List<? extends Script> getScripts() {
+        return Collections.unmodifiableList(scripts);
+    }
+
     @Override
     public Environment getEnvironment() {
         return environment;
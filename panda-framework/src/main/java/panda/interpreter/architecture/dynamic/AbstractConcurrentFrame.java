@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.dynamic;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.statement.FramedScope;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Frame that may be shared between threads, e.g. captured by a body executed by another thread.
+ * Every read and write of its memory has volatile semantics.
+ * The memory is not exposed as a plain array, so the frame is always accessed through the {@link panda.interpreter.runtime.MemoryContainer} methods.
+ *
+ * @param <T> type of associated scope
+ */
+public abstract class AbstractConcurrentFrame<T extends FramedScope> implements Frame {
+
+    protected final T framedScope;
+    protected final AtomicReferenceArray<Object> sharedMemory;
+
+    protected AbstractConcurrentFrame(T framedScope, int memorySize) {
+        this.framedScope = framedScope;
+        this.sharedMemory = new AtomicReferenceArray<>(memorySize);
+    }
+
+    protected AbstractConcurrentFrame(T framedScope) {
+        this(framedScope, framedScope.getRequiredMemorySize());
+    }
+
+    @Override
+    public <R> R set(int pointer, @Nullable R value) {
+        sharedMemory.set(pointer, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable <R> R get(int pointer) {
+        return (R) sharedMemory.get(pointer);
+    }
+
+    @Override
+    public int getMemorySize() {
+        return sharedMemory.length();
+    }
+
+    @Override
+    public T getFramedScope() {
+        return framedScope;
+    }
+
+}
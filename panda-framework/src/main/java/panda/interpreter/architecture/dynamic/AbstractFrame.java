@@ -18,8 +18,14 @@
 
 import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.statement.FramedScope;
-import panda.interpreter.runtime.PandaRuntimeException;
 
+/**
+ * Default frame, confined to the thread that performs it.
+ * Tasks running on other threads use their own copy of memory (see {@link panda.interpreter.architecture.dynamic.FrameSnapshot}).
+ * Frames shared by several threads at once should extend {@link panda.interpreter.architecture.dynamic.AbstractConcurrentFrame}.
+ *
+ * @param <T> type of associated scope
+ */
 public abstract class AbstractFrame<T extends FramedScope> implements Frame {
 
     protected final T framedScope;
@@ -34,23 +40,15 @@ protected AbstractFrame(T framedScope) {
         this(framedScope, framedScope.getRequiredMemorySize());
     }
 
-    protected void checkIndex(int index) {
-        if (index < 0 || index >= localMemory.length) {
-            throw new PandaRuntimeException("Invalid variable index: " + index + "; Local memory size: " + getMemorySize());
-        }
-    }
-
     @Override
-    public synchronized <R> R set(int pointer, @Nullable R value) {
-        checkIndex(pointer);
+    public <R> R set(int pointer, @Nullable R value) {
         localMemory[pointer] = value;
         return value;
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    public synchronized @Nullable <R> R get(int pointer) {
-        checkIndex(pointer);
+    public @Nullable <R> R get(int pointer) {
         return (R) localMemory[pointer];
     }
 
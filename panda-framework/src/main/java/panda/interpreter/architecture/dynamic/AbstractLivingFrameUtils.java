@@ -16,6 +16,8 @@
 
 package panda.interpreter.architecture.dynamic;
 
+import org.jetbrains.annotations.Nullable;
+
 public final class AbstractLivingFrameUtils {
 
     private AbstractLivingFrameUtils() { }
@@ -24,4 +26,35 @@ public static Object[] extractMemory(AbstractFrame<?> livingFrame) {
         return livingFrame.localMemory;
     }
 
+    /**
+     * Read value directly from the local memory of frame, if frame does not expose its memory, it uses {@link panda.interpreter.architecture.dynamic.Frame#get(int)}
+     *
+     * @param frame the frame to read from
+     * @param pointer the pointer of variable
+     * @return the value
+     */
+    public static @Nullable Object get(Frame frame, int pointer) {
+        if (frame instanceof AbstractFrame) {
+            return ((AbstractFrame<?>) frame).localMemory[pointer];
+        }
+
+        return frame.get(pointer);
+    }
+
+    /**
+     * Write value directly to the local memory of frame, if frame does not expose its memory, it uses {@link panda.interpreter.architecture.dynamic.Frame#set(int, Object)}
+     *
+     * @param frame the frame to write to
+     * @param pointer the pointer of variable
+     * @param value the value to set
+     * @return the value
+     */
+    public static @Nullable Object set(Frame frame, int pointer, @Nullable Object value) {
+        if (frame instanceof AbstractFrame) {
+            return ((AbstractFrame<?>) frame).localMemory[pointer] = value;
+        }
+
+        return frame.set(pointer, value);
+    }
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.dynamic;
+
+import panda.interpreter.architecture.statement.FramedScope;
+
+/**
+ * Copy of the local memory of frame, used by tasks that run concurrently with the frame they were spawned from
+ */
+public final class FrameSnapshot extends AbstractFrame<FramedScope> {
+
+    public FrameSnapshot(Frame frame) {
+        super(frame.getFramedScope(), frame.getMemorySize());
+
+        if (frame instanceof AbstractFrame) {
+            System.arraycopy(((AbstractFrame<?>) frame).localMemory, 0, localMemory, 0, localMemory.length);
+            return;
+        }
+
+        for (int pointer = 0; pointer < localMemory.length; pointer++) {
+            localMemory[pointer] = frame.get(pointer);
+        }
+    }
+
+}
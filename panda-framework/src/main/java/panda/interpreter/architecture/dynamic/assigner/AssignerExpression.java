@@ -16,18 +16,29 @@
 
 package panda.interpreter.architecture.dynamic.assigner;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.expression.DynamicExpression;
 import panda.interpreter.architecture.expression.PandaExpression;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 
 public final class AssignerExpression extends PandaExpression {
 
+    private final Assigner<?> assigner;
+
     public AssignerExpression(Assigner<?> assigner) {
         super(new AssignerDynamicExpression(assigner));
+        this.assigner = assigner;
+    }
+
+    public Assigner<?> getAssigner() {
+        return assigner;
     }
 
-    private static final class AssignerDynamicExpression implements DynamicExpression {
+    private static final class AssignerDynamicExpression implements DynamicExpression, CompilableExpression {
 
         private final Assigner<?> assigner;
 
@@ -41,6 +52,13 @@ public Object evaluate(ProcessStack stack, Object instance) throws Exception {
             return assigner.execute(stack, instance);
         }
 
+        @Override
+        public @Nullable CompiledExpression compile(Compilation compilation) {
+            return assigner instanceof CompilableExpression
+                    ? ((CompilableExpression) assigner).compile(compilation)
+                    : null;
+        }
+
         @Override
         public Signature getReturnType() {
             return assigner.getAccessor().getSignature();
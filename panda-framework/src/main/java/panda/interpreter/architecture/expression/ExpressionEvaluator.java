@@ -31,4 +31,37 @@ public interface ExpressionEvaluator {
      */
     <T> T evaluate(ProcessStack stack, Object instance) throws Exception;
 
+    /**
+     * Evaluate expression that returns number as int.
+     * Evaluators of primitive operations should override it to avoid boxing.
+     *
+     * @param stack the frame to use
+     * @return the value
+     */
+    default int evaluateInt(ProcessStack stack, Object instance) throws Exception {
+        return this.<Number> evaluate(stack, instance).intValue();
+    }
+
+    /**
+     * Evaluate expression that returns number as long
+     *
+     * @param stack the frame to use
+     * @return the value
+     * @see #evaluateInt(panda.interpreter.runtime.ProcessStack, Object)
+     */
+    default long evaluateLong(ProcessStack stack, Object instance) throws Exception {
+        return this.<Number> evaluate(stack, instance).longValue();
+    }
+
+    /**
+     * Evaluate expression that returns number as double
+     *
+     * @param stack the frame to use
+     * @return the value
+     * @see #evaluateInt(panda.interpreter.runtime.ProcessStack, Object)
+     */
+    default double evaluateDouble(ProcessStack stack, Object instance) throws Exception {
+        return this.<Number> evaluate(stack, instance).doubleValue();
+    }
+
 }
@@ -16,13 +16,17 @@
 
 package panda.interpreter.architecture.expression;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.std.Lazy;
 
 import java.security.InvalidParameterException;
 
-public class PandaExpression implements Expression {
+public class PandaExpression implements Expression, CompilableExpression {
 
     private final ExpressionValueType type;
     private final Lazy<Signature> returnType;
@@ -54,6 +58,36 @@ public Object evaluate(ProcessStack stack, Object instance) throws Exception {
         return type == ExpressionValueType.CONST ? value : evaluator.evaluate(stack, instance);
     }
 
+    @Override
+    public int evaluateInt(ProcessStack stack, Object instance) throws Exception {
+        return type == ExpressionValueType.CONST ? ((Number) value).intValue() : evaluator.evaluateInt(stack, instance);
+    }
+
+    @Override
+    public long evaluateLong(ProcessStack stack, Object instance) throws Exception {
+        return type == ExpressionValueType.CONST ? ((Number) value).longValue() : evaluator.evaluateLong(stack, instance);
+    }
+
+    @Override
+    public double evaluateDouble(ProcessStack stack, Object instance) throws Exception {
+        return type == ExpressionValueType.CONST ? ((Number) value).doubleValue() : evaluator.evaluateDouble(stack, instance);
+    }
+
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        if (type == ExpressionValueType.CONST) {
+            return compilation.literal(value);
+        }
+
+        return evaluator instanceof CompilableExpression
+                ? ((CompilableExpression) evaluator).compile(compilation)
+                : null;
+    }
+
+    public @Nullable ExpressionEvaluator getEvaluator() {
+        return evaluator;
+    }
+
     @Override
     public Signature getSignature() {
         return returnType.get();
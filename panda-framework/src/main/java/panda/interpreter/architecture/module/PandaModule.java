@@ -23,14 +23,14 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PandaModule implements Module {
 
     protected final String name;
     protected final Package pkg;
-    protected final Map<String, Reference> types = new HashMap<>(32);
+    protected final Map<String, Reference> types = new ConcurrentHashMap<>(32);
 
     public PandaModule(Package pkg, String name) {
         this.pkg = pkg;
@@ -24,15 +24,22 @@
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public final class PandaTypeLoader implements TypeLoader {
 
+    /**
+     * Types may be shared by several loaders (e.g. std types used by many environments),
+     * so all loaders initialize types under the same lock.
+     */
+    private static final Object LOCK = new Object();
+
     private final Packages packages;
     private final Collection<TypeLoader> parents;
-    private final Map<String, Type> loadedTypes = new HashMap<>(1024);
-    private final Map<Class<?>, Type> associatedClasses = new HashMap<>(1024);
+    private final Map<String, Type> loadedTypes = new ConcurrentHashMap<>(1024);
+    private final Map<Class<?>, Type> associatedClasses = new ConcurrentHashMap<>(1024);
 
     public PandaTypeLoader(Packages packages, TypeLoader... parents) {
         this.packages = packages;
@@ -45,7 +52,9 @@ public Type load(Type type) {
         type.getAssociated().then(javaClass -> associatedClasses.put(javaClass, type));
 
         if (!type.isInitialized()) {
-            type.initialize(this);
+            synchronized (LOCK) {
+                type.initialize(this);
+            }
         }
 
         return type;
@@ -53,15 +62,35 @@ public Type load(Type type) {
 
     @Override
     public Option<Type> forType(String type) {
-        return Option.of(loadedTypes.get(type))
-                .orElse(() -> forParentType(type))
-                .orElse(() -> forPathType(type))
-                .peek(this::load);
+        Type loadedType = loadedTypes.get(type);
+
+        if (loadedType != null) {
+            return Option.of(loadedType);
+        }
+
+        // types of parents are already loaded by parents, so they are not registered again
+        return forParentType(type).orElse(() -> forPathType(type).map(this::load));
     }
 
     @Override
     public Option<Type> forJavaType(Class<?> javaClass) {
-        return Option.of(associatedClasses.get(javaClass));
+        return Option.of(associatedClasses.get(javaClass))
+                .orElse(() -> PandaStream.of(parents)
+                        .mapOpt(typeLoader -> typeLoader.forJavaType(javaClass))
+                        .any());
+    }
+
+    /**
+     * Call the given action under the lock used to load types
+     *
+     * @param action the action to call
+     * @param <T> type of result
+     * @return the result of action
+     */
+    public static <T> T synchronize(Supplier<T> action) {
+        synchronized (LOCK) {
+            return action.get();
+        }
     }
 
     private Option<Type> forParentType(String type) {
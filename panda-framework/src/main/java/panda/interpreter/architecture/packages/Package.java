@@ -25,8 +25,8 @@
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Package {
 
@@ -36,8 +36,8 @@ public class Package {
     private final String author;
     private final String version;
     private final File directory;
-    private final Map<String, ModuleSource> unloadedModules = new HashMap<>();
-    private final Map<String, Module> loadedModules = new HashMap<>();
+    private final Map<String, ModuleSource> unloadedModules = new ConcurrentHashMap<>();
+    private final Map<String, Module> loadedModules = new ConcurrentHashMap<>();
 
     public Package(String name, String author, String version, File directory) {
         this.name = name;
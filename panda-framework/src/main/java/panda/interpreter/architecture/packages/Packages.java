@@ -21,13 +21,13 @@
 import panda.utilities.StringUtils;
 import panda.std.Option;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Packages {
 
     private final SourceService sourceService;
-    private final Map<String, Package> packages = new HashMap<>();
+    private final Map<String, Package> packages = new ConcurrentHashMap<>();
 
     public Packages(SourceService sourceService) {
         this.sourceService = sourceService;
@@ -39,6 +39,15 @@ public Package registerPackage(Package pkg) {
         return pkg;
     }
 
+    /**
+     * Register all packages of the given registry, packages are shared, so modules registered in them are visible in both registries
+     *
+     * @param packages the registry to copy from
+     */
+    public void registerPackages(Packages packages) {
+        this.packages.putAll(packages.packages);
+    }
+
     public Option<Module> forModule(String qualifier) {
         String[] elements = StringUtils.split(qualifier, "@");
 
@@ -49,6 +49,19 @@ public Statement addStatement(Statement executable) {
         return Lists.add(statements, executable);
     }
 
+    @Override
+    public boolean replaceStatement(Statement statement, List<? extends Statement> replacements) {
+        for (int index = 0; index < statements.size(); index++) {
+            if (statements.get(index) == statement) {
+                statements.remove(index);
+                statements.addAll(index, replacements);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public boolean hasEffective(Class<? extends Statement> statementClass) {
         List<? extends Executable> executables = getExecutables();
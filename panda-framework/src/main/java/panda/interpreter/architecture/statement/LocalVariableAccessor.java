@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.statement;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.AbstractLivingFrameUtils;
+import panda.interpreter.architecture.dynamic.accessor.AbstractAccessor;
+import panda.interpreter.architecture.dynamic.assigner.Assigner;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.source.Localizable;
+
+/**
+ * Accessor of variable that belongs to the current {@link panda.interpreter.architecture.statement.FramedScope}.
+ * Values are read directly from the slot in the local memory of the current frame.
+ */
+public final class LocalVariableAccessor extends AbstractAccessor<Variable> {
+
+    public LocalVariableAccessor(Variable variable) {
+        super((stack, instance) -> stack.getCurrentFrame(), variable, variable.getPointer());
+    }
+
+    @Override
+    public @Nullable Object getValue(ProcessStack stack, Object instance) {
+        return AbstractLivingFrameUtils.get(stack.getCurrentFrame(), getMemoryPointer());
+    }
+
+    @Override
+    public Assigner<Variable> toAssigner(Localizable localizable, boolean initialize, Expression value) {
+        return new LocalVariableAssigner(localizable.toLocation(), this, initialize, value);
+    }
+
+    /**
+     * Check if variable belongs to the framed scope of the given scope
+     *
+     * @param scope the scope where variable is used
+     * @param variable the variable to check
+     * @return true if variable is stored in the same frame as the given scope
+     */
+    public static boolean isLocal(Scope scope, Variable variable) {
+        FramedScope framedScope = scope.getFramedScope();
+
+        for (Scope current = scope; current != null && current.getFramedScope() == framedScope; current = current.getParentScope().getOrNull()) {
+            if (current.getVariables().contains(variable)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
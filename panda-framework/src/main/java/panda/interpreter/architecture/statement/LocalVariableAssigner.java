@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.statement;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.AbstractLivingFrameUtils;
+import panda.interpreter.architecture.dynamic.assigner.AbstractAssigner;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+import panda.interpreter.source.Location;
+
+/**
+ * Assigner of variable that belongs to the current {@link panda.interpreter.architecture.statement.FramedScope}
+ *
+ * @see panda.interpreter.architecture.statement.LocalVariableAccessor
+ */
+public final class LocalVariableAssigner extends AbstractAssigner<Variable> implements CompilableExpression, OptimizableExpression {
+
+    private final Variable variable;
+    private final int pointer;
+    private final boolean initialize;
+    private final boolean illegalChange;
+    private final Expression expression;
+
+    public LocalVariableAssigner(Location location, LocalVariableAccessor accessor, boolean initialize, Expression expression) {
+        super(location, accessor);
+        this.variable = accessor.getVariable();
+        this.pointer = accessor.getMemoryPointer();
+        this.initialize = initialize;
+        this.illegalChange = VariableAssigner.isIllegalChange(variable, initialize);
+        this.expression = expression;
+    }
+
+    @Override
+    public @Nullable Object execute(ProcessStack stack, Object instance) throws Exception {
+        if (illegalChange) {
+            throw VariableAssigner.illegalChange(variable);
+        }
+
+        Object value = VariableAssigner.requireValue(variable, expression.evaluate(stack, instance));
+        return AbstractLivingFrameUtils.set(stack.getCurrentFrame(), pointer, value);
+    }
+
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        if (illegalChange) {
+            return null;
+        }
+
+        return CompiledExpression.of("(" + compilation.local(pointer) + " = " + VariableAssigner.compileValue(compilation, variable, expression) + ")", Object.class);
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        Expression optimized = optimizer.optimize(expression);
+
+        return optimized != expression
+                ? new LocalVariableAssigner(location, (LocalVariableAccessor) accessor, initialize, optimized).toExpression()
+                : null;
+    }
+
+    @Override
+    public Variable getModifiedVariable() {
+        return variable;
+    }
+
+    @Override
+    public String toString() {
+        return "'v_memory'[" + pointer + "] << " + expression;
+    }
+
+}
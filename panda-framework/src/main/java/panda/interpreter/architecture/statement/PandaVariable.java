@@ -22,7 +22,7 @@
 public class PandaVariable extends PandaVariableData implements Variable {
 
     protected final int pointer;
-    protected boolean initialized;
+    protected volatile boolean initialized;
 
     public PandaVariable(int pointer, Completable<Signature> signature, String name, boolean mutable, boolean nillable) {
         super(signature, name, mutable, nillable);
@@ -33,6 +33,15 @@ public interface Scope extends Statement {
      */
     <S extends Statement> S addStatement(S statement);
 
+    /**
+     * Replace statement of the current scope with the given list of statements
+     *
+     * @param statement the statement to replace
+     * @param replacements the statements to insert in place of the replaced statement, may be empty
+     * @return true if statement was found and replaced, otherwise false
+     */
+    boolean replaceStatement(Statement statement, List<? extends Statement> replacements);
+
     /**
      * Check if scope has effective (statement that is always reachable) statement of the given type
      *
@@ -30,7 +30,13 @@ public final class StaticScope extends AbstractFramedScope implements Standardiz
     public StaticScope(Localizable localizable, Map<VariableData, Object> variables) {
         super(localizable);
         this.variables = variables;
-        variables.forEach((data, value) -> createVariable(data));
+        variables.forEach((data, value) -> {
+            Variable variable = createVariable(data);
+
+            if (value != null) {
+                variable.initialize();
+            }
+        });
     }
 
     @Override
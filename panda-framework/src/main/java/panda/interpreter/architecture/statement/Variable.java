@@ -29,7 +29,9 @@ public interface Variable extends VariableData {
     Variable initialize();
 
     /**
-     * Check if the variable is initialized
+     * Check if the variable is initialized.
+     * Local variables are initialized only by assignments in the scope where they were declared,
+     * so initialized variable is always assigned when it is accessed by the following statements.
      *
      * @return true if initialized
      */
@@ -16,14 +16,21 @@
 
 package panda.interpreter.architecture.statement;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.dynamic.accessor.Accessor;
 import panda.interpreter.architecture.dynamic.assigner.AbstractAssigner;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.PandaRuntimeException;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompilationUtils;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 
-public final class VariableAssigner extends AbstractAssigner<Variable> {
+public final class VariableAssigner extends AbstractAssigner<Variable> implements CompilableExpression, OptimizableExpression {
 
     private final boolean initialize;
     private final Expression expression;
@@ -38,17 +45,89 @@ public VariableAssigner(Location location, Accessor<Variable> accessor, boolean
     public Object execute(ProcessStack stack, Object instance) throws Exception {
         Variable variable = accessor.getVariable();
 
-        if (!initialize && !variable.isMutable()) {
-            throw new PandaRuntimeException("Cannot change value of immutable variable '" + variable.getName() + "'");
+        if (isIllegalChange(variable, initialize)) {
+            throw illegalChange(variable);
         }
 
-        Object value = expression.evaluate(stack, instance);
+        Object value = requireValue(variable, expression.evaluate(stack, instance));
+        return accessor.fetchMemoryContainer(stack, instance).set(accessor.getMemoryPointer(), value);
+    }
+
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        Variable variable = accessor.getVariable();
+
+        if (!(accessor instanceof VariableAccessor) || isIllegalChange(variable, initialize)) {
+            return null;
+        }
+
+        return CompiledExpression.of("(" + compilation.local(accessor.getMemoryPointer()) + " = " + compileValue(compilation, variable, expression) + ")", Object.class);
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        Expression optimized = optimizer.optimize(expression);
+
+        return optimized != expression
+                ? new VariableAssigner(location, accessor, initialize, optimized).toExpression()
+                : null;
+    }
+
+    @Override
+    public Variable getModifiedVariable() {
+        return accessor.getVariable();
+    }
+
+    /**
+     * Check if the assignment changes value of immutable variable
+     *
+     * @param variable the assigned variable
+     * @param initialize true if the assignment initializes variable
+     * @return true if the assignment is not allowed
+     */
+    static boolean isIllegalChange(Variable variable, boolean initialize) {
+        return !initialize && !variable.isMutable();
+    }
 
+    /**
+     * Create exception thrown by the illegal change of immutable variable
+     *
+     * @param variable the assigned variable
+     * @return the exception to throw
+     */
+    static PandaRuntimeException illegalChange(Variable variable) {
+        return new PandaRuntimeException("Cannot change value of immutable variable '" + variable.getName() + "'");
+    }
+
+    /**
+     * Verify the assigned value against the nillability of variable
+     *
+     * @param variable the assigned variable
+     * @param value the value to assign
+     * @return the verified value
+     */
+    static @Nullable Object requireValue(Variable variable, @Nullable Object value) {
         if (value == null && !variable.isNillable()) {
             throw new PandaRuntimeException("Cannot assign null to variable '" + variable.getName() + "' without nil modifier");
         }
 
-        return accessor.fetchMemoryContainer(stack, instance).set(accessor.getMemoryPointer(), value);
+        return value;
+    }
+
+    /**
+     * Compile the assigned value, values of variables without nil modifier are verified by {@link panda.interpreter.runtime.compiler.CompilationUtils#requireValue(Object, String)}
+     *
+     * @param compilation the current compilation
+     * @param variable the assigned variable
+     * @param expression the assigned expression
+     * @return source of the verified value
+     */
+    static String compileValue(Compilation compilation, Variable variable, Expression expression) {
+        String value = compilation.toObject(compilation.expression(expression));
+
+        return variable.isNillable()
+                ? value
+                : CompilationUtils.class.getName() + ".requireValue(" + value + ", \"" + variable.getName() + "\")";
     }
 
     @Override
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.module.Module;
+import panda.interpreter.source.Location;
+import panda.std.reactive.Completable;
+
+import java.util.function.Supplier;
+
+/**
+ * Reference known only by its name, the referenced type is materialized when it's requested for the first time.
+ * The materializer may be called concurrently, so it has to be thread-safe and return the same reference for every call.
+ */
+public final class LazyReference extends Reference {
+
+    private final Supplier<Reference> materializer;
+    private volatile @Nullable Reference materialized;
+
+    public LazyReference(Module module, String name, Visibility visibility, Supplier<Reference> materializer) {
+        super(new Completable<>(), module, name, visibility, null, null);
+        this.materializer = materializer;
+    }
+
+    private Reference materialize() {
+        Reference reference = materialized;
+
+        if (reference == null) {
+            // materializer usually locks the type loader, so locking the reference as well could lead to deadlock
+            reference = materializer.get();
+            this.materialized = reference;
+        }
+
+        return reference;
+    }
+
+    /**
+     * Check if the referenced type has been already materialized
+     *
+     * @return true if type has been materialized
+     */
+    public boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    @Override
+    public boolean isLoaded() {
+        Reference reference = materialized;
+        return reference != null && reference.isLoaded();
+    }
+
+    @Override
+    public Completable<Type> getType() {
+        return materialize().getType();
+    }
+
+    @Override
+    public String getKind() {
+        return materialize().getKind();
+    }
+
+    @Override
+    public Location getLocation() {
+        return materialize().getLocation();
+    }
+
+}
@@ -42,6 +42,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -61,7 +62,8 @@ public class PandaType extends AbstractMetadata implements Type {
     protected final Constructors constructors = new PandaConstructors(this);
     protected final Methods methods = new PandaMethods(this);
     protected final List<Initializer<Type>> initializers = new ArrayList<>(2);
-    protected TypeLoader typeLoader;
+    protected volatile TypeLoader typeLoader;
+    private volatile AutocastCache autocastCache = new AutocastCache(-1, new IdentityHashMap<>());
 
     public PandaType(PandaTypeMetadata<?, ?> metadata) {
         super(metadata.name, metadata.location, metadata.visibility, metadata.isNative);
@@ -113,6 +115,7 @@ public void addAutocast(Reference to, Autocast<?, ?> autocast) {
         }
 
         autocasts.put(to, autocast);
+        TypeModifications.modified();
     }
 
     @Override
@@ -123,6 +126,7 @@ public void addBase(TypedSignature baseSignature) {
 
         bases.add(baseSignature);
         autocasts.put(baseSignature.getReference(), (originalType, object, resultType) -> object);
+        TypeModifications.modified();
     }
 
     @Override
@@ -150,6 +154,11 @@ public boolean isAssignableFrom(Type from) {
         return this.equals(from) || from.getAutocast(this.getReference()).isDefined();
     }
 
+    @Override
+    public int getVersion() {
+        return TypeModifications.current();
+    }
+
     @Override
     public boolean isInitialized() {
         return typeLoader != null;
@@ -175,6 +184,31 @@ else if (TypeField.class.isAssignableFrom(propertyType)) {
 
     @Override
     public Option<Autocast<?, ?>> getAutocast(Reference to) {
+        int version = getVersion();
+        AutocastCache cache = autocastCache;
+
+        if (cache.version == version) {
+            Option<Autocast<?, ?>> cached = cache.autocasts.get(to);
+
+            if (cached != null) {
+                return cached;
+            }
+        }
+        else {
+            cache = new AutocastCache(version, new IdentityHashMap<>());
+        }
+
+        Option<Autocast<?, ?>> autocast = findAutocast(to);
+
+        // copy on write, so lookups never observe the map during modification
+        Map<Reference, Option<Autocast<?, ?>>> cachedAutocasts = new IdentityHashMap<>(cache.autocasts);
+        cachedAutocasts.put(to, autocast);
+        this.autocastCache = new AutocastCache(version, cachedAutocasts);
+
+        return autocast;
+    }
+
+    private Option<Autocast<?, ?>> findAutocast(Reference to) {
         Autocast<?, ?> autocast = autocasts.get(to);
 
         if (autocast != null) {
@@ -281,4 +315,16 @@ public String toString() {
         return new PandaTypeMetadata<>();
     }
 
+    private static final class AutocastCache {
+
+        private final int version;
+        private final Map<Reference, Option<Autocast<?, ?>>> autocasts;
+
+        private AutocastCache(int version, Map<Reference, Option<Autocast<?, ?>>> autocasts) {
+            this.version = version;
+            this.autocasts = autocasts;
+        }
+
+    }
+
 }
@@ -48,7 +48,8 @@ public boolean equals(Object to) {
             return true;
         }
 
-        if (to == null || getClass() != to.getClass()) {
+        // lazy references are equal to the materialized ones
+        if (!(to instanceof Reference)) {
             return false;
         }
 
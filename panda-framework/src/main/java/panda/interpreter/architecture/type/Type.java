@@ -82,6 +82,15 @@ default boolean is(String name) {
      */
     boolean isAssignableFrom(Type type);
 
+    /**
+     * Get version of the type structure.
+     * The version changes whenever a base, an autocast or a member is added to the type or to any of its bases.
+     * It may also change when other types are modified (see {@link panda.interpreter.architecture.type.TypeModifications}).
+     *
+     * @return the current version
+     */
+    int getVersion();
+
     /**
      * Check if the type has been initialized
      *
@@ -17,11 +17,15 @@
 package panda.interpreter.architecture.type;
 
 import panda.interpreter.runtime.Process;
-import panda.interpreter.architecture.dynamic.AbstractFrame;
+import panda.interpreter.architecture.dynamic.AbstractConcurrentFrame;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
-public final class TypeFrame extends AbstractFrame<TypeScope> {
+/**
+ * Memory of type instance. Instance is not confined to the thread that created it (e.g. it is shared with spawned tasks),
+ * so fields are stored in the concurrent frame.
+ */
+public final class TypeFrame extends AbstractConcurrentFrame<TypeScope> {
 
     public static final AtomicInteger ID = new AtomicInteger();
 
@@ -32,7 +36,11 @@ public final class TypeFrame extends AbstractFrame<TypeScope> {
     protected Object[] baseArguments;
 
     public TypeFrame(Process process, TypeScope scope) {
-        super(scope, scope.getReference().fetchType().getFields().getProperties().size());
+        this(process, scope, scope.getReference().fetchType().getFields().getProperties().size());
+    }
+
+    public TypeFrame(Process process, TypeScope scope, int fieldsCount) {
+        super(scope, fieldsCount);
 
         this.id = ID.getAndIncrement();
         this.process = process;
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Global epoch of modifications of types.
+ * Every addition of a base, an autocast or a member increments the epoch, so caches of types are validated using a single volatile read
+ * instead of walking through the hierarchy of bases on every lookup.
+ */
+public final class TypeModifications {
+
+    private static final AtomicInteger EPOCH = new AtomicInteger();
+
+    private TypeModifications() { }
+
+    /**
+     * Mark structure of any type as modified
+     */
+    public static void modified() {
+        EPOCH.incrementAndGet();
+    }
+
+    /**
+     * Get the current epoch
+     *
+     * @return the current epoch
+     */
+    public static int current() {
+        return EPOCH.get();
+    }
+
+}
@@ -23,6 +23,7 @@
 public final class TypeScope extends AbstractFramedScope {
 
     private final Reference reference;
+    private volatile FieldsCount fieldsCount = new FieldsCount(-1, -1);
 
     public TypeScope(Location location, Reference reference) {
         super(location);
@@ -30,7 +31,27 @@ public TypeScope(Location location, Reference reference) {
     }
 
     public TypeFrame revive(ProcessStack stack) {
-        return new TypeFrame(stack.getProcess(), this);
+        return new TypeFrame(stack.getProcess(), this, getFieldsCount());
+    }
+
+    /**
+     * Get amount of fields (including inherited ones) stored by frames of this type.
+     * The value is cached for the current version of type, so fields declared later are counted by the next frames.
+     *
+     * @return the amount of fields
+     */
+    public int getFieldsCount() {
+        Type type = reference.fetchType();
+        int version = type.getVersion();
+        FieldsCount cached = fieldsCount;
+
+        if (cached.version == version) {
+            return cached.count;
+        }
+
+        int count = type.getFields().getProperties().size();
+        this.fieldsCount = new FieldsCount(version, count);
+        return count;
     }
 
     public Location getLocation() {
@@ -41,4 +62,16 @@ public Reference getReference() {
         return reference;
     }
 
+    private static final class FieldsCount {
+
+        private final int version;
+        private final int count;
+
+        private FieldsCount(int version, int count) {
+            this.version = version;
+            this.count = count;
+        }
+
+    }
+
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Element access specialized for the component type of Java array.
+ * Primitive arrays are accessed directly, stored values are converted to the component type.
+ */
+public enum ArrayComponent {
+
+    OBJECT(Object[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((Object[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((Object[]) array)[index] = value;
+            return array;
+        }
+
+        @Override
+        public List<?> toList(Object array) {
+            return Arrays.asList((Object[]) array);
+        }
+    },
+
+    BOOLEAN(boolean[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((boolean[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((boolean[]) array)[index] = (Boolean) value;
+            return array;
+        }
+    },
+
+    CHAR(char[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((char[]) array)[index] = (Character) value;
+            return array;
+        }
+    },
+
+    BYTE(byte[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((byte[]) array)[index] = ((Number) value).byteValue();
+            return array;
+        }
+
+        @Override
+        public int getInt(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+    },
+
+    SHORT(short[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((short[]) array)[index] = ((Number) value).shortValue();
+            return array;
+        }
+
+        @Override
+        public int getInt(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+    },
+
+    INT(int[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((int[]) array)[index] = ((Number) value).intValue();
+            return array;
+        }
+
+        @Override
+        public int getInt(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+    },
+
+    LONG(long[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((long[]) array)[index] = ((Number) value).longValue();
+            return array;
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+    },
+
+    FLOAT(float[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((float[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((float[]) array)[index] = ((Number) value).floatValue();
+            return array;
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((float[]) array)[index];
+        }
+    },
+
+    DOUBLE(double[].class) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((double[]) array)[index];
+        }
+
+        @Override
+        public Object set(Object array, int index, Object value) {
+            ((double[]) array)[index] = ((Number) value).doubleValue();
+            return array;
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((double[]) array)[index];
+        }
+    };
+
+    private final Class<?> arrayClass;
+
+    ArrayComponent(Class<?> arrayClass) {
+        this.arrayClass = arrayClass;
+    }
+
+    /**
+     * Get element of array
+     *
+     * @param array the array
+     * @param index the index of element
+     * @return the element, boxed if array is primitive
+     */
+    public abstract Object get(Object array, int index);
+
+    /**
+     * Set element of array, the value is converted to the component type
+     *
+     * @param array the array
+     * @param index the index of element
+     * @param value the value to set
+     * @return the array
+     */
+    public abstract Object set(Object array, int index, Object value);
+
+    /**
+     * Get element of numeric array as int
+     *
+     * @see #get(Object, int)
+     */
+    public int getInt(Object array, int index) {
+        return ((Number) get(array, index)).intValue();
+    }
+
+    /**
+     * Get element of numeric array as long
+     *
+     * @see #get(Object, int)
+     */
+    public long getLong(Object array, int index) {
+        return ((Number) get(array, index)).longValue();
+    }
+
+    /**
+     * Get element of numeric array as double
+     *
+     * @see #get(Object, int)
+     */
+    public double getDouble(Object array, int index) {
+        return ((Number) get(array, index)).doubleValue();
+    }
+
+    /**
+     * Get view of array as list
+     *
+     * @param array the array
+     * @return the list backed by the given array
+     */
+    public List<?> toList(Object array) {
+        return new AbstractList<Object>() {
+            @Override
+            public Object get(int index) {
+                return ArrayComponent.this.get(array, index);
+            }
+
+            @Override
+            public Object set(int index, Object element) {
+                Object previous = get(index);
+                ArrayComponent.this.set(array, index, element);
+                return previous;
+            }
+
+            @Override
+            public int size() {
+                return Array.getLength(array);
+            }
+        };
+    }
+
+    /**
+     * Get Java array class handled by this component
+     *
+     * @return the array class, {@link java.lang.Object}[] for arrays of references
+     */
+    public Class<?> getArrayClass() {
+        return arrayClass;
+    }
+
+    /**
+     * Select component access for the given array type
+     *
+     * @param arrayType the Java array type
+     * @return the component access
+     */
+    public static ArrayComponent of(Class<?> arrayType) {
+        if (!arrayType.isArray()) {
+            throw new IllegalArgumentException(arrayType + " is not an array");
+        }
+
+        for (ArrayComponent component : values()) {
+            if (component.arrayClass == arrayType) {
+                return component;
+            }
+        }
+
+        return OBJECT;
+    }
+
+}
@@ -24,7 +24,9 @@
 import javassist.CtMethod;
 import javassist.Modifier;
 import javassist.NotFoundException;
+import panda.interpreter.PandaFrameworkConstants;
 import panda.interpreter.architecture.dynamic.Frame;
+import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.type.Kind;
 import panda.interpreter.architecture.type.State;
 import panda.interpreter.architecture.type.Type;
@@ -34,23 +36,43 @@
 import panda.interpreter.architecture.type.member.method.TypeMethod;
 import panda.interpreter.architecture.type.member.parameter.ParameterUtils;
 import panda.interpreter.architecture.type.signature.TypedSignature;
-import panda.interpreter.runtime.PandaProcessStack;
 import panda.interpreter.runtime.PandaRuntimeException;
 import panda.utilities.ArrayUtils;
+import panda.utilities.IOUtils;
 import panda.utilities.javassist.ClassPoolUtils;
 import panda.utilities.StringUtils;
 import panda.utilities.javassist.CtCode;
 import panda.utilities.text.Joiner;
+import panda.std.Option;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public final class ClassGenerator {
 
     private static final AtomicInteger ID = new AtomicInteger(0);
+    private static final AtomicInteger CACHED_CLASSES = new AtomicInteger(0);
+    /**
+     * Names of classes allocated in this JVM, only the first allocation of a name may use the cache
+     */
+    private static final Set<String> ALLOCATED_NAMES = ConcurrentHashMap.newKeySet();
+    /**
+     * Version of the generated structure, it contains hash of the generator itself,
+     * so classes cached by a different build of the framework are never reused
+     */
+    private static final String FORMAT_VERSION = PandaFrameworkConstants.VERSION + "#" + hashGenerator();
 
     private static final ClassPool CLASS_POOL = ClassPool.getDefault();
     private static final CtClass CT_TYPE_INSTANCE_CLASS = ClassPoolUtils.require(TypeInstance.class);
@@ -60,6 +82,18 @@ public final class ClassGenerator {
     private static final CtClass[] CONSTRUCTOR_PARAMETERS = { CT_TYPE_FRAME_CLASS };
 
     private final Map<Type, CtClass> generatedClasses = new HashMap<>();
+    private final Map<Type, String> declarationHashes = new HashMap<>();
+    private final Map<Type, String> uncachedHashes = new HashMap<>();
+    private final Set<Type> cacheableTypes = new HashSet<>();
+    private final GeneratedClassCache cache;
+
+    public ClassGenerator(GeneratedClassCache cache) {
+        this.cache = cache;
+    }
+
+    public ClassGenerator() {
+        this(GeneratedClassCache.createDefault());
+    }
 
     public CtClass allocate(Type type) {
         String javaName = TypeInstance.class.getPackage().getName() + "." + type.getName()
@@ -69,8 +103,15 @@ public CtClass allocate(Type type) {
                 .replace("::", "$")
                 .replace(":", "")
                 .replace("<", "")
-                .replace(">", "")
-                + "_" + ID.incrementAndGet();
+                .replace(">", "");
+
+        // cached bytecode refers to other generated classes by name, so the name has to be stable between launches
+        if (cache.isEnabled() && ALLOCATED_NAMES.add(javaName)) {
+            cacheableTypes.add(type);
+        }
+        else {
+            javaName += "_" + ID.incrementAndGet();
+        }
 
         CtClass javaType = Kind.isInterface(type)
                 ? CLASS_POOL.makeInterface(javaName)
@@ -83,6 +124,18 @@ public CtClass allocate(Type type) {
     public void generate(Type type) throws CannotCompileException, NotFoundException {
         CtClass javaType = generatedClasses.get(type);
 
+        if (cacheableTypes.contains(type)) {
+            String hash = hash(type);
+            Option<byte[]> bytecode = cache.load(javaType.getName(), hash);
+
+            if (bytecode.isDefined() && loadCached(type, bytecode.get())) {
+                CACHED_CLASSES.incrementAndGet();
+                return;
+            }
+
+            uncachedHashes.put(type, hash);
+        }
+
         // supertype
 
         if (!javaType.isInterface() && type.getSuperclass().isDefined()) {
@@ -164,7 +217,7 @@ public void generate(Type type) throws CannotCompileException, NotFoundException
             Map<String, TypeMethod> methods = new HashMap<>();
 
             for (TypeMethod method : type.getMethods().getDeclaredProperties()) {
-                String generatedName = (method.isOverriding() ? "" : "_") + method.getSimpleName().replaceAll("[^A-Za-z0-9_$]", "");
+                String generatedName = toGeneratedName(method);
 
                 CtClass[] parameters = ClassPoolUtils.toCt(ParameterUtils.parametersToClasses(method.getParameters()));
                 CtMethod javaMethod = new CtMethod(getCtClass(method.getReturnType().getKnownType()), generatedName, parameters, javaType);
@@ -176,27 +229,17 @@ public void generate(Type type) throws CannotCompileException, NotFoundException
                     javaType.addField(methodField);
 
                     CtCode.of(javaMethod)
-                            .alias("{ProcessStack}", PandaProcessStack.class.getName())
+                            .alias("{Bridge}", GeneratedMethodBridge.class.getName())
                             .alias("{generatedName}", generatedName)
                             .compile(
-                                    "{ProcessStack} stack = new {ProcessStack}($0.__panda__get_frame().getProcess(), 1);",
-                                    "return ($r) {generatedName}.invoke(stack, $0, $args);"
+                                    "return ($r) {Bridge}.invoke({generatedName}, $0, $args);"
                             );
 
                     methods.put(generatedName, method);
                 }
             }
 
-            type.getAssociated().then(generatedClass -> {
-                for (Entry<String, TypeMethod> entry : methods.entrySet()) {
-                    try {
-                        Field methodField = generatedClass.getDeclaredField(entry.getKey());
-                        methodField.set(null, entry.getValue());
-                    } catch (NoSuchFieldException | IllegalAccessException exception) {
-                        throw new PandaRuntimeException("Cannot prepare generated class", exception);
-                    }
-                }
-            });
+            bindMethods(type, methods);
         }
 
         if (type.getState() != State.ABSTRACT) {
@@ -205,7 +248,114 @@ public void generate(Type type) throws CannotCompileException, NotFoundException
     }
 
     public Class<?> complete(Type type) throws CannotCompileException {
-        return ClassPoolUtils.toClass(generatedClasses.get(type), TypeInstance.class);
+        CtClass javaType = generatedClasses.get(type);
+        String hash = uncachedHashes.remove(type);
+
+        if (hash != null) {
+            try {
+                cache.store(javaType.getName(), hash, javaType.toBytecode());
+            } catch (IOException ioException) {
+                throw new CannotCompileException(ioException);
+            }
+        }
+
+        return ClassPoolUtils.toClass(javaType, TypeInstance.class);
+    }
+
+    private boolean loadCached(Type type, byte[] bytecode) {
+        CtClass cachedType;
+
+        try {
+            cachedType = CLASS_POOL.makeClass(new ByteArrayInputStream(bytecode));
+        } catch (IOException | RuntimeException exception) {
+            // corrupted entry, generate class again
+            return false;
+        }
+
+        generatedClasses.put(type, cachedType);
+
+        Map<String, TypeMethod> methods = new HashMap<>();
+
+        for (TypeMethod method : type.getMethods().getDeclaredProperties()) {
+            if (!method.isAbstract()) {
+                methods.put(toGeneratedName(method), method);
+            }
+        }
+
+        bindMethods(type, methods);
+        return true;
+    }
+
+    private void bindMethods(Type type, Map<String, TypeMethod> methods) {
+        type.getAssociated().then(generatedClass -> {
+            for (Entry<String, TypeMethod> entry : methods.entrySet()) {
+                try {
+                    Field methodField = generatedClass.getDeclaredField(entry.getKey());
+                    methodField.set(null, entry.getValue());
+                } catch (NoSuchFieldException | IllegalAccessException exception) {
+                    throw new PandaRuntimeException("Cannot prepare generated class", exception);
+                }
+            }
+        });
+    }
+
+    /**
+     * Create hash of everything that affects the generated class: its name, structure and signatures of members,
+     * including hashes of generated supertypes, because the generated constructors call them.
+     */
+    private String hash(Type type) {
+        String cachedHash = declarationHashes.get(type);
+
+        if (cachedHash != null) {
+            return cachedHash;
+        }
+
+        StringBuilder declaration = new StringBuilder(FORMAT_VERSION)
+                .append('|').append(generatedClasses.get(type).getName())
+                .append('|').append(type.getKind())
+                .append('|').append(type.getState());
+
+        if (type.getSuperclass().isDefined()) {
+            appendReference(declaration.append("|extends "), type.getSuperclass().get().fetchType());
+        }
+
+        for (TypedSignature baseSignature : type.getBases()) {
+            appendReference(declaration.append("|base "), baseSignature.fetchType());
+        }
+
+        for (TypeConstructor constructor : type.getConstructors().getDeclaredProperties()) {
+            declaration.append("|constructor ").append(Arrays.toString(ParameterUtils.parametersToClasses(constructor.getParameters())));
+
+            if (constructor.getBaseCall().isDefined()) {
+                for (Expression argument : constructor.getBaseCall().get().getArguments()) {
+                    declaration.append(" ").append(argument.getKnownType().getAssociated().get().getName());
+                }
+            }
+        }
+
+        for (TypeMethod method : type.getMethods().getDeclaredProperties()) {
+            declaration.append("|method ")
+                    .append(toGeneratedName(method))
+                    .append(method.isAbstract() ? " abstract " : " ")
+                    .append(getCtClass(method.getReturnType().getKnownType()).getName())
+                    .append(Arrays.toString(ParameterUtils.parametersToClasses(method.getParameters())));
+        }
+
+        String hash = GeneratedClassCache.hash(declaration.toString());
+        declarationHashes.put(type, hash);
+        return hash;
+    }
+
+    private void appendReference(StringBuilder declaration, Type reference) {
+        declaration.append(getCtClass(reference).getName());
+
+        if (generatedClasses.containsKey(reference)) {
+            declaration.append('#').append(hash(reference));
+        }
+    }
+
+    private static String toGeneratedName(TypeMethod method) {
+        return (method.isOverriding() ? "" : "_") + method.getSimpleName().replaceAll("[^A-Za-z0-9_$]", "");
     }
 
     private CtClass getCtClass(Type type) {
@@ -218,4 +368,34 @@ private CtClass getCtClass(Type type) {
         return javaReturnType;
     }
 
+    private static String hashGenerator() {
+        try (InputStream stream = ClassGenerator.class.getResourceAsStream(ClassGenerator.class.getSimpleName() + ".class")) {
+            if (stream == null) {
+                // unknown build, entries stored by this launch will never match
+                return UUID.randomUUID().toString();
+            }
+
+            ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+            byte[] buffer = new byte[IOUtils.DEFAULT_BUFFER_SIZE];
+            int length;
+
+            while ((length = stream.read(buffer)) != -1) {
+                bytecode.write(buffer, 0, length);
+            }
+
+            return GeneratedClassCache.hash(bytecode.toByteArray());
+        } catch (IOException ioException) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Get amount of classes defined from the cache instead of being generated
+     *
+     * @return the amount of cached classes
+     */
+    public static int getCachedClasses() {
+        return CACHED_CLASSES.get();
+    }
+
 }
@@ -22,6 +22,9 @@
 import panda.interpreter.architecture.type.member.constructor.TypeConstructor;
 import panda.interpreter.architecture.type.member.parameter.PropertyParameter;
 
+import panda.interpreter.runtime.PandaRuntimeException;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.List;
 
@@ -40,8 +43,8 @@ final class ConstructorGenerator {
     protected TypeConstructor generate(TypeLoader typeLoader) {
         List<? extends PropertyParameter> typeParameters = TypeGeneratorUtils.toParameters(typeGenerator, typeLoader, type.getModule(), constructor.getParameters());
 
-        // TODO: Generate bytecode
         constructor.setAccessible(true);
+        MethodHandle handle = JavaMemberHandles.ofConstructor(constructor);
 
         return PandaConstructor.builder()
                 .name("constructor " + type.getSimpleName())
@@ -49,7 +52,15 @@ protected TypeConstructor generate(TypeLoader typeLoader) {
                 .parameters(typeParameters)
                 .type(type)
                 .returnType(type.getSignature())
-                .invoker((pandaConstructor, frame, instance, arguments) -> constructor.newInstance(arguments))
+                .invoker((pandaConstructor, frame, instance, arguments) -> {
+                    try {
+                        return (Object) handle.invokeExact(arguments);
+                    } catch (Exception | Error exception) {
+                        throw exception;
+                    } catch (Throwable throwable) {
+                        throw new PandaRuntimeException("Internal error", throwable);
+                    }
+                })
                 .build();
     }
 
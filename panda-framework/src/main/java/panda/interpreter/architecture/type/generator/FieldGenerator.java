@@ -27,6 +27,7 @@
 import panda.interpreter.architecture.type.member.field.PandaField;
 import panda.interpreter.runtime.PandaRuntimeException;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
@@ -54,17 +55,19 @@ protected TypeField generate(TypeLoader typeLoader) {
                 .isNative(true)
                 .nillable(true)
                 .build();
-        // TODO: Generate bytecode
         field.setAccessible(true);
+        MethodHandle getter = JavaMemberHandles.ofGetter(field);
 
         Expression fieldExpression = new PandaExpression(new AbstractDynamicExpression(typeField.getReturnType()) {
             @Override
             @SuppressWarnings("unchecked")
             public Object evaluate(ProcessStack flow, Object instance) {
                 try {
-                    return field.get(instance);
-                } catch (IllegalAccessException illegalAccessException) {
-                    throw new PandaRuntimeException("Cannot get value of " + field, illegalAccessException);
+                    return (Object) getter.invokeExact(instance);
+                } catch (RuntimeException | Error exception) {
+                    throw exception;
+                } catch (Throwable throwable) {
+                    throw new PandaRuntimeException("Cannot get value of " + field, throwable);
                 }
             }
         });
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.PandaFrameworkException;
+import panda.std.Option;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Persistent cache of bytecode generated by {@link panda.interpreter.architecture.type.generator.ClassGenerator}.
+ * Entries are identified by the name of generated class and hash of the type declaration,
+ * so a modified declaration never matches outdated bytecode.
+ */
+public final class GeneratedClassCache {
+
+    /**
+     * Directory used to store generated classes, cache is disabled if the property is not set
+     */
+    public static final String DIRECTORY_PROPERTY = "panda.generator.cache";
+
+    private static final String EXTENSION = ".class";
+
+    private final @Nullable Path directory;
+
+    public GeneratedClassCache(@Nullable Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Load bytecode of the given class
+     *
+     * @param javaName the name of generated class
+     * @param hash the hash of type declaration
+     * @return the cached bytecode or none if cache does not contain the requested entry
+     */
+    public Option<byte[]> load(String javaName, String hash) {
+        if (directory == null) {
+            return Option.none();
+        }
+
+        Path file = directory.resolve(toFileName(javaName, hash));
+
+        if (!Files.isRegularFile(file)) {
+            return Option.none();
+        }
+
+        try {
+            return Option.of(Files.readAllBytes(file));
+        } catch (IOException ioException) {
+            // unreadable entry is treated as missing, it'll be replaced by a newly generated class
+            return Option.none();
+        }
+    }
+
+    /**
+     * Store bytecode of the given class.
+     * Failures are ignored, because the class has been already generated and the cache is only an optimization.
+     *
+     * @param javaName the name of generated class
+     * @param hash the hash of type declaration
+     * @param bytecode the bytecode to store
+     */
+    public void store(String javaName, String hash, byte[] bytecode) {
+        if (directory == null) {
+            return;
+        }
+
+        Path temporaryFile = null;
+
+        try {
+            Files.createDirectories(directory);
+
+            // write to the temporary file first, so other processes never read partially written class
+            temporaryFile = Files.createTempFile(directory, javaName, ".tmp");
+            Files.write(temporaryFile, bytecode);
+            Files.move(temporaryFile, directory.resolve(toFileName(javaName, hash)), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ignored) {
+            // cache is not available, the class will be generated again on the next launch
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    private void deleteQuietly(@Nullable Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // nothing more can be done, leftover temporary file is never read as an entry
+        }
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    private String toFileName(String javaName, String hash) {
+        return javaName + "-" + hash + EXTENSION;
+    }
+
+    /**
+     * Create hash of the given declaration
+     *
+     * @param declaration the declaration to hash
+     * @return hex representation of hash
+     */
+    public static String hash(String declaration) {
+        return hash(declaration.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create hash of the given data
+     *
+     * @param data the data to hash
+     * @return hex representation of hash
+     */
+    public static String hash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+
+            for (byte element : digest) {
+                hash.append(Character.forDigit((element >> 4) & 0xF, 16)).append(Character.forDigit(element & 0xF, 16));
+            }
+
+            return hash.toString();
+        } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+            throw new PandaFrameworkException("SHA-256 is not supported", noSuchAlgorithmException);
+        }
+    }
+
+    /**
+     * Create cache using the directory defined by {@link #DIRECTORY_PROPERTY}
+     *
+     * @return the cache, disabled if the property is not set
+     */
+    public static GeneratedClassCache createDefault() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return new GeneratedClassCache(directory == null || directory.isEmpty() ? null : Paths.get(directory));
+    }
+
+}
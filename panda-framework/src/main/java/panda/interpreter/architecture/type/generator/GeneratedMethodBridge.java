@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator;
+
+import panda.interpreter.architecture.dynamic.Frame;
+import panda.interpreter.architecture.type.TypeInstance;
+import panda.interpreter.architecture.type.member.method.TypeMethod;
+import panda.interpreter.runtime.PandaProcessStack;
+import panda.interpreter.runtime.PandaProcessStacks;
+import panda.interpreter.runtime.Process;
+
+/**
+ * Entry point of methods generated by {@link panda.interpreter.architecture.type.generator.ClassGenerator},
+ * called by Java code that invokes methods of Panda types (e.g. comparators, listeners or tasks passed to executors)
+ */
+public final class GeneratedMethodBridge {
+
+    private GeneratedMethodBridge() { }
+
+    public static Object invoke(TypeMethod method, TypeInstance instance, Object[] arguments) throws Exception {
+        Process process = instance.__panda__get_frame().getProcess();
+        PandaProcessStack stack = PandaProcessStacks.enter(process);
+        int depth = stack.getDepth();
+        Frame frame = stack.getCurrentFrame();
+
+        try {
+            return method.invoke(stack, instance, arguments);
+        } finally {
+            stack.restore(depth, frame);
+            PandaProcessStacks.exit(process);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator;
+
+import panda.interpreter.runtime.PandaRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates method handles of Java members with uniform signatures, so generated members may call them through {@link java.lang.invoke.MethodHandle#invokeExact(Object...)}:
+ *
+ * <ul>
+ *     <li>methods - {@code (Object instance, Object[] arguments) -> Object}</li>
+ *     <li>constructors - {@code (Object[] arguments) -> Object}</li>
+ *     <li>field getters - {@code (Object instance) -> Object}</li>
+ * </ul>
+ *
+ * Static members ignore the instance argument and void methods return null.
+ */
+public final class JavaMemberHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private JavaMemberHandles() { }
+
+    static MethodHandle ofMethod(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+            handle = handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return handle.asSpreader(Object[].class, method.getParameterCount());
+        } catch (IllegalAccessException illegalAccessException) {
+            throw new PandaRuntimeException("Cannot access " + method, illegalAccessException);
+        }
+    }
+
+    public static MethodHandle ofConstructor(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asFixedArity();
+            handle = handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+            return handle.asSpreader(Object[].class, constructor.getParameterCount());
+        } catch (IllegalAccessException illegalAccessException) {
+            throw new PandaRuntimeException("Cannot access " + constructor, illegalAccessException);
+        }
+    }
+
+    static MethodHandle ofGetter(Field field) {
+        try {
+            MethodHandle handle = LOOKUP.unreflectGetter(field);
+            handle = handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return handle;
+        } catch (IllegalAccessException illegalAccessException) {
+            throw new PandaRuntimeException("Cannot access " + field, illegalAccessException);
+        }
+    }
+
+}
@@ -16,7 +16,6 @@
 
 package panda.interpreter.architecture.type.generator;
 
-import panda.interpreter.FrameworkController;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.architecture.type.member.MemberInvoker;
@@ -31,8 +30,8 @@
 import panda.interpreter.token.PandaSnippet;
 import panda.utilities.ClassUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -41,77 +40,53 @@
 
 final class MethodGenerator {
 
-    private final FrameworkController controller;
     private final TypeGenerator generator;
     private final Type type;
     private final Method method;
 
-    MethodGenerator(FrameworkController controller, TypeGenerator generator, Type type, Method method) {
+    MethodGenerator(TypeGenerator generator, Type type, Method method) {
         if (method == null) {
             throw new InvalidParameterException("Method cannot be null");
         }
 
-        this.controller = controller;
         this.generator = generator;
         this.type = type;
         this.method = method;
     }
 
     TypeMethod generate(TypeLoader typeLoader) {
-        // TODO: Generate bytecode
         method.setAccessible(true);
 
-        MemberInvoker<TypeMethod, Object, Object> methodBody = (typeMethod, stack, instance, arguments) -> {
-            int amountOfArgs = arguments.length;
-            int parameterCount = method.getParameterCount();
-            Object varargs = null;
+        MethodHandle handle = JavaMemberHandles.ofMethod(method);
+        int parameterCount = method.getParameterCount();
+        boolean lastParameterArray = parameterCount > 0 && method.getParameterTypes()[parameterCount - 1].isArray();
+        Class<?> varargsType = parameterCount == 1 && method.isVarArgs() ? method.getParameterTypes()[0].getComponentType() : null;
 
-            if (amountOfArgs != parameterCount) {
+        MemberInvoker<TypeMethod, Object, Object> methodBody = (typeMethod, stack, instance, arguments) -> {
+            if (arguments.length != parameterCount) {
                 if (parameterCount < 1) {
                     throw new PandaRuntimeException("Too many arguments");
                 }
 
-                Class<?> last = method.getParameterTypes()[parameterCount - 1];
-                String lastName = last.getName();
-                Class<?> rootLast = Class.forName(lastName.substring(2, lastName.length() - 1), true, controller.getClassLoader());
-
-                if (amountOfArgs + 1 != parameterCount || !last.isArray()) {
+                if (arguments.length + 1 != parameterCount || !lastParameterArray) {
                     throw new PandaRuntimeException("Cannot invoke mapped mapped method (args.length != parameters.length)");
                 }
 
-                varargs = Array.newInstance(rootLast, 0);
-                amountOfArgs++;
+                throw new PandaRuntimeException("Varargs not allowed");
             }
 
-            if (varargs != null) {
-                if (arguments.length < amountOfArgs) {
-                    throw new PandaRuntimeException("Varargs not allowed");
-                }
-
-                arguments[amountOfArgs - 1] = varargs;
-            }
-
-            if (parameterCount == 1) {
-                if (method.isVarArgs()) {
-                    Object array = Array.newInstance(method.getParameters()[0].getType().getComponentType(), 1);
-                    Array.set(array, 0, arguments[0]);
-                    arguments[0] = array;
-                }
+            if (varargsType != null) {
+                Object array = Array.newInstance(varargsType, 1);
+                Array.set(array, 0, arguments[0]);
+                arguments[0] = array;
             }
 
             try {
-                return method.invoke(instance, arguments);
-            } catch (InvocationTargetException invocationTargetException) {
-                Throwable throwable = invocationTargetException.getTargetException();
-
-                if (throwable instanceof Exception) {
-                    throw (Exception) throwable;
-                }
-
+                return (Object) handle.invokeExact(instance, arguments);
+            } catch (Exception | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
                 throw new PandaRuntimeException("Internal error", throwable);
-            } catch (IllegalArgumentException illegalArgumentException) {
-                illegalArgumentException.printStackTrace();
-                throw illegalArgumentException;
             }
         };
 
@@ -131,7 +106,7 @@ TypeMethod generate(TypeLoader typeLoader) {
                 signatures[index] = new GenericSignature(typeLoader, null, actualTypeArguments[index].getTypeName(), null, new Signature[0], Relation.DIRECT, PandaSnippet.empty());
             }
 
-            returnType = new TypedSignature(null, typeLoader.forJavaType(rawType).get().getReference(), signatures, Relation.DIRECT, PandaSnippet.empty());
+            returnType = new TypedSignature(null, generator.findOrGenerate(typeLoader, type.getModule(), rawType).getReference(), signatures, Relation.DIRECT, PandaSnippet.empty());
         }
 
         if (returnType == null) {
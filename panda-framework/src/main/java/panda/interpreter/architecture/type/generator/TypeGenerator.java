@@ -16,10 +16,12 @@
 
 package panda.interpreter.architecture.type.generator;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.FrameworkController;
 import panda.interpreter.architecture.module.Module;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.architecture.type.Kind;
+import panda.interpreter.architecture.type.LazyReference;
 import panda.interpreter.architecture.type.PandaType;
 import panda.interpreter.architecture.type.Reference;
 import panda.interpreter.architecture.type.State;
@@ -46,18 +48,31 @@
 import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class TypeGenerator {
 
-    final Map<Class<?>, Type> initializedTypes = new HashMap<>();
+    final Map<Class<?>, Type> initializedTypes = new ConcurrentHashMap<>();
+    final Map<String, Reference> deferredTypes = new ConcurrentHashMap<>();
     final FrameworkController frameworkController;
+    private final @Nullable TypeGenerator parent;
+
+    /**
+     * Create generator that reuses types generated by the parent generator
+     *
+     * @param frameworkController the controller of framework
+     * @param parent the generator of shared types, every Java class is generated only once in the whole chain
+     */
+    public TypeGenerator(FrameworkController frameworkController, @Nullable TypeGenerator parent) {
+        this.frameworkController = frameworkController;
+        this.parent = parent;
+    }
 
     public TypeGenerator(FrameworkController frameworkController) {
-        this.frameworkController = frameworkController;
+        this(frameworkController, null);
     }
 
     public Type allocate(Class<?> javaType, Type type) {
@@ -65,6 +80,17 @@ public Type allocate(Class<?> javaType, Type type) {
         return type;
     }
 
+    /**
+     * Register reference to the type that is generated on demand,
+     * so the generator does not create another type for the same Java class
+     *
+     * @param javaClassName the name of associated Java class
+     * @param reference the reference to generate on demand
+     */
+    public void defer(String javaClassName, Reference reference) {
+        deferredTypes.put(javaClassName, reference);
+    }
+
     public Reference generate(TypeLoader stdTypeLoader, Module module, String rawName, Class<?> javaType) {
         if (rawName.endsWith("[]")) {
             rawName = rawName.replace("[]", "Array");
@@ -73,8 +99,10 @@ public Reference generate(TypeLoader stdTypeLoader, Module module, String rawNam
         String name = rawName;
 
         return Option.of(initializedTypes.get(javaType))
+                .orElse(() -> Option.of(parent).flatMap(parentGenerator -> Option.of(parentGenerator.findGenerated(javaType))))
                 .map(Reference::new)
-                .orElse(() -> module.get(name))
+                // lazy references delegate to this method, so they are ignored to avoid recursion
+                .orElse(() -> module.get(name).filter(reference -> !(reference instanceof LazyReference)))
                 .orElseGet(() -> {
                     Completable<Type> completableType = new Completable<>();
                     Location location = new ClassSource(module, javaType).toLocation();
@@ -135,12 +163,13 @@ public Reference generate(TypeLoader stdTypeLoader, Module module, String rawNam
                         }
 
                         for (Method method : ReflectionUtils.getByModifier(javaType.getDeclaredMethods(), Modifier.PUBLIC)) {
-                            MethodGenerator generator = new MethodGenerator(frameworkController, this, initializedType, method);
+                            MethodGenerator generator = new MethodGenerator(this, initializedType, method);
                             initializedType.getMethods().declare(method.getName(), () -> generator.generate(typeLoader));
                         }
 
                         if (javaType.isArray()) {
-                            Signature componentType = typeLoader.forJavaType(javaType.getComponentType()).get().getSignature();
+                            ArrayComponent component = ArrayComponent.of(javaType);
+                            Signature componentType = findOrGenerate(typeLoader, module, javaType.getComponentType()).getSignature();
                             Signature indexType = typeLoader.forJavaType(int.class).get().getSignature();
 
                             type.getMethods().declare("set", () -> PandaMethod.builder()
@@ -151,10 +180,7 @@ public Reference generate(TypeLoader stdTypeLoader, Module module, String rawNam
                                             new PropertyParameterImpl(1, componentType, "value", false, true)
                                     ))
                                     .returnType(type.getSignature())
-                                    .customBody((property, stack, instance, arguments) -> {
-                                        ((Object[]) Objects.requireNonNull(instance))[(int) arguments[0]] = arguments[1];
-                                        return instance;
-                                    })
+                                    .customBody((property, stack, instance, arguments) -> component.set(Objects.requireNonNull(instance), (int) arguments[0], arguments[1]))
                                     .location(location)
                                     .build());
                             type.getMethods().declare("get", () -> PandaMethod.builder()
@@ -162,14 +188,14 @@ public Reference generate(TypeLoader stdTypeLoader, Module module, String rawNam
                                     .name("get")
                                     .parameters(Collections.singletonList(new PropertyParameterImpl(0, typeLoader.forJavaType(int.class).get().getSignature(), "index", false, false)))
                                     .returnType(componentType)
-                                    .customBody((property, stack, instance, arguments) -> ((Object[]) Objects.requireNonNull(instance))[(int) arguments[0]])
+                                    .customBody((property, stack, instance, arguments) -> component.get(Objects.requireNonNull(instance), (int) arguments[0]))
                                     .location(location)
                                     .build());
 
                             TypedSignature typedListSignature = new TypedSignature(
                                     null,
                                     typeLoader.forJavaType(List.class).get().getReference(),
-                                    new Signature[] { typeLoader.forJavaType(String.class).get().getSignature() },
+                                    new Signature[] { componentType },
                                     Relation.DIRECT,
                                     PandaSnippet.empty()
                             );
@@ -179,7 +205,7 @@ public Reference generate(TypeLoader stdTypeLoader, Module module, String rawNam
                                     .name("toList")
                                     .parameters(Collections.emptyList())
                                     .returnType(typedListSignature)
-                                    .customBody((property, stack, instance, arguments) -> Arrays.asList((Object[]) Objects.requireNonNull(instance)))
+                                    .customBody((property, stack, instance, arguments) -> component.toList(Objects.requireNonNull(instance)))
                                     .location(location)
                                     .build());
                         }
@@ -201,7 +227,7 @@ Type findOrGenerate(TypeLoader typeLoader, Module module, Class<?> javaType) {
             return typeValue.get();
         }
 
-        Type type = initializedTypes.get(javaType);
+        Type type = findGenerated(javaType);
 
         if (type != null) {
             return type;
@@ -210,4 +236,20 @@ Type findOrGenerate(TypeLoader typeLoader, Module module, Class<?> javaType) {
         return generate(typeLoader, module, javaType.getSimpleName(), javaType).fetchType();
     }
 
+    private @Nullable Type findGenerated(Class<?> javaType) {
+        Type type = initializedTypes.get(javaType);
+
+        if (type != null) {
+            return type;
+        }
+
+        Reference deferredType = deferredTypes.get(javaType.getName());
+
+        if (deferredType != null) {
+            return deferredType.fetchType();
+        }
+
+        return parent != null ? parent.findGenerated(javaType) : null;
+    }
+
 }
@@ -17,6 +17,7 @@
 package panda.interpreter.architecture.type.member;
 
 import panda.interpreter.architecture.type.Type;
+import panda.interpreter.architecture.type.TypeModifications;
 import panda.interpreter.architecture.type.signature.TypedSignature;
 import panda.std.Lazy;
 import panda.std.Option;
@@ -30,13 +31,14 @@
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public abstract class AbstractMembers<T extends Member> implements Members<T> {
 
     protected final Class<T> propertiesType;
     protected final Type type;
     protected final Map<String, Collection<Lazy<T>>> propertiesMap = new HashMap<>();
+    private volatile int size;
+    private volatile MembersTable<T> table;
 
     protected AbstractMembers(Class<T> propertiesType, Type type) {
         this.propertiesType = propertiesType;
@@ -47,25 +49,52 @@ protected AbstractMembers(Class<T> propertiesType, Type type) {
     public void declare(String name, Supplier<T> propertySupplier) {
         Collection<Lazy<T>> properties = propertiesMap.computeIfAbsent(name, methodsContainer -> new ArrayList<>());
         properties.add(new Lazy<>(propertySupplier));
+        size++;
+        TypeModifications.modified();
+    }
+
+    /**
+     * Get lookup table of this container.
+     * The table is rebuilt if any type has been modified since the last lookup.
+     *
+     * @return the current table
+     */
+    private MembersTable<T> getTable() {
+        int version = type.getVersion();
+        MembersTable<T> current = table;
+
+        if (current == null || current.getVersion() != version) {
+            current = new MembersTable<>(version);
+            this.table = current;
+        }
+
+        return current;
     }
 
     @Override
     public int size() {
-        return propertiesMap.values().stream()
-                .mapToInt(Collection::size)
-                .sum();
+        return size;
     }
 
     @Override
     public boolean hasPropertyLike(String name) {
-        if (propertiesMap.containsKey(name)) {
-            return true;
+        MembersTable<T> current = getTable();
+        Boolean cached = current.hasPropertyLike(name);
+
+        if (cached != null) {
+            return cached;
         }
 
+        boolean result = propertiesMap.containsKey(name) || withBases(base -> base.hasPropertyLike(name));
+        current.setPropertyLike(name, result);
+        return result;
+    }
+
+    private boolean withBases(Predicate<Members<T>> predicate) {
         for (TypedSignature base : type.getBases()) {
             Option<? extends Members<T>> properties = base.fetchType().getProperties(propertiesType);
 
-            if (properties.isPresent() && properties.get().hasPropertyLike(name)) {
+            if (properties.isPresent() && predicate.test(properties.get())) {
                 return true;
             }
         }
@@ -73,52 +102,113 @@ public boolean hasPropertyLike(String name) {
         return false;
     }
 
-    private List<T> withBases(List<T> properties, Function<Members<? extends T>, Collection<? extends T>> mapper, Predicate<T> filter) {
+    private List<T> withBases(List<T> properties, Function<Members<? extends T>, Collection<? extends T>> mapper) {
         for (TypedSignature base : type.getBases()) {
-            base.fetchType().getProperties(propertiesType).peek(baseProperties -> properties.addAll(mapper.apply(baseProperties).stream()
-                    .filter(filter)
-                    .collect(Collectors.toList())
-            ));
+            base.fetchType().getProperties(propertiesType).peek(baseProperties -> properties.addAll(mapper.apply(baseProperties)));
         }
 
         return properties;
     }
 
-    protected List<T> getPropertiesLike(String name, Predicate<T> filter) {
-        List<T> properties = Option.of(propertiesMap.get(name))
-                .orElseGet(Collections::emptyList).stream()
-                .map(Lazy::get)
-                .filter(filter)
-                .collect(Collectors.toList());
+    private static <T> List<T> filter(List<T> properties, Predicate<T> filter) {
+        List<T> filtered = new ArrayList<>(properties.size());
+
+        for (T property : properties) {
+            if (filter.test(property)) {
+                filtered.add(property);
+            }
+        }
 
-        return withBases(properties, baseProperties -> baseProperties.getPropertiesLike(name), filter);
+        return filtered;
+    }
+
+    protected List<T> getPropertiesLike(String name, Predicate<T> filter) {
+        return filter(getPropertiesLike(getTable(), name), filter);
     }
 
     @Override
     public List<? extends T> getPropertiesLike(String name) {
-        return getPropertiesLike(name, property -> true);
+        return getPropertiesLike(getTable(), name);
+    }
+
+    private List<T> getPropertiesLike(MembersTable<T> current, String name) {
+        List<T> cached = current.getPropertiesLike(name);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        List<T> properties = new ArrayList<>();
+
+        for (Lazy<T> property : Option.of(propertiesMap.get(name)).orElseGet(Collections::emptyList)) {
+            properties.add(property.get());
+        }
+
+        return current.setPropertiesLike(name, withBases(properties, baseProperties -> baseProperties.getPropertiesLike(name)));
+    }
+
+    /**
+     * Get properties with the given name and amount of parameters, including inherited ones
+     *
+     * @param name the name to search for
+     * @param arity the amount of parameters
+     * @return list of properties with the given name and arity
+     */
+    protected List<T> getPropertiesLike(String name, int arity) {
+        MembersTable<T> current = getTable();
+        Map<Integer, List<T>> cached = current.getPropertiesByArity(name);
+
+        if (cached == null) {
+            cached = current.setPropertiesByArity(name, getPropertiesLike(current, name));
+        }
+
+        return cached.getOrDefault(arity, Collections.emptyList());
     }
 
     protected List<T> getProperties(Predicate<T> filter) {
-        return withBases(new ArrayList<>(getDeclaredProperties(filter)), Members::getProperties, filter);
+        return filter(getProperties(getTable()), filter);
+    }
+
+    private List<T> getProperties(MembersTable<T> current) {
+        List<T> properties = current.getProperties();
+
+        if (properties != null) {
+            return properties;
+        }
+
+        return current.setProperties(withBases(new ArrayList<>(getDeclaredProperties(current)), Members::getProperties));
     }
 
     @Override
     public List<? extends T> getProperties() {
-        return getProperties(property -> true);
+        return getProperties(getTable());
     }
 
     protected List<T> getDeclaredProperties(Predicate<T> filter) {
-        return propertiesMap.values().stream()
-                .flatMap(Collection::stream)
-                .map(Lazy::get)
-                .filter(filter)
-                .collect(Collectors.toList());
+        return filter(getDeclaredProperties(getTable()), filter);
+    }
+
+    private List<T> getDeclaredProperties(MembersTable<T> current) {
+        List<T> declared = current.getDeclaredProperties();
+
+        if (declared != null) {
+            return declared;
+        }
+
+        List<T> properties = new ArrayList<>(size);
+
+        for (Collection<Lazy<T>> lazyProperties : propertiesMap.values()) {
+            for (Lazy<T> property : lazyProperties) {
+                properties.add(property.get());
+            }
+        }
+
+        return current.setDeclaredProperties(properties);
     }
 
     @Override
     public List<? extends T> getDeclaredProperties() {
-        return getDeclaredProperties(property -> true);
+        return getDeclaredProperties(getTable());
     }
 
     @Override
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.member;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flattened and immutable views of members, including the inherited ones, valid for the given version of type.
+ * Views are collected lazily, so members generated on demand are not created until they are requested.
+ *
+ * @param <T> generic type of represented properties
+ */
+final class MembersTable<T extends Member> {
+
+    private final int version;
+    private final Map<String, Boolean> propertiesLikeFlags = new ConcurrentHashMap<>();
+    private final Map<String, List<T>> propertiesLike = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, List<T>>> propertiesLikeByArity = new ConcurrentHashMap<>();
+    private volatile List<T> declaredProperties;
+    private volatile List<T> properties;
+
+    MembersTable(int version) {
+        this.version = version;
+    }
+
+    void setPropertyLike(String name, boolean result) {
+        propertiesLikeFlags.put(name, result);
+    }
+
+    @Nullable Boolean hasPropertyLike(String name) {
+        return propertiesLikeFlags.get(name);
+    }
+
+    List<T> setPropertiesLike(String name, List<T> properties) {
+        List<T> immutableProperties = Collections.unmodifiableList(properties);
+        propertiesLike.put(name, immutableProperties);
+        return immutableProperties;
+    }
+
+    @Nullable List<T> getPropertiesLike(String name) {
+        return propertiesLike.get(name);
+    }
+
+    Map<Integer, List<T>> setPropertiesByArity(String name, List<T> properties) {
+        Map<Integer, List<T>> byArity = new HashMap<>();
+
+        for (T property : properties) {
+            int propertyArity = property instanceof ParametrizedMember ? ((ParametrizedMember) property).getParameters().size() : 0;
+            byArity.computeIfAbsent(propertyArity, key -> new ArrayList<>(1)).add(property);
+        }
+
+        byArity.replaceAll((key, value) -> Collections.unmodifiableList(value));
+        propertiesLikeByArity.put(name, byArity);
+        return byArity;
+    }
+
+    @Nullable Map<Integer, List<T>> getPropertiesByArity(String name) {
+        return propertiesLikeByArity.get(name);
+    }
+
+    List<T> setDeclaredProperties(List<T> declaredProperties) {
+        List<T> immutableProperties = Collections.unmodifiableList(declaredProperties);
+        this.declaredProperties = immutableProperties;
+        return immutableProperties;
+    }
+
+    @Nullable List<T> getDeclaredProperties() {
+        return declaredProperties;
+    }
+
+    List<T> setProperties(List<T> properties) {
+        List<T> immutableProperties = Collections.unmodifiableList(properties);
+        this.properties = immutableProperties;
+        return immutableProperties;
+    }
+
+    @Nullable List<T> getProperties() {
+        return properties;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+}
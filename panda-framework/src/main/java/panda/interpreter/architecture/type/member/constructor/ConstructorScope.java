@@ -17,30 +17,22 @@
 package panda.interpreter.architecture.type.member.constructor;
 
 import org.jetbrains.annotations.Nullable;
-import panda.interpreter.PandaFrameworkException;
 import panda.interpreter.architecture.dynamic.Frameable;
-import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.statement.AbstractPropertyFramedScope;
-import panda.interpreter.architecture.type.Type;
 import panda.interpreter.architecture.type.TypeFrame;
 import panda.interpreter.architecture.type.TypeInstance;
 import panda.interpreter.architecture.type.member.MemberFrameImpl;
 import panda.interpreter.architecture.type.member.MemberInvoker;
-import panda.interpreter.architecture.type.member.field.TypeField;
 import panda.interpreter.architecture.type.member.parameter.ParameterUtils;
 import panda.interpreter.architecture.type.member.parameter.PropertyParameter;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
 import panda.interpreter.runtime.Status;
-import panda.utilities.ArrayUtils;
 import panda.utilities.UnsafeUtils;
 import panda.utilities.collection.Lists;
 import panda.std.Option;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -48,6 +40,8 @@ public final class ConstructorScope extends AbstractPropertyFramedScope implemen
 
     private static final Object[] EMPTY = new Object[0];
 
+    private volatile @Nullable InstantiationPlan instantiationPlan;
+
     public ConstructorScope(Localizable localizable, List<PropertyParameter> parameters) {
         super(localizable, parameters);
     }
@@ -79,45 +73,32 @@ public Object invoke(TypeConstructor constructor, ProcessStack stack, @Nullable
                 .orElse(EMPTY)
                 .peek(typeFrame::setBaseArguments);
 
+        InstantiationPlan plan = getInstantiationPlan(constructor);
         TypeInstance typeInstance;
 
         try {
-            Constructor<? extends TypeInstance> nativeConstructor = getConstructor(constructor.getType(), constructor.getParameters());
-            typeInstance = nativeConstructor.newInstance(ArrayUtils.merge(typeFrame, arguments, Object[]::new));
-        } catch (InvocationTargetException targetException) {
-            return UnsafeUtils.throwException(targetException.getTargetException());
+            typeInstance = plan.instantiate(typeFrame, arguments);
+        } catch (Throwable throwable) {
+            return UnsafeUtils.throwException(throwable);
         }
 
         typeFrame.setTypeInstance(typeInstance);
-
-        for (TypeField field : constructor.getType().getFields().getDeclaredProperties()) {
-            if (!field.hasDefaultValue()) {
-                continue;
-            }
-
-            if (field.isStatic()) {
-                field.fetchStaticValue(); // just init
-                continue;
-            }
-
-            Expression expression = field.getDefaultValue();
-            typeInstance.__panda__get_frame().set(field.getPointer(), expression.evaluate(stack, typeInstance));
-        }
-
+        plan.applyDefaults(stack, typeInstance);
         stack.callFrame(typeFrame, constructorFrame);
 
         return typeInstance;
     }
 
-    @SuppressWarnings("unchecked")
-    private Constructor<? extends TypeInstance> getConstructor(Type type, List<? extends PropertyParameter> parameters) {
-        Class<?>[] parameterTypes = ArrayUtils.merge(TypeFrame.class, ParameterUtils.parametersToClasses(parameters), Class[]::new);
+    private InstantiationPlan getInstantiationPlan(TypeConstructor constructor) {
+        InstantiationPlan plan = instantiationPlan;
 
-        try {
-            return (Constructor<? extends TypeInstance>) type.getAssociated().get().getConstructor(parameterTypes);
-        } catch (NoSuchMethodException noSuchMethodException) {
-            throw new PandaFrameworkException("Associated class does not implement " + Arrays.toString(parameterTypes) + " constructor");
+        if (plan == null) {
+            // the scope is bound to a single constructor, so racing threads build equivalent plans
+            plan = InstantiationPlan.of(constructor);
+            this.instantiationPlan = plan;
         }
+
+        return plan;
     }
 
     public Option<BaseCall> getBaseCall() {
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.member.constructor;
+
+import panda.interpreter.PandaFrameworkException;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.architecture.type.TypeFrame;
+import panda.interpreter.architecture.type.TypeInstance;
+import panda.interpreter.architecture.type.generator.JavaMemberHandles;
+import panda.interpreter.architecture.type.member.field.TypeField;
+import panda.interpreter.architecture.type.member.parameter.ParameterUtils;
+import panda.interpreter.runtime.ProcessStack;
+import panda.utilities.ArrayUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything required to instantiate a type through the given constructor, resolved once per constructor:
+ * the handle of generated Java constructor and the flat table of fields with default values.
+ */
+final class InstantiationPlan {
+
+    private final MethodHandle factory;
+    private final int[] pointers;
+    private final Expression[] defaults;
+    private final TypeField[] staticFields;
+
+    private InstantiationPlan(MethodHandle factory, int[] pointers, Expression[] defaults, TypeField[] staticFields) {
+        this.factory = factory;
+        this.pointers = pointers;
+        this.defaults = defaults;
+        this.staticFields = staticFields;
+    }
+
+    TypeInstance instantiate(TypeFrame typeFrame, Object[] arguments) throws Throwable {
+        Object[] parameters = new Object[arguments.length + 1];
+        parameters[0] = typeFrame;
+        System.arraycopy(arguments, 0, parameters, 1, arguments.length);
+
+        Object instance = factory.invokeExact(parameters);
+        return (TypeInstance) instance;
+    }
+
+    void applyDefaults(ProcessStack stack, TypeInstance typeInstance) throws Exception {
+        for (TypeField staticField : staticFields) {
+            staticField.fetchStaticValue(); // just init
+        }
+
+        TypeFrame typeFrame = typeInstance.__panda__get_frame();
+
+        for (int index = 0; index < pointers.length; index++) {
+            typeFrame.set(pointers[index], defaults[index].evaluate(stack, typeInstance));
+        }
+    }
+
+    static InstantiationPlan of(TypeConstructor constructor) {
+        Type type = constructor.getType();
+        Class<?>[] parameterTypes = ArrayUtils.merge(TypeFrame.class, ParameterUtils.parametersToClasses(constructor.getParameters()), Class[]::new);
+        MethodHandle factory;
+
+        try {
+            factory = JavaMemberHandles.ofConstructor(type.getAssociated().get().getConstructor(parameterTypes));
+        } catch (NoSuchMethodException noSuchMethodException) {
+            throw new PandaFrameworkException("Associated class does not implement " + Arrays.toString(parameterTypes) + " constructor");
+        }
+
+        List<? extends TypeField> fields = type.getFields().getDeclaredProperties();
+        List<TypeField> staticFields = new ArrayList<>(0);
+        int[] pointers = new int[fields.size()];
+        Expression[] defaults = new Expression[fields.size()];
+        int count = 0;
+
+        for (TypeField field : fields) {
+            if (!field.hasDefaultValue()) {
+                continue;
+            }
+
+            if (field.isStatic()) {
+                staticFields.add(field);
+                continue;
+            }
+
+            pointers[count] = field.getPointer();
+            defaults[count] = field.getDefaultValue();
+            count++;
+        }
+
+        return new InstantiationPlan(factory, Arrays.copyOf(pointers, count), Arrays.copyOf(defaults, count), staticFields.toArray(new TypeField[0]));
+    }
+
+}
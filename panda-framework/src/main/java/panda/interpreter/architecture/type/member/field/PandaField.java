@@ -33,9 +33,9 @@ public final class PandaField extends AbstractMember<TypeField> implements TypeF
     private final boolean mutable;
     private final boolean nillable;
 
-    private Expression defaultValue;
-    private Lazy<?> staticValue;
-    private boolean initialized;
+    private volatile Expression defaultValue;
+    private volatile Lazy<?> staticValue;
+    private volatile boolean initialized;
 
     protected PandaField(PandaFieldBuilder builder) {
         super(builder);
@@ -116,6 +116,7 @@ public boolean hasDefaultValue() {
     @Override
     @SuppressWarnings("unchecked")
     public Object fetchStaticValue() {
+        // lazy value is evaluated only once, even if processes of the same application fetch it concurrently
         return staticValue.get();
     }
 
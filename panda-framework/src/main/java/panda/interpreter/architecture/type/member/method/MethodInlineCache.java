@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.member.method;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.Frame;
+import panda.interpreter.architecture.dynamic.Frameable;
+import panda.interpreter.architecture.statement.FramedScope;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.architecture.type.TypeScope;
+import panda.interpreter.architecture.type.Typed;
+import panda.interpreter.runtime.PandaRuntimeConstants;
+import panda.interpreter.runtime.ProcessStack;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Per call site cache of the overriding methods selected by the runtime type of the receiver.
+ * The cache starts monomorphic, grows up to {@link #POLYMORPHIC_LIMIT} entries and then
+ * becomes megamorphic, where methods selected by the generic lookup in {@link Methods} are kept in a shared map.
+ * Hits and misses are counted only if {@link panda.interpreter.runtime.PandaRuntimeConstants#INLINE_CACHE_STATISTICS} is enabled.
+ */
+public final class MethodInlineCache {
+
+    public static final int POLYMORPHIC_LIMIT = 4;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final TypeMethod method;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Entry[] entries = EMPTY;
+    private volatile @Nullable Map<FramedScope, TypeMethod> megamorphicTargets;
+    private volatile List<? extends Typed> parameterTypes;
+
+    private MethodInlineCache(TypeMethod method) {
+        this.method = method;
+    }
+
+    public @Nullable Object invoke(ProcessStack stack, @Nullable Object instance, Object... arguments) throws Exception {
+        return resolve(instance).invoke(stack, instance, arguments);
+    }
+
+    /**
+     * Select method that should be invoked for the given receiver
+     *
+     * @param instance the receiver of call
+     * @return the overriding method or the method resolved at parse time
+     */
+    public TypeMethod resolve(@Nullable Object instance) {
+        if (!(instance instanceof Frameable)) {
+            return method;
+        }
+
+        Frame frame = ((Frameable) instance).__panda__to_frame();
+        FramedScope scope = frame.getFramedScope();
+
+        for (Entry entry : entries) {
+            if (entry.scope == scope) {
+                if (PandaRuntimeConstants.INLINE_CACHE_STATISTICS) {
+                    hits.increment();
+                }
+
+                return entry.method;
+            }
+        }
+
+        Map<FramedScope, TypeMethod> targets = megamorphicTargets;
+
+        if (targets != null) {
+            TypeMethod target = targets.get(scope);
+
+            if (target != null) {
+                if (PandaRuntimeConstants.INLINE_CACHE_STATISTICS) {
+                    hits.increment();
+                }
+
+                return target;
+            }
+        }
+
+        if (PandaRuntimeConstants.INLINE_CACHE_STATISTICS) {
+            misses.increment();
+        }
+
+        TypeMethod selected = lookup(scope);
+
+        if (targets != null) {
+            targets.putIfAbsent(scope, selected);
+        }
+        else {
+            update(scope, selected);
+        }
+
+        return selected;
+    }
+
+    private synchronized void update(FramedScope scope, TypeMethod selected) {
+        Entry[] current = entries;
+
+        for (Entry entry : current) {
+            if (entry.scope == scope) {
+                return;
+            }
+        }
+
+        if (megamorphicTargets != null) {
+            megamorphicTargets.putIfAbsent(scope, selected);
+            return;
+        }
+
+        if (current.length == POLYMORPHIC_LIMIT) {
+            Map<FramedScope, TypeMethod> targets = new ConcurrentHashMap<>();
+
+            for (Entry entry : current) {
+                targets.put(entry.scope, entry.method);
+            }
+
+            targets.put(scope, selected);
+            this.megamorphicTargets = targets;
+            this.entries = EMPTY;
+            return;
+        }
+
+        Entry[] extended = new Entry[current.length + 1];
+        System.arraycopy(current, 0, extended, 0, current.length);
+        extended[current.length] = new Entry(scope, selected);
+        this.entries = extended;
+    }
+
+    private TypeMethod lookup(FramedScope scope) {
+        if (!(scope instanceof TypeScope)) {
+            return method;
+        }
+
+        Type receiverType = ((TypeScope) scope).getReference().fetchType();
+
+        if (receiverType == method.getType()) {
+            return method;
+        }
+
+        if (parameterTypes == null) {
+            this.parameterTypes = method.getParameters().stream()
+                    .map(parameter -> (Typed) parameter::getKnownType)
+                    .collect(Collectors.toList());
+        }
+
+        TypeMethod selected = receiverType.getMethods().getMethod(method.getSimpleName(), parameterTypes).getOrNull();
+        return selected == null || selected.isAbstract() || selected.isStatic() ? method : selected;
+    }
+
+    public State getState() {
+        if (megamorphicTargets != null) {
+            return State.MEGAMORPHIC;
+        }
+
+        switch (entries.length) {
+            case 0:
+                return State.UNINITIALIZED;
+            case 1:
+                return State.MONOMORPHIC;
+            default:
+                return State.POLYMORPHIC;
+        }
+    }
+
+    /**
+     * Get amount of calls resolved by the cache, always 0 if statistics are disabled
+     *
+     * @return the amount of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get amount of calls that required lookup of method, always 0 if statistics are disabled
+     *
+     * @return the amount of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public TypeMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInlineCache[" + method + ", " + getState() + ", hits=" + getHits() + ", misses=" + getMisses() + "]";
+    }
+
+    /**
+     * Create cache for the given member if it may be overridden by Panda types.
+     * Static methods and methods mapped from Java are dispatched without the cache.
+     *
+     * @param method the method resolved at parse time
+     * @return the cache or null if method does not support virtual dispatch
+     */
+    public static @Nullable MethodInlineCache of(TypeMethod method) {
+        if (method.isStatic() || method.isNative()) {
+            return null;
+        }
+
+        return new MethodInlineCache(method);
+    }
+
+    public enum State {
+        UNINITIALIZED,
+        MONOMORPHIC,
+        POLYMORPHIC,
+        MEGAMORPHIC
+    }
+
+    private static final class Entry {
+
+        private final FramedScope scope;
+        private final TypeMethod method;
+
+        private Entry(FramedScope scope, TypeMethod method) {
+            this.scope = scope;
+            this.method = method;
+        }
+
+    }
+
+}
@@ -17,6 +17,8 @@
 package panda.interpreter.architecture.type.member.method;
 
 import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.Application;
+import panda.interpreter.architecture.dynamic.AbstractLivingFrameUtils;
 import panda.interpreter.architecture.dynamic.Frame;
 import panda.interpreter.architecture.dynamic.Frameable;
 import panda.interpreter.architecture.statement.AbstractPropertyFramedScope;
@@ -24,6 +26,10 @@
 import panda.interpreter.architecture.type.member.MemberInvoker;
 import panda.interpreter.architecture.type.member.parameter.ParameterUtils;
 import panda.interpreter.architecture.type.member.parameter.PropertyParameter;
+import panda.interpreter.runtime.PandaProcess;
+import panda.interpreter.runtime.PandaRuntimeConstants;
+import panda.interpreter.runtime.compiler.CompiledMethod;
+import panda.interpreter.runtime.compiler.MethodCompiler;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
@@ -32,6 +38,10 @@
 
 public final class MethodScope extends AbstractPropertyFramedScope implements MemberInvoker<TypeMethod, Frameable, Object> {
 
+    private volatile @Nullable CompiledMethod compiledMethod;
+    private volatile boolean compilationAttempted;
+    private int invocations;
+
     public MethodScope(Localizable localizable, List<PropertyParameter> parameters) {
         super(localizable, parameters);
     }
@@ -45,7 +55,11 @@ public MethodFrame revive(ProcessStack stack, Object instance) {
     public @Nullable Object invoke(TypeMethod method, ProcessStack stack, @Nullable Frameable instance, Object[] arguments) throws Exception {
         MethodFrame scopeInstance = revive(stack, instance != null ? instance.__panda__to_frame() : null);
         ParameterUtils.assignValues(scopeInstance, arguments);
-        Result<?> result = stack.callFrame(scopeInstance, scopeInstance);
+
+        CompiledMethod compiled = compile(method, stack);
+        Result<?> result = compiled != null
+                ? stack.callCustomFrame(scopeInstance, scopeInstance, () -> compiled.call(stack, scopeInstance, AbstractLivingFrameUtils.extractMemory(scopeInstance)))
+                : stack.callFrame(scopeInstance, scopeInstance);
 
         if (result == null) {
             return null;
@@ -54,6 +68,34 @@ public MethodFrame revive(ProcessStack stack, Object instance) {
         return result.getResult();
     }
 
+    private @Nullable CompiledMethod compile(TypeMethod method, ProcessStack stack) {
+        if (compilationAttempted || PandaRuntimeConstants.COMPILATION_THRESHOLD < 0) {
+            return compiledMethod;
+        }
+
+        // racy counter is fine, the threshold is only a hint
+        if (invocations++ < PandaRuntimeConstants.COMPILATION_THRESHOLD) {
+            return null;
+        }
+
+        synchronized (this) {
+            if (!compilationAttempted) {
+                this.compiledMethod = MethodCompiler.compile(method.getSimpleName(), this).getOrNull();
+                this.compilationAttempted = true;
+
+                if (compiledMethod == null && stack.getProcess() instanceof PandaProcess) {
+                    Application application = ((PandaProcess) stack.getProcess()).getApplication();
+
+                    if (application != null) {
+                        application.getLogger().debug("Method " + method.getName() + " could not be compiled and stays in the interpreter");
+                    }
+                }
+            }
+        }
+
+        return compiledMethod;
+    }
+
     public static final class MethodFrame extends MemberFrameImpl<MethodScope> {
 
         public MethodFrame(MethodScope method, Frame instance) {
@@ -32,7 +32,7 @@ public PandaMethods(Type type) {
 
     @Override
     public Option<TypeMethod> getMethod(String name, List<? extends Typed> types) {
-        for (TypeMethod typeMethod : getPropertiesLike(name)) {
+        for (TypeMethod typeMethod : getPropertiesLike(name, types.size())) {
             if (typeMethod.isInvokableBy(types)) {
                 return Option.of(typeMethod);
             }
@@ -41,11 +41,6 @@ public Option<TypeMethod> getMethod(String name, List<? extends Typed> types) {
         return Option.none();
     }
 
-    @Override
-    public List<? extends TypeMethod> getPropertiesLike(String name) {
-        return super.getPropertiesLike(name, method -> true);
-    }
-
     @Override
     public List<? extends TypeMethod> getProperties() {
         return super.getProperties(method -> super.type.getState() == State.ABSTRACT || !method.isAbstract());
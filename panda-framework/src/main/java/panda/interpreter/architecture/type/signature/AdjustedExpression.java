@@ -16,26 +16,51 @@
 
 package panda.interpreter.architecture.type.signature;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.expression.ExpressionUtils;
 import panda.interpreter.architecture.expression.ExpressionValueType;
 import panda.interpreter.architecture.type.member.MemberInvoker;
 import panda.interpreter.architecture.type.member.ParametrizedMember;
+import panda.interpreter.architecture.type.member.method.MethodInlineCache;
+import panda.interpreter.architecture.type.member.method.TypeMethod;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompilationUtils;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+import panda.utilities.text.Joiner;
 
+import java.util.ArrayList;
 import java.util.List;
 
-public final class AdjustedExpression implements Expression {
+public final class AdjustedExpression implements Expression, CompilableExpression, OptimizableExpression {
 
     private final ParametrizedMember member;
     private final MemberInvoker<ParametrizedMember, Object, Object> instanceInvoker;
     private final List<? extends Expression> arguments;
     private final Signature returnType;
+    private final @Nullable Signature instanceSignature;
+    private final @Nullable Expression instanceExpression;
+    private final @Nullable MethodInlineCache inlineCache;
 
     public AdjustedExpression(MemberInvoker<ParametrizedMember, Object, Object> instanceInvoker, Signature instanceSignature, ParametrizedMember member, List<? extends Expression> arguments) {
+        this(instanceInvoker, instanceSignature, member, arguments, null);
+    }
+
+    public AdjustedExpression(Expression instance, ParametrizedMember member, List<? extends Expression> arguments) {
+        this((property, stack, currentInstance, args) -> instance.evaluate(stack, currentInstance), instance.getSignature(), member, arguments, instance);
+    }
+
+    private AdjustedExpression(MemberInvoker<ParametrizedMember, Object, Object> instanceInvoker, Signature instanceSignature, ParametrizedMember member, List<? extends Expression> arguments, @Nullable Expression instanceExpression) {
         this.member = member;
+        this.instanceExpression = instanceExpression;
         this.instanceInvoker = instanceInvoker;
         this.arguments = arguments;
+        this.inlineCache = member instanceof TypeMethod ? MethodInlineCache.of((TypeMethod) member) : null;
+        this.instanceSignature = instanceSignature;
 
         if (instanceSignature == null) {
             this.returnType = member.getReturnType();
@@ -45,10 +70,6 @@ public AdjustedExpression(MemberInvoker<ParametrizedMember, Object, Object> inst
         }
     }
 
-    public AdjustedExpression(Expression instance, ParametrizedMember member, List<? extends Expression> arguments) {
-        this((property, stack, currentInstance, args) -> instance.evaluate(stack, currentInstance), instance.getSignature(), member, arguments);
-    }
-
     @Override
     @SuppressWarnings("unchecked")
     public Object evaluate(ProcessStack stack, Object instance) throws Exception {
@@ -58,9 +79,61 @@ public Object evaluate(ProcessStack stack, Object instance) throws Exception {
             instance = instanceInvoker.invoke(member, stack, instance, values);
         }
 
+        if (inlineCache != null) {
+            return inlineCache.invoke(stack, instance, values);
+        }
+
         return member.invoke(stack, instance, values);
     }
 
+    @Override
+    public CompiledExpression compile(Compilation compilation) {
+        String values = "new java.lang.Object[] { " + Joiner.on(", ")
+                .join(arguments, argument -> compilation.toObject(compilation.expression(argument)))
+                .toString() + " }";
+
+        String memberReference = inlineCache != null
+                ? compilation.constant(inlineCache, MethodInlineCache.class)
+                : compilation.constant(member, ParametrizedMember.class);
+        String invoke = CompilationUtils.class.getName() + ".invoke(" + memberReference + ", ";
+
+        if (instanceExpression != null) {
+            // arguments are evaluated before the instance, just like in the interpreter
+            return CompiledExpression.of(invoke + "stack, " + values + ", " + compilation.toObject(compilation.expression(instanceExpression)) + ")", Object.class);
+        }
+
+        if (instanceInvoker != null) {
+            String invoker = compilation.constant(instanceInvoker, MemberInvoker.class);
+            return CompiledExpression.of(invoke + invoker + ", stack, instance, " + values + ")", Object.class);
+        }
+
+        return CompiledExpression.of(invoke + "stack, " + values + ", instance)", Object.class);
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        List<Expression> optimizedArguments = new ArrayList<>(arguments.size());
+        boolean changed = false;
+
+        for (Expression argument : arguments) {
+            Expression optimizedArgument = optimizer.optimize(argument);
+            optimizedArguments.add(optimizedArgument);
+            changed |= optimizedArgument != argument;
+        }
+
+        if (instanceExpression != null) {
+            Expression optimizedInstance = optimizer.optimize(instanceExpression);
+
+            if (changed || optimizedInstance != instanceExpression) {
+                return new AdjustedExpression(optimizedInstance, member, optimizedArguments);
+            }
+
+            return null;
+        }
+
+        return changed ? new AdjustedExpression(instanceInvoker, instanceSignature, member, optimizedArguments) : null;
+    }
+
     @Override
     public Signature getSignature() {
         return returnType;
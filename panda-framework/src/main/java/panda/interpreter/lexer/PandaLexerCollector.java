@@ -29,16 +29,16 @@
 
 final class PandaLexerCollector {
 
-    private final PandaLexerWorker worker;
+    private final PandaLexerConfiguration configuration;
     private final List<TokenInfo> representations = new ArrayList<>();
     private final Stack<Pair<TokenInfo, List<TokenInfo>>> sections = new Stack<>();
 
-    public PandaLexerCollector(PandaLexerWorker worker) {
-        this.worker = worker;
+    public PandaLexerCollector(PandaLexerConfiguration configuration) {
+        this.configuration = configuration;
     }
 
     protected void add(TokenInfo representation) {
-        if (!worker.getConfiguration().enabledSections) {
+        if (!configuration.enabledSections) {
             representations.add(representation);
             return;
         }
@@ -96,10 +96,10 @@ private void popSection(TokenInfo closingSeparator) {
         sections.peek().getSecond().add(sectionInfo);
     }
 
-    protected List<TokenInfo> collect() {
+    protected List<TokenInfo> collect(CharSequence preview) {
         if (!sections.isEmpty()) {
             throw new PandaLexerFailure(
-                    worker.getBuilder().toString(), // current line preview
+                    preview, // current line preview
                     sections.peek().toString(), // indicate current section
                     sections.peek().getFirst().getLocation(), // opening separator points the beginning of section
                     "Cannot find closing separator",
@@ -88,4 +88,13 @@ public PandaLexer build() {
         return new PandaLexer(this);
     }
 
+    /**
+     * Build lexer that precompiles the syntax into a prefix tree of tokens and converts sources in a single pass
+     *
+     * @return the lexer instance
+     */
+    public PandaTrieLexer compile() {
+        return new PandaTrieLexer(this);
+    }
+
 }
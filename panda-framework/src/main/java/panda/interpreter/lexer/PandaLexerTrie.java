@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.lexer;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.resource.Syntax;
+import panda.interpreter.resource.syntax.sequence.Sequence;
+import panda.interpreter.token.Token;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Syntax precompiled into the prefix tree of tokens, used by {@link panda.interpreter.lexer.PandaTrieLexer}.
+ * Separators and operators may match a prefix of the token preview, keywords and literals have to match the whole preview.
+ * If more than one token matches, the first one in the order of {@link panda.interpreter.resource.Syntax} collections wins.
+ */
+final class PandaLexerTrie {
+
+    private static final int ASCII = 128;
+
+    private final Node root = new Node();
+    private final BitSet specialCharacters = new BitSet();
+    private final Sequence[] sequences;
+    private final boolean ignoringCase;
+
+    PandaLexerTrie(Syntax syntax, boolean ignoringCase) {
+        this.ignoringCase = ignoringCase;
+        this.sequences = syntax.getSequences().toArray(new Sequence[0]);
+
+        for (char specialCharacter : syntax.getSpecialCharacters()) {
+            specialCharacters.set(specialCharacter);
+        }
+
+        int rank = 0;
+        rank = insert(syntax.getSeparators(), rank, false);
+        rank = insert(syntax.getOperators(), rank, false);
+        rank = insert(syntax.getKeywords(), rank, true);
+        insert(syntax.getLiterals(), rank, true);
+    }
+
+    private int insert(Collection<? extends Token> tokens, int rank, boolean whole) {
+        for (Token token : tokens) {
+            String value = ignoringCase ? token.getValue().toLowerCase() : token.getValue();
+            Node node = root;
+
+            for (int index = 0; index < value.length(); index++) {
+                node = node.getOrCreate(value.charAt(index));
+            }
+
+            if (whole && node.wholeToken == null) {
+                node.wholeToken = token;
+                node.wholeRank = rank;
+            }
+            else if (!whole && node.prefixToken == null) {
+                node.prefixToken = token;
+                node.prefixRank = rank;
+            }
+
+            rank++;
+        }
+
+        return rank;
+    }
+
+    /**
+     * Find token at the beginning of the given range of characters
+     *
+     * @param content the source
+     * @param start the index of the first character in range
+     * @param end the index after the last character in range
+     * @return the matched token or null
+     */
+    @Nullable Token match(char[] content, int start, int end) {
+        Token matched = null;
+        int matchedRank = Integer.MAX_VALUE;
+        Node node = root;
+
+        for (int index = start; index < end; index++) {
+            node = node.get(ignoringCase ? Character.toLowerCase(content[index]) : content[index]);
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.prefixToken != null && node.prefixRank < matchedRank) {
+                matched = node.prefixToken;
+                matchedRank = node.prefixRank;
+            }
+
+            if (node.wholeToken != null && index + 1 == end && node.wholeRank < matchedRank) {
+                matched = node.wholeToken;
+                matchedRank = node.wholeRank;
+            }
+        }
+
+        return matched;
+    }
+
+    /**
+     * Find sequence started by the given range of characters
+     *
+     * @param content the source
+     * @param start the index of the first character in range
+     * @param end the index after the last character in range
+     * @return the matched sequence or null
+     */
+    @Nullable Sequence matchSequence(char[] content, int start, int end) {
+        for (Sequence sequence : sequences) {
+            if (regionMatches(content, start, end, sequence.getSequenceStart(), false)) {
+                return sequence;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if the given range of characters starts or ends with the given value
+     */
+    static boolean regionMatches(char[] content, int start, int end, String value, boolean fromEnd) {
+        int length = value.length();
+
+        if (end - start < length) {
+            return false;
+        }
+
+        int offset = fromEnd ? end - length : start;
+
+        for (int index = 0; index < length; index++) {
+            if (content[offset + index] != value.charAt(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    boolean containsSpecialCharacter(char[] content, int start, int end) {
+        for (int index = start; index < end; index++) {
+            if (specialCharacters.get(content[index])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    boolean isSpecialCharacter(char character) {
+        return specialCharacters.get(character);
+    }
+
+    private static final class Node {
+
+        private final Node[] children = new Node[ASCII];
+        private @Nullable Map<Character, Node> extendedChildren;
+        private @Nullable Token prefixToken;
+        private int prefixRank;
+        private @Nullable Token wholeToken;
+        private int wholeRank;
+
+        private @Nullable Node get(char character) {
+            if (character < ASCII) {
+                return children[character];
+            }
+
+            return extendedChildren != null ? extendedChildren.get(character) : null;
+        }
+
+        private Node getOrCreate(char character) {
+            if (character < ASCII) {
+                Node child = children[character];
+                return child != null ? child : (children[character] = new Node());
+            }
+
+            if (extendedChildren == null) {
+                this.extendedChildren = new HashMap<>();
+            }
+
+            return extendedChildren.computeIfAbsent(character, key -> new Node());
+        }
+
+    }
+
+}
@@ -25,7 +25,7 @@
 
 public final class PandaLexerUtils {
 
-    private static final PandaLexer LEXER = PandaLexer.of(new PandaSyntax()).enableSections().build();
+    private static final Lexer LEXER = PandaLexer.of(new PandaSyntax()).enableSections().compile();
 
     public static Snippet convert(String location, String source) {
         // TODO: module
@@ -39,7 +39,7 @@ final class PandaLexerWorker {
     private final Collection<Token> lineTokens = new ArrayList<>();
     private final PandaLexerTokenExtractor extractor = new PandaLexerTokenExtractor(this);
     private final PandaLexerSequencer sequencer = new PandaLexerSequencer(this);
-    private final PandaLexerCollector collector = new PandaLexerCollector(this);
+    private final PandaLexerCollector collector;
 
     private final StringBuilder linePreview = new StringBuilder();
     private boolean previousSpecial;
@@ -48,6 +48,7 @@ final class PandaLexerWorker {
     protected PandaLexerWorker(PandaLexer lexer, Source source) {
         this.lexer = lexer;
         this.source = source;
+        this.collector = new PandaLexerCollector(lexer.getConfiguration());
     }
 
     protected Snippet convert() {
@@ -68,7 +69,7 @@ else if (content.isEmpty()) {
             checkLine();
         }
 
-        return PandaSnippet.ofImmutable(collector.collect());
+        return PandaSnippet.ofImmutable(collector.collect(builder));
     }
 
     private void next(char character) {
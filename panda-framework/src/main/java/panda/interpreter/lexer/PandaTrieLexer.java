@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.lexer;
+
+import panda.interpreter.source.Source;
+import panda.interpreter.token.Snippet;
+
+import java.util.Arrays;
+
+/**
+ * Lexer that precompiles syntax into {@link panda.interpreter.lexer.PandaLexerTrie} and converts source in a single pass.
+ * Produces the same tokens as {@link panda.interpreter.lexer.PandaLexer}.
+ */
+public final class PandaTrieLexer implements Lexer {
+
+    private final PandaLexerConfiguration configuration;
+    private final PandaLexerTrie trie;
+
+    protected PandaTrieLexer(PandaLexerConfiguration configuration) {
+        this.configuration = configuration;
+        this.trie = new PandaLexerTrie(configuration.syntax, configuration.ignoringCase);
+    }
+
+    @Override
+    public Snippet convert(Source source) {
+        String content = source.getContent();
+
+        if (content == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        else if (content.isEmpty()) {
+            throw new IllegalArgumentException("Source is empty");
+        }
+
+        return convert(source, toCharArray(content));
+    }
+
+    /**
+     * Convert content of source, the array has to end with line separator
+     *
+     * @param source the source
+     * @param content the normalized content of source
+     * @return the snippet
+     */
+    public Snippet convert(Source source, char[] content) {
+        PandaTrieLexerWorker worker = new PandaTrieLexerWorker(this, source, content);
+        return worker.convert();
+    }
+
+    /**
+     * Replace system line separators with new line character and append the trailing line separator
+     */
+    private static char[] toCharArray(String content) {
+        String separator = System.lineSeparator();
+        char[] result = new char[content.length() + 1];
+        int length = 0;
+
+        for (int index = 0; index < content.length(); index++) {
+            if (!separator.equals("\n") && content.startsWith(separator, index)) {
+                result[length++] = '\n';
+                index += separator.length() - 1;
+                continue;
+            }
+
+            result[length++] = content.charAt(index);
+        }
+
+        result[length++] = '\n';
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    protected PandaLexerTrie getTrie() {
+        return trie;
+    }
+
+    public PandaLexerConfiguration getConfiguration() {
+        return configuration;
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.lexer;
+
+import panda.interpreter.resource.syntax.TokenTypes;
+import panda.interpreter.resource.syntax.auxiliary.Indentation;
+import panda.interpreter.resource.syntax.sequence.Sequence;
+import panda.interpreter.resource.syntax.sequence.SequenceToken;
+import panda.interpreter.source.Source;
+import panda.interpreter.token.PandaLocation;
+import panda.interpreter.token.PandaSnippet;
+import panda.interpreter.token.PandaToken;
+import panda.interpreter.token.PandaTokenInfo;
+import panda.interpreter.token.Snippet;
+import panda.interpreter.token.Token;
+import panda.utilities.CharacterUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single pass over the source, the current token preview is represented by the range of characters instead of the buffer
+ */
+final class PandaTrieLexerWorker {
+
+    private final PandaLexerConfiguration configuration;
+    private final PandaLexerTrie trie;
+    private final Source source;
+    private final char[] content;
+
+    private final List<Token> lineTokens = new ArrayList<>();
+    private final PandaLexerCollector collector;
+
+    private Sequence sequence;
+    private boolean previousSpecial;
+    private int start;
+    private int lineStart;
+    private int line;
+
+    PandaTrieLexerWorker(PandaTrieLexer lexer, Source source, char[] content) {
+        this.configuration = lexer.getConfiguration();
+        this.trie = lexer.getTrie();
+        this.source = source;
+        this.content = content;
+        this.collector = new PandaLexerCollector(configuration);
+    }
+
+    Snippet convert() {
+        for (int index = 0; index < content.length; index++) {
+            next(index);
+
+            if (content[index] == '\n') {
+                nextLine(index + 1);
+            }
+        }
+
+        return PandaSnippet.ofImmutable(collector.collect(new String(content, start, content.length - start)));
+    }
+
+    private void next(int index) {
+        char character = content[index];
+
+        if (sequence != null) {
+            nextInSequence(index + 1);
+            return;
+        }
+
+        if (!configuration.ignoringWhitespaces && CharacterUtils.isWhitespace(character)) {
+            if (extract(index)) {
+                this.start = index + 1;
+                return;
+            }
+
+            throw new PandaLexerFailure(
+                    new String(content, lineStart, index + 1 - lineStart),
+                    new String(content, start, index - start),
+                    new PandaLocation(source, line, lineTokens.size()),
+                    "Cannot recognize token",
+                    null
+            );
+        }
+
+        boolean special = trie.isSpecialCharacter(character);
+
+        if (previousSpecial != special) {
+            extract(index);
+        }
+
+        this.previousSpecial = special;
+        this.sequence = trie.matchSequence(content, start, index + 1);
+    }
+
+    private void nextInSequence(int end) {
+        String sequenceStart = sequence.getSequenceStart();
+        String sequenceEnd = sequence.getSequenceEnd();
+
+        if (end - start < sequenceStart.length() + sequenceEnd.length() || !PandaLexerTrie.regionMatches(content, start, end, sequenceEnd, true)) {
+            return;
+        }
+
+        int valueStart = start + sequenceStart.length();
+        lineTokens.add(new SequenceToken(sequence, new String(content, valueStart, end - sequenceEnd.length() - valueStart)));
+
+        this.start = end;
+        this.sequence = null;
+    }
+
+    /**
+     * Extract tokens from the current preview
+     *
+     * @param end the index after the last character of preview
+     * @return true if the whole preview has been converted into tokens
+     */
+    private boolean extract(int end) {
+        while (start < end) {
+            int previewStart = start;
+            int previewEnd = end;
+
+            while (previewStart < previewEnd && content[previewStart] <= ' ') {
+                previewStart++;
+            }
+
+            while (previewEnd > previewStart && content[previewEnd - 1] <= ' ') {
+                previewEnd--;
+            }
+
+            if (previewStart == previewEnd) {
+                this.start = end;
+                return true;
+            }
+
+            Token token = trie.match(content, previewStart, previewEnd);
+
+            if (token == null) {
+                if (trie.containsSpecialCharacter(content, previewStart, previewEnd)) {
+                    return false;
+                }
+
+                token = new PandaToken(TokenTypes.UNKNOWN, new String(content, previewStart, previewEnd - previewStart));
+            }
+
+            lineTokens.add(token);
+            this.start = previewStart + token.getValue().length();
+        }
+
+        return true;
+    }
+
+    private void nextLine(int nextLineStart) {
+        if (configuration.includingIndentation) {
+            int paragraphEnd = lineStart;
+
+            while (paragraphEnd < nextLineStart && content[paragraphEnd] <= ' ') {
+                paragraphEnd++;
+            }
+
+            String paragraph = paragraphEnd == nextLineStart ? "" : new String(content, lineStart, paragraphEnd - lineStart);
+            collector.add(new PandaTokenInfo(Indentation.valueOf(paragraph), new PandaLocation(source, line, 0)));
+        }
+
+        int position = configuration.includingIndentation ? 1 : 0;
+
+        for (Token token : lineTokens) {
+            collector.add(new PandaTokenInfo(token, new PandaLocation(source, line, position++)));
+        }
+
+        lineTokens.clear();
+        this.lineStart = nextLineStart;
+        this.line++;
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.logging;
+
+import panda.utilities.console.Effect;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Logger that hands messages over to a background flusher, so the logging thread does not wait for the output.
+ * Messages are stored in a bounded buffer and passed to the output in batches, joined with the line separator.
+ * Channels below the threshold are rejected before anything is formatted or enqueued.
+ */
+public final class AsyncLogger implements Logger, AutoCloseable {
+
+    /**
+     * Behaviour of logger when the buffer is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the flusher frees some space
+         */
+        BLOCK,
+        /**
+         * Discard the new message
+         */
+        DROP_NEWEST,
+        /**
+         * Discard the oldest message in buffer to make space for the new one
+         */
+        DROP_OLDEST
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final Channel threshold;
+    private final Consumer<String> output;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<Entry> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ErrorFormatter errorFormatter = new ErrorFormatter(this);
+    private final Thread flusher;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+    private volatile boolean idle;
+
+    public AsyncLogger(Consumer<String> output) {
+        this(Channel.INFO, output, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    public AsyncLogger(Channel threshold, Consumer<String> output, int capacity, OverflowPolicy overflowPolicy) {
+        this.threshold = threshold;
+        this.output = output;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.flusher = new Thread(this::flushLoop, "Panda Logger");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        this.shutdownHook = new Thread(this::flush);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public boolean isEnabled(Channel channel) {
+        return channel.getPriority() >= threshold.getPriority();
+    }
+
+    @Override
+    public void log(Channel channel, String message) {
+        if (isEnabled(channel)) {
+            enqueue(new Entry(message, true));
+        }
+    }
+
+    @Override
+    public void error(String message) {
+        log(Channel.ERROR, "# " + message.replace("\n", "\n# "));
+    }
+
+    @Override
+    public void exception(Throwable throwable) {
+        errorFormatter.print(throwable);
+    }
+
+    private void enqueue(Entry entry) {
+        if (closed) {
+            write(entry.toString());
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    buffer.put(entry);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!buffer.offer(entry)) {
+                    if (buffer.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+                break;
+            default:
+                if (!buffer.offer(entry)) {
+                    dropped.incrementAndGet();
+                }
+        }
+
+        // the lock is taken only to wake up the flusher waiting for the first message
+        if (idle) {
+            wakeUp();
+        }
+    }
+
+    private synchronized void wakeUp() {
+        notifyAll();
+    }
+
+    private void flushLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (!closed || !buffer.isEmpty()) {
+            // entries are taken under the same lock as explicit flushes, so messages never overtake each other,
+            // but waiting for them releases the lock, so flushes and writes do not wait for the idle flusher
+            synchronized (this) {
+                if (buffer.isEmpty() && !closed) {
+                    this.idle = true;
+
+                    try {
+                        wait(100);
+                    } catch (InterruptedException interruptedException) {
+                        break;
+                    } finally {
+                        this.idle = false;
+                    }
+                }
+
+                buffer.drainTo(batch, MAX_BATCH_SIZE);
+
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private synchronized void writeBatch(List<Entry> batch) {
+        StringBuilder content = new StringBuilder();
+
+        for (Entry entry : batch) {
+            if (content.length() > 0) {
+                content.append(System.lineSeparator());
+            }
+
+            content.append(entry);
+        }
+
+        write(content.toString());
+    }
+
+    private synchronized void write(String content) {
+        try {
+            output.accept(content);
+        } catch (Exception exception) {
+            // the output is broken and there is nowhere to report it
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Write all the buffered messages using the current thread
+     */
+    public synchronized void flush() {
+        List<Entry> batch = new ArrayList<>(buffer.size());
+        buffer.drainTo(batch);
+
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    /**
+     * Stop the flusher and write the remaining messages.
+     * Messages logged after that are written synchronously.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        wakeUp();
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException shutdownInProgress) {
+            // the hook is already running or about to run
+        }
+
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    @Override
+    public PrintStream toPrintStream() {
+        return new PrintStream(new OutputStream() {
+
+            private final StringBuilder content = new StringBuilder();
+
+            @Override
+            public void write(int b) {
+                content.append((char) (b & 0xff));
+
+                if (content.charAt(content.length() - 1) == '\n') {
+                    content.setLength(content.length() - 1);
+                    flush();
+                }
+            }
+
+            @Override
+            public void flush() {
+                enqueue(new Entry(content.toString(), false));
+                content.setLength(0);
+            }
+        });
+    }
+
+    /**
+     * Get amount of messages discarded because of the overflow policy
+     *
+     * @return the amount of dropped messages
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private static final class Entry {
+
+        private final String message;
+        private final boolean paint;
+
+        private Entry(String message, boolean paint) {
+            this.message = message;
+            this.paint = paint;
+        }
+
+        @Override
+        public String toString() {
+            return paint ? Effect.paint(message) : message;
+        }
+
+    }
+
+}
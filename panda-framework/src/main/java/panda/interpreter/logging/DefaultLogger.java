@@ -37,9 +37,14 @@ public DefaultLogger(Channel threshold, Consumer<String> messageConsumer) {
         this.messageConsumer = messageConsumer;
     }
 
+    @Override
+    public boolean isEnabled(Channel channel) {
+        return channel.getPriority() >= threshold.getPriority();
+    }
+
     @Override
     public void log(Channel channel, String message) {
-        if (channel.getPriority() >= threshold.getPriority()) {
+        if (isEnabled(channel)) {
             messageConsumer.accept(Effect.paint(message));
         }
     }
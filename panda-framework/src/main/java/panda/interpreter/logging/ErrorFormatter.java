@@ -90,7 +90,7 @@ else if (throwable instanceof PandaProcessFailure) {
             logger.error("");
             logger.error("&1" + throwable.getMessage() + "&r");
 
-            for (Statement statement : failure.getStack().getLivingFramesOnStack()) {
+            for (Statement statement : failure.getLivingFrames()) {
                 Location location = statement.getSourceLocation();
                 logger.error("  at " + location.getSource().getId() + " [&1" + location.getDisplayLine() + "&r:&1" + location.getIndex() + "&r]");
             }
@@ -109,7 +109,7 @@ else if (throwable instanceof PandaProcessFailure) {
             logger.error("");
             logger.error("Given:");
             logger.error("  Message:&1 " + Option.of(throwable.getMessage()).orElseGet(throwable.toString()));
-            logger.error("  In:&1 " + stackTrace[0].toString());
+            logger.error("  In:&1 " + (stackTrace.length > 0 ? stackTrace[0].toString() : "<stackless>"));
             logger.error("  By:&1 " + throwable.getClass());
             logger.error("");
             logger.error("Stacktrace:");
@@ -22,6 +22,17 @@ public interface Logger {
 
     void log(Channel channel, String message);
 
+    /**
+     * Check if messages of the given channel are written by the logger.
+     * Callers may use it to skip formatting of messages that would be discarded anyway.
+     *
+     * @param channel the channel to check
+     * @return true if messages of the channel are logged
+     */
+    default boolean isEnabled(Channel channel) {
+        return true;
+    }
+
     void exception(Throwable throwable);
 
     default void fatal(String message) {
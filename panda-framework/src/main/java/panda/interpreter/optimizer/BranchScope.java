@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.Scope;
+
+/**
+ * Represents scope called only if its condition is satisfied, otherwise the else branch (if present) is called
+ */
+public interface BranchScope extends Scope, OptimizableStatement {
+
+    /**
+     * Replace the else branch
+     *
+     * @param elseBranch the new else branch or null to remove it
+     */
+    void replaceElseBranch(@Nullable BranchScope elseBranch);
+
+    /**
+     * Get the else branch
+     *
+     * @return the else branch or null
+     */
+    @Nullable BranchScope getElseBranch();
+
+    /**
+     * Get condition of branch
+     *
+     * @return the condition
+     */
+    Expression getCondition();
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import panda.interpreter.architecture.expression.Expression;
+
+/**
+ * Function applied by the optimizer passes on expressions of statements
+ */
+@FunctionalInterface
+public interface ExpressionOptimizer {
+
+    /**
+     * Optimize the given expression
+     *
+     * @param expression the expression to optimize
+     * @return the optimized expression or the given expression if nothing has changed
+     */
+    Expression optimize(Expression expression);
+
+}
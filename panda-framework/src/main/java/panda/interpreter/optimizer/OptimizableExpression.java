@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.Variable;
+
+/**
+ * Represents expressions (or evaluators of {@link panda.interpreter.architecture.expression.PandaExpression}) that expose their sub-expressions to the optimizer.
+ * Expressions that do not implement it are treated as opaque, so the optimizer does not look into them.
+ */
+public interface OptimizableExpression {
+
+    /**
+     * Rebuild expression using optimized sub-expressions
+     *
+     * @param optimizer the optimizer to apply on sub-expressions
+     * @return the new expression or null if none of sub-expressions has changed
+     */
+    @Nullable Expression optimize(ExpressionOptimizer optimizer);
+
+    /**
+     * Check if the expression does not have any side effects (besides the side effects of its sub-expressions) and cannot fail
+     *
+     * @return true if expression may be evaluated in advance
+     */
+    default boolean isPure() {
+        return false;
+    }
+
+    /**
+     * Get variable modified by this expression
+     *
+     * @return the modified variable or null if expression does not modify any variable
+     */
+    default @Nullable Variable getModifiedVariable() {
+        return null;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import panda.interpreter.source.Location;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Changes applied by the optimizer
+ */
+public final class OptimizationReport {
+
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Record change
+     *
+     * @param pass the pass that applied the change
+     * @param location the location of changed element
+     * @param description the description of change
+     */
+    public void record(OptimizerPass pass, Location location, String description) {
+        changes.add(new Change(pass.getName(), location, description));
+    }
+
+    /**
+     * Count changes applied by the given pass
+     *
+     * @param pass the name of pass
+     * @return the amount of changes
+     */
+    public int count(String pass) {
+        int count = 0;
+
+        for (Change change : changes) {
+            if (change.getPass().equals(pass)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public List<? extends Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public static final class Change {
+
+        private final String pass;
+        private final Location location;
+        private final String description;
+
+        private Change(String pass, Location location, String description) {
+            this.pass = pass;
+            this.location = location;
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Location getLocation() {
+            return location;
+        }
+
+        public String getPass() {
+            return pass;
+        }
+
+        @Override
+        public String toString() {
+            return pass + ": " + description + " at " + location.getSource().getId() + ":" + location.getDisplayLine();
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import panda.interpreter.architecture.statement.FramedScope;
+import panda.interpreter.optimizer.passes.BranchPruningPass;
+import panda.interpreter.optimizer.passes.ConstantPropagationPass;
+import panda.interpreter.optimizer.passes.LoopInvariantHoistingPass;
+import panda.interpreter.optimizer.passes.UnreachableStatementsPass;
+import panda.interpreter.parser.Context;
+import panda.interpreter.parser.stage.Layer;
+import panda.interpreter.parser.stage.Phases;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Applies optimizer passes on parsed framed scopes, passes are called in the registration order.
+ * Passes may be disabled using the comma separated list of their names in the {@link #DISABLED_PASSES_PROPERTY} property.
+ */
+public final class Optimizer {
+
+    public static final String DISABLED_PASSES_PROPERTY = "panda.optimizer.disabled";
+
+    private final List<OptimizerPass> passes;
+
+    public Optimizer(List<? extends OptimizerPass> passes) {
+        this.passes = new ArrayList<>(passes);
+    }
+
+    /**
+     * Schedule optimization of the given scope in the {@link panda.interpreter.parser.stage.Phases#OPTIMIZE} phase
+     *
+     * @param context the current context
+     * @param scope the scope to optimize
+     */
+    public void delegate(Context<?> context, FramedScope scope) {
+        context.getStageService().delegate("optimize scope", Phases.OPTIMIZE, Layer.NEXT_DEFAULT, optimizePhase -> {
+            OptimizationReport report = optimize(scope);
+
+            for (OptimizationReport.Change change : report.getChanges()) {
+                context.getLogger().debug("[optimizer] " + change);
+            }
+        });
+    }
+
+    /**
+     * Optimize the given scope
+     *
+     * @param scope the scope to optimize
+     * @return the report of applied changes
+     */
+    public OptimizationReport optimize(FramedScope scope) {
+        OptimizationReport report = new OptimizationReport();
+
+        for (OptimizerPass pass : passes) {
+            pass.optimize(scope, report);
+        }
+
+        return report;
+    }
+
+    public List<? extends OptimizerPass> getPasses() {
+        return Collections.unmodifiableList(passes);
+    }
+
+    /**
+     * Create optimizer with all the default passes, except the disabled ones
+     *
+     * @param disabledPasses the comma separated names of disabled passes
+     * @return the optimizer
+     */
+    public static Optimizer createDefault(String disabledPasses) {
+        List<String> disabled = Arrays.asList(disabledPasses.replace(" ", "").split(","));
+        List<OptimizerPass> passes = new ArrayList<>();
+
+        for (OptimizerPass pass : Arrays.asList(new ConstantPropagationPass(), new BranchPruningPass(), new UnreachableStatementsPass(), new LoopInvariantHoistingPass())) {
+            if (!disabled.contains(pass.getName())) {
+                passes.add(pass);
+            }
+        }
+
+        return new Optimizer(passes);
+    }
+
+    /**
+     * Get optimizer configured by the current value of {@link #DISABLED_PASSES_PROPERTY} property
+     *
+     * @return the default optimizer
+     */
+    public static Optimizer getDefault() {
+        return createDefault(System.getProperty(DISABLED_PASSES_PROPERTY, ""));
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import panda.interpreter.architecture.statement.FramedScope;
+
+/**
+ * Single transformation applied by the {@link panda.interpreter.optimizer.Optimizer}
+ */
+public interface OptimizerPass {
+
+    /**
+     * Optimize statements of the given frame
+     *
+     * @param scope the framed scope to optimize
+     * @param report the report of applied changes
+     */
+    void optimize(FramedScope scope, OptimizationReport report);
+
+    /**
+     * Get name of pass, used to enable or disable it
+     *
+     * @return the name of pass
+     */
+    String getName();
+
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.Controller;
+import panda.interpreter.architecture.dynamic.Executable;
+import panda.interpreter.architecture.dynamic.accessor.Accessor;
+import panda.interpreter.architecture.dynamic.accessor.AccessorExpression;
+import panda.interpreter.architecture.dynamic.assigner.AssignerExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.expression.ExpressionEvaluator;
+import panda.interpreter.architecture.expression.ExpressionUtils;
+import panda.interpreter.architecture.expression.ExpressionValueType;
+import panda.interpreter.architecture.expression.PandaExpression;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.architecture.statement.Variable;
+import panda.interpreter.architecture.statement.VariableAccessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class OptimizerUtils {
+
+    private OptimizerUtils() { }
+
+    /**
+     * Get optimizable representation of expression
+     *
+     * @param expression the expression to check
+     * @return the optimizable expression or null if expression is opaque
+     */
+    public static @Nullable OptimizableExpression asOptimizable(Expression expression) {
+        if (expression instanceof OptimizableExpression) {
+            return (OptimizableExpression) expression;
+        }
+
+        if (expression instanceof AssignerExpression) {
+            Object assigner = ((AssignerExpression) expression).getAssigner();
+            return assigner instanceof OptimizableExpression ? (OptimizableExpression) assigner : null;
+        }
+
+        if (expression instanceof PandaExpression) {
+            ExpressionEvaluator evaluator = ((PandaExpression) expression).getEvaluator();
+
+            if (evaluator instanceof OptimizableExpression) {
+                return (OptimizableExpression) evaluator;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Apply optimizer on sub-expressions of the given expression
+     *
+     * @param expression the expression to optimize
+     * @param optimizer the optimizer to apply
+     * @return the rebuilt expression or the given expression if nothing has changed
+     */
+    public static Expression optimizeChildren(Expression expression, ExpressionOptimizer optimizer) {
+        OptimizableExpression optimizable = asOptimizable(expression);
+
+        if (optimizable == null) {
+            return expression;
+        }
+
+        Expression optimized = optimizable.optimize(optimizer);
+        return optimized != null ? optimized : expression;
+    }
+
+    /**
+     * Get direct sub-expressions of expression
+     *
+     * @param expression the optimizable expression
+     * @return the list of sub-expressions
+     */
+    public static List<Expression> getChildren(OptimizableExpression expression) {
+        List<Expression> children = new ArrayList<>();
+
+        expression.optimize(child -> {
+            children.add(child);
+            return child;
+        });
+
+        return children;
+    }
+
+    /**
+     * Get top-level expressions of statement
+     *
+     * @param statement the statement to check
+     * @return the list of expressions
+     */
+    public static List<Expression> getExpressions(OptimizableStatement statement) {
+        List<Expression> expressions = new ArrayList<>();
+
+        statement.optimize(expression -> {
+            expressions.add(expression);
+            return expression;
+        });
+
+        return expressions;
+    }
+
+    /**
+     * Get all expressions (including sub-expressions) of statement
+     *
+     * @param statement the statement to visit
+     * @return the list of expressions
+     */
+    public static List<Expression> getAllExpressions(OptimizableStatement statement) {
+        List<Expression> expressions = new ArrayList<>();
+
+        statement.optimize(new ExpressionOptimizer() {
+            @Override
+            public Expression optimize(Expression expression) {
+                expressions.add(expression);
+                return optimizeChildren(expression, this);
+            }
+        });
+
+        return expressions;
+    }
+
+    /**
+     * Get all statements of scope, including statements of nested scopes and else branches
+     *
+     * @param scope the scope to visit
+     * @return the list of statements
+     */
+    public static List<Statement> getAllStatements(Scope scope) {
+        List<Statement> statements = new ArrayList<>();
+
+        for (Statement statement : scope.getStatements()) {
+            statements.add(statement);
+
+            for (Scope nestedScope : getNestedScopes(statement)) {
+                if (nestedScope != statement) {
+                    statements.add(nestedScope);
+                }
+
+                statements.addAll(getAllStatements(nestedScope));
+            }
+        }
+
+        return statements;
+    }
+
+    /**
+     * Get scopes represented by the given statement, including else branches
+     *
+     * @param statement the statement to check
+     * @return the list of scopes
+     */
+    public static List<Scope> getNestedScopes(Statement statement) {
+        if (statement instanceof BranchScope) {
+            List<Scope> scopes = new ArrayList<>(2);
+
+            for (BranchScope branch = (BranchScope) statement; branch != null; branch = branch.getElseBranch()) {
+                scopes.add(branch);
+            }
+
+            return scopes;
+        }
+
+        if (statement instanceof Scope) {
+            return Collections.singletonList((Scope) statement);
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Count expressions modifying variables in the given scope
+     *
+     * @param scope the scope to check
+     * @return the map of variables and amount of their modifications
+     */
+    public static Map<Variable, Integer> countModifications(Scope scope) {
+        Map<Variable, Integer> modifications = new IdentityHashMap<>();
+
+        for (Statement statement : getAllStatements(scope)) {
+            if (statement instanceof OptimizableStatement) {
+                countModifications((OptimizableStatement) statement, modifications);
+            }
+        }
+
+        return modifications;
+    }
+
+    /**
+     * Count expressions modifying variables in the given statement
+     *
+     * @param statement the statement to check
+     * @param modifications the map of variables and amount of their modifications to update
+     */
+    public static void countModifications(OptimizableStatement statement, Map<Variable, Integer> modifications) {
+        for (Expression expression : getAllExpressions(statement)) {
+            OptimizableExpression optimizable = asOptimizable(expression);
+            Variable variable = optimizable != null ? optimizable.getModifiedVariable() : null;
+
+            if (variable != null) {
+                modifications.merge(variable, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Get variable assigned by statement, the assignment has to be the top-level expression of non-scope statement,
+     * so it is executed every time the statement is reached.
+     *
+     * @param statement the statement to check
+     * @return the assigned variable or null
+     */
+    public static @Nullable Variable getAssignedVariable(Statement statement) {
+        if (!(statement instanceof OptimizableStatement) || statement instanceof Scope) {
+            return null;
+        }
+
+        for (Expression expression : getExpressions((OptimizableStatement) statement)) {
+            OptimizableExpression optimizable = asOptimizable(expression);
+
+            if (optimizable != null && optimizable.getModifiedVariable() != null) {
+                return optimizable.getModifiedVariable();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get variable read by expression
+     *
+     * @param expression the expression to check
+     * @return the variable of the current frame read by expression, otherwise null
+     */
+    public static @Nullable Variable getReadVariable(Expression expression) {
+        if (!(expression instanceof AccessorExpression) || asOptimizable(expression) != null) {
+            return null;
+        }
+
+        Accessor<?> accessor = ((AccessorExpression) expression).getAccessor();
+
+        if (accessor instanceof LocalVariableAccessor || accessor instanceof VariableAccessor) {
+            return accessor.getVariable();
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if optimizer is able to look through all the statements of scope
+     *
+     * @param scope the scope to check
+     * @return true if all statements are transparent
+     * @see #isTransparent(panda.interpreter.architecture.statement.Statement)
+     */
+    public static boolean isTransparent(Scope scope) {
+        for (Statement statement : getAllStatements(scope)) {
+            if (!isTransparent(statement)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if optimizer is able to look through the statement
+     *
+     * @param statement the statement to check
+     * @return true if statement exposes all its expressions or does not contain them at all
+     */
+    public static boolean isTransparent(Statement statement) {
+        if (statement instanceof OptimizableStatement) {
+            for (Expression expression : getExpressions((OptimizableStatement) statement)) {
+                if (!isTransparent(expression)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return statement instanceof Scope || statement instanceof Controller || !(statement instanceof Executable);
+    }
+
+    /**
+     * Check if optimizer is able to look through the whole expression
+     *
+     * @param expression the expression to check
+     * @return true if expression consists only of constants, variable reads and optimizable expressions
+     */
+    public static boolean isTransparent(Expression expression) {
+        if (isConstant(expression) || getReadVariable(expression) != null) {
+            return true;
+        }
+
+        OptimizableExpression optimizable = asOptimizable(expression);
+
+        if (optimizable == null) {
+            return false;
+        }
+
+        for (Expression child : getChildren(optimizable)) {
+            if (!isTransparent(child)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get value of constant boolean expression
+     *
+     * @param expression the expression to check
+     * @return the value or null if expression is not a constant boolean
+     */
+    public static @Nullable Boolean getConstantCondition(Expression expression) {
+        if (!isConstant(expression)) {
+            return null;
+        }
+
+        Object value = ExpressionUtils.evaluateConstExpression(expression);
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+
+    public static boolean isConstant(Expression expression) {
+        return expression.getExpressionType() == ExpressionValueType.CONST;
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer.passes;
+
+import panda.interpreter.architecture.statement.FramedScope;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.optimizer.BranchScope;
+import panda.interpreter.optimizer.OptimizationReport;
+import panda.interpreter.optimizer.OptimizerPass;
+import panda.interpreter.optimizer.OptimizerUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Folds branches with constant conditions. Branch with condition that is always satisfied is replaced by its content,
+ * branch that is never called is replaced by its else branch or removed.
+ */
+public final class BranchPruningPass implements OptimizerPass {
+
+    public static final String NAME = "branch-pruning";
+
+    @Override
+    public void optimize(FramedScope scope, OptimizationReport report) {
+        prune(scope, report);
+    }
+
+    private void prune(Scope scope, OptimizationReport report) {
+        List<? extends Statement> statements = scope.getStatements();
+
+        for (int index = 0; index < statements.size(); ) {
+            Statement statement = statements.get(index);
+
+            if (statement instanceof BranchScope) {
+                BranchScope branch = (BranchScope) statement;
+                pruneElseBranches(branch, report);
+                Boolean condition = OptimizerUtils.getConstantCondition(branch.getCondition());
+
+                if (Boolean.TRUE.equals(condition)) {
+                    // inlined statements are visited in the next iteration
+                    scope.replaceStatement(branch, new ArrayList<>(branch.getStatements()));
+                    report.record(this, branch.getSourceLocation(), "inlined branch with condition that is always satisfied");
+                    continue;
+                }
+
+                if (Boolean.FALSE.equals(condition)) {
+                    BranchScope elseBranch = branch.getElseBranch();
+                    scope.replaceStatement(branch, elseBranch != null ? Collections.singletonList(elseBranch) : Collections.emptyList());
+                    report.record(this, branch.getSourceLocation(), "removed branch with condition that is never satisfied");
+                    continue;
+                }
+            }
+
+            for (Scope nestedScope : OptimizerUtils.getNestedScopes(statement)) {
+                prune(nestedScope, report);
+            }
+
+            index++;
+        }
+    }
+
+    private void pruneElseBranches(BranchScope branch, OptimizationReport report) {
+        BranchScope current = branch;
+
+        while (current.getElseBranch() != null) {
+            BranchScope elseBranch = current.getElseBranch();
+            Boolean condition = OptimizerUtils.getConstantCondition(elseBranch.getCondition());
+
+            if (Boolean.FALSE.equals(condition)) {
+                current.replaceElseBranch(elseBranch.getElseBranch());
+                report.record(this, elseBranch.getSourceLocation(), "removed else branch with condition that is never satisfied");
+                continue;
+            }
+
+            if (Boolean.TRUE.equals(condition) && elseBranch.getElseBranch() != null) {
+                elseBranch.replaceElseBranch(null);
+                report.record(this, elseBranch.getSourceLocation(), "removed else branches following the branch that is always satisfied");
+            }
+
+            current = elseBranch;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer.passes;
+
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.expression.ExpressionUtils;
+import panda.interpreter.architecture.expression.PandaExpression;
+import panda.interpreter.architecture.statement.FramedScope;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.architecture.statement.Variable;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.optimizer.OptimizableStatement;
+import panda.interpreter.optimizer.OptimizationReport;
+import panda.interpreter.optimizer.OptimizerPass;
+import panda.interpreter.optimizer.OptimizerUtils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces reads of immutable variables initialized with constant values by these values.
+ * Variable is considered constant only if its single assignment in the whole frame is a top-level expression of statement
+ * in the scope that declares the variable, so the value is known in all the statements that follow it.
+ */
+public final class ConstantPropagationPass implements OptimizerPass {
+
+    public static final String NAME = "constant-propagation";
+
+    @Override
+    public void optimize(FramedScope scope, OptimizationReport report) {
+        // hidden sub-expressions might modify variables
+        if (!OptimizerUtils.isTransparent(scope)) {
+            return;
+        }
+
+        propagate(scope, OptimizerUtils.countModifications(scope), new IdentityHashMap<>(), report);
+    }
+
+    private void propagate(Scope scope, Map<Variable, Integer> modifications, Map<Variable, Object> constants, OptimizationReport report) {
+        for (Statement statement : new ArrayList<>(scope.getStatements())) {
+            replace(statement, constants, report);
+
+            for (Scope nestedScope : OptimizerUtils.getNestedScopes(statement)) {
+                if (nestedScope != statement) {
+                    replace(nestedScope, constants, report);
+                }
+
+                propagate(nestedScope, modifications, constants, report);
+            }
+
+            Variable variable = OptimizerUtils.getAssignedVariable(statement);
+
+            if (variable == null || variable.isMutable() || modifications.getOrDefault(variable, 0) != 1 || !scope.getVariables().contains(variable)) {
+                continue;
+            }
+
+            List<Expression> expressions = OptimizerUtils.getExpressions((OptimizableStatement) statement);
+            OptimizableExpression assignment = OptimizerUtils.asOptimizable(expressions.get(0));
+
+            if (expressions.size() != 1 || assignment == null || assignment.getModifiedVariable() != variable) {
+                continue;
+            }
+
+            List<Expression> values = OptimizerUtils.getChildren(assignment);
+
+            if (values.size() != 1 || !OptimizerUtils.isConstant(values.get(0))) {
+                continue;
+            }
+
+            Object value = ExpressionUtils.evaluateConstExpression(values.get(0));
+
+            if (value != null) {
+                constants.put(variable, value);
+            }
+        }
+    }
+
+    private void replace(Statement statement, Map<Variable, Object> constants, OptimizationReport report) {
+        if (constants.isEmpty() || !(statement instanceof OptimizableStatement)) {
+            return;
+        }
+
+        ((OptimizableStatement) statement).optimize(new ExpressionOptimizer() {
+            @Override
+            public Expression optimize(Expression expression) {
+                Variable variable = OptimizerUtils.getReadVariable(expression);
+
+                if (variable == null || !constants.containsKey(variable)) {
+                    return OptimizerUtils.optimizeChildren(expression, this);
+                }
+
+                report.record(ConstantPropagationPass.this, statement.getSourceLocation(), "replaced '" + variable.getName() + "' with constant value");
+                return new PandaExpression(expression.getSignature(), constants.get(variable));
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+}
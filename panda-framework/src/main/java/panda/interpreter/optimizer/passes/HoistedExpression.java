@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer.passes;
+
+import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableStatement;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.source.Localizable;
+
+/**
+ * Stores value of expression moved out of the loop by {@link panda.interpreter.optimizer.passes.LoopInvariantHoistingPass}
+ */
+final class HoistedExpression extends AbstractExecutableStatement implements OptimizableStatement, CompilableStatement {
+
+    private Expression expression;
+
+    HoistedExpression(Localizable localizable, Expression expression) {
+        super(localizable);
+        this.expression = expression;
+    }
+
+    @Override
+    public Object execute(ProcessStack stack, Object instance) throws Exception {
+        return expression.evaluate(stack, instance);
+    }
+
+    @Override
+    public boolean compile(Compilation compilation) {
+        compilation.discard(expression);
+        return true;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.expression = optimizer.optimize(expression);
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer.passes;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.AbstractLivingFrameUtils;
+import panda.interpreter.architecture.dynamic.accessor.AccessorExpression;
+import panda.interpreter.architecture.expression.DynamicExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.AbstractPropertyFramedScope;
+import panda.interpreter.architecture.statement.FramedScope;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
+import panda.interpreter.architecture.statement.PandaVariableData;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.architecture.statement.Variable;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.LoopScope;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.optimizer.OptimizableStatement;
+import panda.interpreter.optimizer.OptimizationReport;
+import panda.interpreter.optimizer.OptimizerPass;
+import panda.interpreter.optimizer.OptimizerUtils;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves loop-invariant expressions in front of the loop. Expression is hoisted only if it is pure (does not have side effects and cannot fail)
+ * and all its operands are constants or non-nillable variables, initialized before the loop and not modified by the loop.
+ * Because of that, evaluating it in advance is safe even if the loop body is never called.
+ */
+public final class LoopInvariantHoistingPass implements OptimizerPass {
+
+    public static final String NAME = "loop-invariant-hoisting";
+
+    @Override
+    public void optimize(FramedScope scope, OptimizationReport report) {
+        // hidden sub-expressions might modify variables
+        if (!OptimizerUtils.isTransparent(scope)) {
+            return;
+        }
+
+        Set<Variable> initialized = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        if (scope instanceof AbstractPropertyFramedScope) {
+            initialized.addAll(scope.getVariables().subList(0, ((AbstractPropertyFramedScope) scope).getParameters().size()));
+        }
+
+        hoist(scope, scope, initialized, report);
+    }
+
+    private void hoist(FramedScope framedScope, Scope scope, Set<Variable> initialized, OptimizationReport report) {
+        List<? extends Statement> statements = scope.getStatements();
+
+        for (int index = 0; index < statements.size(); index++) {
+            Statement statement = statements.get(index);
+
+            for (Scope nestedScope : OptimizerUtils.getNestedScopes(statement)) {
+                Set<Variable> nestedInitialized = Collections.newSetFromMap(new IdentityHashMap<>());
+                nestedInitialized.addAll(initialized);
+                hoist(framedScope, nestedScope, nestedInitialized, report);
+            }
+
+            if (statement instanceof LoopScope) {
+                List<HoistedExpression> hoisted = hoist(framedScope, scope, (LoopScope) statement, initialized, report);
+
+                if (!hoisted.isEmpty()) {
+                    List<Statement> replacement = new ArrayList<>(hoisted);
+                    replacement.add(statement);
+                    scope.replaceStatement(statement, replacement);
+                    index += hoisted.size();
+
+                    for (HoistedExpression hoistedExpression : hoisted) {
+                        initialized.add(OptimizerUtils.getAssignedVariable(hoistedExpression));
+                    }
+                }
+            }
+
+            Variable assigned = OptimizerUtils.getAssignedVariable(statements.get(index));
+
+            if (assigned != null) {
+                initialized.add(assigned);
+            }
+        }
+    }
+
+    private List<HoistedExpression> hoist(FramedScope framedScope, Scope scope, LoopScope loop, Set<Variable> initialized, OptimizationReport report) {
+        Map<Variable, Integer> modifications = OptimizerUtils.countModifications(loop);
+        OptimizerUtils.countModifications(loop, modifications);
+
+        Set<Variable> invariants = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Variable variable : initialized) {
+            if (!variable.isNillable() && !modifications.containsKey(variable)) {
+                invariants.add(variable);
+            }
+        }
+
+        List<HoistedExpression> hoisted = new ArrayList<>();
+
+        if (invariants.isEmpty()) {
+            return hoisted;
+        }
+
+        ExpressionOptimizer optimizer = new ExpressionOptimizer() {
+            @Override
+            public Expression optimize(Expression expression) {
+                if (!isInvariant(expression, invariants) || OptimizerUtils.asOptimizable(expression) == null) {
+                    return OptimizerUtils.optimizeChildren(expression, this);
+                }
+
+                Variable variable = scope.createVariable(new PandaVariableData(expression.getSignature(), "$invariant" + framedScope.getRequiredMemorySize(), false, false));
+                variable.initialize();
+
+                LocalVariableAccessor accessor = new LocalVariableAccessor(variable);
+                hoisted.add(new HoistedExpression(loop.getSourceLocation(), accessor.toAssigner(loop.getSourceLocation(), true, expression).toExpression()));
+                report.record(LoopInvariantHoistingPass.this, loop.getSourceLocation(), "moved invariant expression in front of the loop");
+
+                return new AccessorExpression(accessor, new InvariantValue(accessor));
+            }
+        };
+
+        loop.optimize(optimizer);
+
+        for (Statement statement : OptimizerUtils.getAllStatements(loop)) {
+            if (statement instanceof OptimizableStatement) {
+                ((OptimizableStatement) statement).optimize(optimizer);
+            }
+        }
+
+        return hoisted;
+    }
+
+    private boolean isInvariant(Expression expression, Set<Variable> invariants) {
+        if (OptimizerUtils.isConstant(expression)) {
+            return true;
+        }
+
+        Variable variable = OptimizerUtils.getReadVariable(expression);
+
+        if (variable != null) {
+            return invariants.contains(variable);
+        }
+
+        OptimizableExpression optimizable = OptimizerUtils.asOptimizable(expression);
+
+        if (optimizable == null || !optimizable.isPure() || optimizable.getModifiedVariable() != null) {
+            return false;
+        }
+
+        for (Expression child : OptimizerUtils.getChildren(optimizable)) {
+            if (!isInvariant(child, invariants)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    private static final class InvariantValue implements DynamicExpression, CompilableExpression {
+
+        private final LocalVariableAccessor accessor;
+        private final int pointer;
+
+        private InvariantValue(LocalVariableAccessor accessor) {
+            this.accessor = accessor;
+            this.pointer = accessor.getMemoryPointer();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @Nullable Object evaluate(ProcessStack stack, Object instance) {
+            return AbstractLivingFrameUtils.get(stack.getCurrentFrame(), pointer);
+        }
+
+        @Override
+        public CompiledExpression compile(Compilation compilation) {
+            return CompiledExpression.of(compilation.local(pointer), Object.class);
+        }
+
+        @Override
+        public Signature getReturnType() {
+            return accessor.getSignature();
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer.passes;
+
+import panda.interpreter.architecture.dynamic.Controller;
+import panda.interpreter.architecture.statement.FramedScope;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.optimizer.OptimizationReport;
+import panda.interpreter.optimizer.OptimizerPass;
+import panda.interpreter.optimizer.OptimizerUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Removes statements that follow controllers (return, break, continue, throw) in the same scope
+ */
+public final class UnreachableStatementsPass implements OptimizerPass {
+
+    public static final String NAME = "unreachable-statements";
+
+    @Override
+    public void optimize(FramedScope scope, OptimizationReport report) {
+        remove(scope, report);
+    }
+
+    private void remove(Scope scope, OptimizationReport report) {
+        List<? extends Statement> statements = scope.getStatements();
+
+        for (int index = 0; index < statements.size(); index++) {
+            Statement statement = statements.get(index);
+
+            for (Scope nestedScope : OptimizerUtils.getNestedScopes(statement)) {
+                remove(nestedScope, report);
+            }
+
+            if (!(statement instanceof Controller) || index == statements.size() - 1) {
+                continue;
+            }
+
+            List<Statement> unreachable = new ArrayList<>(statements.subList(index + 1, statements.size()));
+
+            for (Statement unreachableStatement : unreachable) {
+                scope.replaceStatement(unreachableStatement, Collections.emptyList());
+            }
+
+            report.record(this, unreachable.get(0).getSourceLocation(), "removed " + unreachable.size() + " unreachable statement(s)");
+            return;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+}
@@ -38,6 +38,8 @@ public final class Phases {
 
     public static final Phase VERIFY = add(VALUES, new Phase("VERIFY", 5.0));
 
+    public static final Phase OPTIMIZE = add(VALUES, new Phase("OPTIMIZE", 5.5));
+
     public static final Phase INITIALIZE = add(VALUES, new Phase("INITIALIZE", 6.0));
 
     private Phases() { }
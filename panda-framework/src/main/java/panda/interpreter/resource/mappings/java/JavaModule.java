@@ -39,6 +39,7 @@
 import panda.std.reactive.Completable;
 
 import java.util.Collections;
+import java.util.concurrent.Future;
 
 @Mappings(pkg = "panda", author = "panda", module = Package.DEFAULT_MODULE, commonPackage= "java.lang", classes = {
         "Iterable"
@@ -109,6 +110,9 @@ public void initialize(Module module, TypeGenerator typeGenerator, TypeLoader ty
                 .returnType(new GenericSignature(typeLoader, null, "T", null, new Signature[0], Relation.DIRECT, PandaSnippet.empty()))
                 .build());
         typeLoader.load(java);
+
+        Type futureType = generate(typeLoader, typeGenerator, module, Future.class);
+        typeLoader.load(futureType);
     }
 
     private Type primitive(TypeGenerator typeGenerator, Module module, String name, Class<?> primitiveClass) {
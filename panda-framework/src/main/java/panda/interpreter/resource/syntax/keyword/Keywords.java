@@ -30,6 +30,8 @@ public final class Keywords {
 
     public static final Keyword AS = add(VALUES, new Keyword("as"));
 
+    public static final Keyword AWAIT = add(VALUES, new Keyword("await"));
+
     public static final Keyword BASE = add(VALUES, new Keyword("base"));
 
     public static final Keyword BREAK = add(VALUES, new Keyword("break"));
@@ -98,6 +100,8 @@ public final class Keywords {
 
     public static final Keyword SHARED = add(VALUES, new Keyword("shared"));
 
+    public static final Keyword SPAWN = add(VALUES, new Keyword("spawn"));
+
     public static final Keyword STATIC = add(VALUES, new Keyword("static"));
 
     public static final Keyword SWITCH = add(VALUES, new Keyword("switch"));
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime;
+
+/**
+ * Arithmetic shared by the interpreted and the compiled code, so both tiers report errors in the same way
+ */
+public final class ArithmeticUtils {
+
+    private ArithmeticUtils() { }
+
+    public static int divide(int a, int b) {
+        try {
+            return a / b;
+        } catch (ArithmeticException exception) {
+            throw illegalOperation(exception);
+        }
+    }
+
+    public static long divide(long a, long b) {
+        try {
+            return a / b;
+        } catch (ArithmeticException exception) {
+            throw illegalOperation(exception);
+        }
+    }
+
+    private static PandaRuntimeException illegalOperation(ArithmeticException exception) {
+        return new PandaRuntimeException("Illegal arithmetic operation: " + exception.getMessage(), exception);
+    }
+
+}
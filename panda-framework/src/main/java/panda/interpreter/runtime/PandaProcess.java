@@ -36,7 +36,10 @@ public PandaProcess(Application application, StandardizedFramedScope mainScope,
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable Object execute() {
-        ProcessStack stack = new PandaProcessStack(this, PandaRuntimeConstants.DEFAULT_STACK_SIZE);
+        // the stack is bound to the thread, so Java code called by the process enters it again instead of creating a new one
+        PandaProcessStack stack = PandaProcessStacks.enter(this);
+        int depth = stack.getDepth();
+        Frame frame = stack.getCurrentFrame();
 
         try {
             Frame instance = mainScope.revive(null, null);
@@ -44,6 +47,9 @@ public PandaProcess(Application application, StandardizedFramedScope mainScope,
             return result != null ? result.getResult() : null;
         } catch (Exception exception) {
             throw new PandaProcessFailure(stack, exception);
+        } finally {
+            stack.restore(depth, frame);
+            PandaProcessStacks.exit(this);
         }
     }
 
@@ -16,15 +16,29 @@
 
 package panda.interpreter.runtime;
 
+import panda.interpreter.architecture.statement.Statement;
+
 public final class PandaProcessFailure extends PandaRuntimeException {
 
     private final ProcessStack stack;
     private final Exception exception;
+    private final Statement[] livingFrames;
 
     public PandaProcessFailure(ProcessStack stack, Exception exception) {
         super(exception);
         this.stack = stack;
         this.exception = exception;
+        // the stack is restored when the failure leaves the process, so statements have to be captured at the point of failure
+        this.livingFrames = stack.getLivingFramesOnStack();
+    }
+
+    /**
+     * Get statements living on the stack when the process failed
+     *
+     * @return the array of statements
+     */
+    public Statement[] getLivingFrames() {
+        return livingFrames;
     }
 
     public Exception getException() {
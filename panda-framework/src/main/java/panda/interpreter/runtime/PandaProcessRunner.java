@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime;
+
+import panda.interpreter.architecture.Application;
+import panda.std.Option;
+import panda.std.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent processes of the same application on the given executor.
+ * Processes share the parsed statements of application, but each of them uses its own stack and frames.
+ */
+public final class PandaProcessRunner {
+
+    private final Application application;
+    private final ExecutorService executor;
+
+    public PandaProcessRunner(Application application, ExecutorService executor) {
+        this.application = application;
+        this.executor = executor;
+    }
+
+    /**
+     * Launch the given amount of processes and wait for all of them
+     *
+     * @param processes the amount of processes to launch
+     * @param arguments the arguments passed to every process
+     * @param <T> type of result
+     * @return results of processes in the order of launching, failures are reported per process
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Result<Option<T>, Throwable>> run(int processes, String... arguments) {
+        if (processes < 0) {
+            throw new IllegalArgumentException("Amount of processes cannot be negative");
+        }
+
+        List<Future<Object>> futures = new ArrayList<>(processes);
+
+        // submission publishes application state (e.g. initialized statics) to the executor threads
+        for (int index = 0; index < processes; index++) {
+            Process process = application.createProcess(arguments);
+            Callable<Object> task = process::execute;
+            futures.add(executor.submit(task));
+        }
+
+        List<Result<Option<T>, Throwable>> results = new ArrayList<>(processes);
+
+        for (Future<Object> future : futures) {
+            results.add(await(future).map(value -> Option.of((T) value)));
+        }
+
+        return results;
+    }
+
+    private Result<Object, Throwable> await(Future<Object> future) {
+        try {
+            return Result.ok(future.get());
+        } catch (ExecutionException executionException) {
+            return Result.error(executionException.getCause());
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Result.error(interruptedException);
+        }
+    }
+
+}
@@ -74,7 +74,7 @@ public PandaProcessStack(Process process, int stackCapacity) {
         if (statement instanceof Executable) {
             if (statement instanceof Controller) {
                 Controller controller = (Controller) statement;
-                return new Result<>(controller.getStatusCode(), controller.execute(this, instance));
+                return Result.of(controller.getStatusCode(), controller.execute(this, instance));
             }
 
             ((Executable) statement).execute(this, instance);
@@ -97,6 +97,20 @@ public PandaProcessStack(Process process, int stackCapacity) {
         return null;
     }
 
+    @Override
+    public void restore(int depth, @Nullable Frame frame) {
+        while (stack.size() > depth) {
+            stack.pop();
+        }
+
+        this.currentFrame = frame;
+    }
+
+    @Override
+    public int getDepth() {
+        return stack.size();
+    }
+
     @Override
     public Statement[] getLivingFramesOnStack() {
         return stack.toArray(Statement[].class);
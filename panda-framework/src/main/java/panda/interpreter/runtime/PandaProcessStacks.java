@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime;
+
+import java.lang.ref.SoftReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Stacks bound to threads, reused by calls that enter a process from Java code (e.g. methods of generated classes).
+ * Stack is bound to the thread only until the outermost call of its process returns.
+ * The last released stack is cached per thread through a soft reference, so repeated callbacks from the same thread reuse it,
+ * while threads still do not strongly retain finished processes.
+ */
+public final class PandaProcessStacks {
+
+    private static final ThreadLocal<Map<Process, BoundStack>> BOUND_STACKS = ThreadLocal.withInitial(() -> new IdentityHashMap<>(4));
+    private static final ThreadLocal<SoftReference<BoundStack>> RELEASED_STACK = new ThreadLocal<>();
+
+    private PandaProcessStacks() { }
+
+    /**
+     * Enter the given process using the current thread.
+     * Nested calls of the same process share the same stack, so callers have to restore its state using {@link PandaProcessStack#restore(int, panda.interpreter.architecture.dynamic.Frame)}.
+     * Every call has to be followed by {@link #exit(Process)}.
+     *
+     * @param process the process to enter
+     * @return the stack for the given process
+     */
+    public static PandaProcessStack enter(Process process) {
+        Map<Process, BoundStack> boundStacks = BOUND_STACKS.get();
+        BoundStack boundStack = boundStacks.get(process);
+
+        if (boundStack == null) {
+            boundStack = takeReleasedStack(process);
+            boundStacks.put(process, boundStack);
+        }
+
+        boundStack.entries++;
+        return boundStack.stack;
+    }
+
+    private static BoundStack takeReleasedStack(Process process) {
+        SoftReference<BoundStack> reference = RELEASED_STACK.get();
+        BoundStack releasedStack = reference != null ? reference.get() : null;
+
+        // released stack stays referenced while bound, so the same thread does not allocate a new reference on every exit
+        if (releasedStack != null && releasedStack.process == process) {
+            return releasedStack;
+        }
+
+        return new BoundStack(process, new PandaProcessStack(process, PandaRuntimeConstants.DEFAULT_STACK_SIZE));
+    }
+
+    /**
+     * Leave the given process, the stack is unbound and cleared when the outermost call returns
+     *
+     * @param process the process to leave
+     */
+    public static void exit(Process process) {
+        Map<Process, BoundStack> boundStacks = BOUND_STACKS.get();
+        BoundStack boundStack = boundStacks.get(process);
+
+        if (boundStack != null && --boundStack.entries == 0) {
+            boundStacks.remove(process);
+            boundStack.stack.restore(0, null);
+
+            SoftReference<BoundStack> reference = RELEASED_STACK.get();
+
+            if (reference == null || reference.get() != boundStack) {
+                RELEASED_STACK.set(new SoftReference<>(boundStack));
+            }
+        }
+    }
+
+    private static final class BoundStack {
+
+        private final Process process;
+        private final PandaProcessStack stack;
+        private int entries;
+
+        private BoundStack(Process process, PandaProcessStack stack) {
+            this.process = process;
+            this.stack = stack;
+        }
+
+    }
+
+}
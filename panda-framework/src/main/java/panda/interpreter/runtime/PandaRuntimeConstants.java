@@ -26,4 +26,19 @@ public final class PandaRuntimeConstants {
      */
     public static final int DEFAULT_STACK_SIZE = 1024;
 
+    /**
+     * Amount of invocations of method required to compile its body, negative value disables the compilation
+     */
+    public static final int COMPILATION_THRESHOLD = Integer.getInteger("panda.compilation.threshold", 1000);
+
+    /**
+     * Skip capturing of JVM stack traces by runtime exceptions and describe them using locations of Panda statements instead
+     */
+    public static final boolean STACKLESS_EXCEPTIONS = Boolean.getBoolean("panda.exceptions.stackless");
+
+    /**
+     * Count hits and misses of inline caches of call sites, disabled by default to keep counters out of the hot path
+     */
+    public static final boolean INLINE_CACHE_STATISTICS = Boolean.getBoolean("panda.debug.inlineCacheStatistics");
+
 }
@@ -17,6 +17,8 @@
 package panda.interpreter.runtime;
 
 import panda.interpreter.PandaFrameworkException;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.source.Location;
 
 public class PandaRuntimeException extends PandaFrameworkException {
 
@@ -32,4 +34,29 @@ public PandaRuntimeException(Throwable cause) {
         super(cause);
     }
 
+    /**
+     * Replace stack trace of exception with locations of statements living on the given stack
+     *
+     * @param stack the stack to describe
+     * @return the current exception
+     */
+    public PandaRuntimeException withProcessStack(ProcessStack stack) {
+        Statement[] statements = stack.getLivingFramesOnStack();
+        StackTraceElement[] stackTrace = new StackTraceElement[statements.length];
+
+        for (int index = 0; index < statements.length; index++) {
+            Statement statement = statements[index];
+            Location location = statement.getSourceLocation();
+            stackTrace[index] = new StackTraceElement("panda", statement.getClass().getSimpleName(), location.getSource().getId(), location.getDisplayLine());
+        }
+
+        setStackTrace(stackTrace);
+        return this;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return PandaRuntimeConstants.STACKLESS_EXCEPTIONS ? this : super.fillInStackTrace();
+    }
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime;
+
+import panda.interpreter.architecture.dynamic.Frame;
+import panda.interpreter.architecture.dynamic.FrameSnapshot;
+import panda.interpreter.architecture.expression.Expression;
+import panda.std.function.ThrowingSupplier;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor of tasks spawned by processes.
+ * Tasks run on virtual threads if they are supported by the current JVM, otherwise on a bounded pool of daemon threads.
+ * Task awaited by a thread of the bounded pool is executed by the awaiting thread if it has not started yet,
+ * so recursive fan-out of tasks cannot exhaust the pool and deadlock.
+ */
+public final class PandaTasks {
+
+    /**
+     * Amount of platform threads used to run tasks if virtual threads are not available
+     */
+    public static final String THREADS_PROPERTY = "panda.tasks.threads";
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private PandaTasks() { }
+
+    /**
+     * Evaluate expression as a task of the given process.
+     * Task uses its own stack and a snapshot of the current frame, so later changes of local variables are not visible in the task.
+     * The current instance is not copied and is shared with the task.
+     * Its fields are stored in a concurrent frame (see {@link panda.interpreter.architecture.type.TypeFrame}),
+     * so single reads and writes are visible between threads, but compound operations on fields are not atomic.
+     * Objects referenced by variables are shared as well.
+     *
+     * @param stack the stack of spawning process
+     * @param instance the current instance
+     * @param expression the expression to evaluate
+     * @return the result of task
+     */
+    public static Future<Object> spawn(ProcessStack stack, Object instance, Expression expression) {
+        Frame frame = stack.getCurrentFrame();
+        Frame snapshot = frame != null ? new FrameSnapshot(frame) : null;
+        Process process = stack.getProcess();
+
+        return submit(() -> {
+            PandaProcessStack taskStack = new PandaProcessStack(process, PandaRuntimeConstants.DEFAULT_STACK_SIZE);
+            taskStack.restore(0, snapshot);
+            return expression.evaluate(taskStack, instance);
+        });
+    }
+
+    /**
+     * Wait for the result of task.
+     * If the waiting thread is interrupted, the task is cancelled and the interrupt flag is restored.
+     *
+     * @param task the task to wait for
+     * @return the result of task
+     * @throws Exception the exception thrown by task
+     */
+    public static Object await(Future<?> task) throws Exception {
+        // the task may wait in the queue of the pool occupied by awaiting tasks, run() does nothing if the task has already started
+        if (task instanceof FutureTask && Thread.currentThread() instanceof TaskThread) {
+            ((FutureTask<?>) task).run();
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException interruptedException) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PandaRuntimeException("Interrupted while waiting for task", interruptedException);
+        } catch (ExecutionException executionException) {
+            Throwable cause = executionException.getCause();
+
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+
+            throw new PandaRuntimeException("Task failed", cause);
+        }
+    }
+
+    private static Future<Object> submit(ThrowingSupplier<Object, Exception> supplier) {
+        return submit(EXECUTOR, supplier);
+    }
+
+    static Future<Object> submit(ExecutorService executor, ThrowingSupplier<Object, Exception> supplier) {
+        FutureTask<Object> task = new FutureTask<>(supplier::get);
+        executor.execute(task);
+        return task;
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            Method virtualExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtualExecutor.invoke(null);
+        } catch (ReflectiveOperationException unsupported) {
+            return createPlatformExecutor(Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() * 4));
+        }
+    }
+
+    static ExecutorService createPlatformExecutor(int threads) {
+        AtomicInteger threadId = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> new TaskThread(runnable, "panda-task-" + threadId.incrementAndGet()));
+    }
+
+    private static final class TaskThread extends Thread {
+
+        private TaskThread(Runnable runnable, String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+
+    }
+
+}
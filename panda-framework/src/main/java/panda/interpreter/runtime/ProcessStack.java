@@ -68,6 +68,21 @@ public interface ProcessStack {
      */
     @Nullable Result<?> callScope(Object instance, Scope scope) throws Exception;
 
+    /**
+     * Drop statements and frames left above the given state, e.g. by an exception thrown through the stack
+     *
+     * @param depth the depth of stack to restore
+     * @param frame the frame to restore as current
+     */
+    void restore(int depth, @Nullable Frame frame);
+
+    /**
+     * Get amount of statements on stack
+     *
+     * @return the depth of stack
+     */
+    int getDepth();
+
     /**
      * Get statements on stack
      *
@@ -25,6 +25,13 @@
  */
 public final class Result<T> {
 
+    private static final Result<?>[] EMPTY_RESULTS = {
+            new Result<>(Status.THROW, null),
+            new Result<>(Status.RETURN, null),
+            new Result<>(Status.BREAK, null),
+            new Result<>(Status.CONTINUE, null)
+    };
+
     private final byte status;
     private final T result;
 
@@ -52,4 +59,23 @@ public byte getStatus() {
         return status;
     }
 
+    /**
+     * Get result with the given status and value.
+     * Results without value and with one of the default status codes are shared, so e.g. break and continue do not allocate.
+     *
+     * @param status the status code
+     * @param result the value
+     * @param <T> type of value
+     * @return the result
+     * @see panda.interpreter.runtime.Status
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> of(byte status, @Nullable T result) {
+        if (result == null && status >= 0 && status < EMPTY_RESULTS.length) {
+            return (Result<T>) EMPTY_RESULTS[status];
+        }
+
+        return new Result<>(status, result);
+    }
+
 }
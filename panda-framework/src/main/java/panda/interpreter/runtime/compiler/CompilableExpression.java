@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents expressions that are able to emit their own source for the compilation tier
+ */
+public interface CompilableExpression {
+
+    /**
+     * Compile expression
+     *
+     * @param compilation the current compilation
+     * @return the compiled expression or null if expression is not supported by the compiler
+     */
+    @Nullable CompiledExpression compile(Compilation compilation);
+
+}
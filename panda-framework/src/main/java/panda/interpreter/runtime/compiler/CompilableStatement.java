@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+/**
+ * Represents statements that are able to emit their own source for the compilation tier
+ */
+public interface CompilableStatement {
+
+    /**
+     * Compile statement and append it to the given compilation
+     *
+     * @param compilation the current compilation
+     * @return true if statement has been compiled, false if compiler has to delegate it to the interpreter
+     */
+    boolean compile(Compilation compilation);
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.Controller;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.runtime.Result;
+import panda.interpreter.runtime.Status;
+import panda.utilities.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+/**
+ * Source of method body generated by the compilation tier.
+ * Generated code has access to the {@code stack}, {@code instance} and {@code memory} (local memory of frame) variables.
+ * Elements that cannot be compiled are delegated to the interpreter, so the compilation always produces a complete body.
+ */
+public final class Compilation {
+
+    private static final String RESULT = Result.class.getName();
+    private static final String STATUS = Status.class.getName();
+
+    private static final int NORMAL = 0;
+    private static final int BREAK = 1;
+    private static final int RETURN = 2;
+
+    private final List<Object> constants = new ArrayList<>();
+    private final StringBuilder source = new StringBuilder();
+    private final Stack<Loop> loops = new Stack<>();
+    private int variables;
+
+    /**
+     * Append line of code to the body
+     *
+     * @param line the line to append
+     * @return the current compilation
+     */
+    public Compilation line(String line) {
+        source.append(line).append(System.lineSeparator());
+        return this;
+    }
+
+    /**
+     * Generate unique name of local variable
+     *
+     * @param name the base name of variable
+     * @return unique variable name
+     */
+    public String variable(String name) {
+        return name + "_" + (variables++);
+    }
+
+    /**
+     * Register object in the constant pool of compiled method
+     *
+     * @param value the value to register
+     * @return source of reference to the value
+     */
+    public String constant(@Nullable Object value) {
+        constants.add(value);
+        return "this.constants[" + (constants.size() - 1) + "]";
+    }
+
+    /**
+     * Register object in the constant pool of compiled method
+     *
+     * @param value the value to register
+     * @param type the type used to cast the reference
+     * @return source of casted reference to the value
+     */
+    public String constant(@Nullable Object value, Class<?> type) {
+        return "((" + type.getName() + ") " + constant(value) + ")";
+    }
+
+    /**
+     * Get source of reference to the local memory of the current frame
+     *
+     * @param pointer the pointer of variable
+     * @return source of reference to the memory cell
+     */
+    public String local(int pointer) {
+        return "memory[" + pointer + "]";
+    }
+
+    /**
+     * Compile literal value
+     *
+     * @param value the value to compile
+     * @return the compiled expression
+     */
+    public CompiledExpression literal(@Nullable Object value) {
+        if (value == null) {
+            return CompiledExpression.of("null", Object.class);
+        }
+
+        if (value instanceof Integer) {
+            return CompiledExpression.of("(" + value + ")", int.class);
+        }
+
+        if (value instanceof Boolean) {
+            return CompiledExpression.of("(" + value + ")", boolean.class);
+        }
+
+        if (value instanceof Long) {
+            return CompiledExpression.of("(" + value + "L)", long.class);
+        }
+
+        return CompiledExpression.of(constant(value, value.getClass()), value.getClass());
+    }
+
+    /**
+     * Compile expression or delegate its evaluation to the interpreter
+     *
+     * @param expression the expression to compile
+     * @return the compiled expression
+     */
+    public CompiledExpression expression(Expression expression) {
+        if (expression instanceof CompilableExpression) {
+            CompiledExpression compiledExpression = ((CompilableExpression) expression).compile(this);
+
+            if (compiledExpression != null) {
+                return compiledExpression;
+            }
+        }
+
+        return CompiledExpression.of(constant(expression, Expression.class) + ".evaluate(stack, instance)", Object.class);
+    }
+
+    /**
+     * Box value of compiled expression if necessary
+     *
+     * @param expression the expression to box
+     * @return source of expression that returns object
+     */
+    public String toObject(CompiledExpression expression) {
+        if (!expression.isPrimitive()) {
+            return expression.getSource();
+        }
+
+        return ClassUtils.getNonPrimitiveClass(expression.getType()).getName() + ".valueOf(" + expression.getSource() + ")";
+    }
+
+    /**
+     * Unbox or cast value of compiled expression to the given primitive type
+     *
+     * @param expression the expression to convert
+     * @param primitive the requested primitive type
+     * @return source of expression that returns value of the given primitive type
+     */
+    public String toPrimitive(CompiledExpression expression, Class<?> primitive) {
+        if (expression.getType() == primitive) {
+            return expression.getSource();
+        }
+
+        if (expression.isPrimitive()) {
+            return "((" + primitive.getName() + ") " + expression.getSource() + ")";
+        }
+
+        if (primitive == boolean.class || primitive == char.class) {
+            return "((" + ClassUtils.getNonPrimitiveClass(primitive).getName() + ") " + expression.getSource() + ")." + primitive.getName() + "Value()";
+        }
+
+        return "((" + Number.class.getName() + ") " + expression.getSource() + ")." + primitive.getName() + "Value()";
+    }
+
+    /**
+     * Compile expression as a standalone statement and discard its result
+     *
+     * @param expression the expression to compile
+     */
+    public void discard(Expression expression) {
+        CompiledExpression compiledExpression = expression(expression);
+        line((compiledExpression.isPrimitive() ? compiledExpression.getType().getName() : Object.class.getName()) + " " + variable("discarded") + " = " + compiledExpression.getSource() + ";");
+    }
+
+    /**
+     * Compile statements of the given scope
+     *
+     * @param scope the scope to compile
+     * @return true if scope always transfers control (e.g. returns), otherwise false
+     */
+    public boolean scope(Scope scope) {
+        for (Statement statement : scope.getStatements()) {
+            if (statement(statement)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Compile statement or delegate it to the interpreter
+     *
+     * @param statement the statement to compile
+     * @return true if statement always transfers control (e.g. returns), otherwise false
+     */
+    public boolean statement(Statement statement) {
+        if (statement instanceof CompilableStatement && ((CompilableStatement) statement).compile(this)) {
+            return statement instanceof Controller;
+        }
+
+        String result = variable("result");
+        line(RESULT + " " + result + " = stack.callStatement(instance, " + constant(statement, Statement.class) + ");");
+        propagate(result);
+        return false;
+    }
+
+    /**
+     * Compile loop
+     *
+     * @param condition source of condition that returns boolean
+     * @param body the body of loop
+     * @param after the code to call after each iteration
+     */
+    public void loop(String condition, Runnable body, @Nullable Runnable after) {
+        Loop loop = new Loop(variable("control"), variable("result"));
+
+        line("int " + loop.control + " = " + NORMAL + ";");
+        line(RESULT + " " + loop.result + " = null;");
+        line("while (" + condition + ") {");
+        line("do {");
+
+        loops.push(loop);
+        body.run();
+        loops.pop();
+
+        line("} while (false);");
+
+        if (after != null) {
+            after.run();
+        }
+
+        line("if (" + loop.control + " != " + NORMAL + ") { break; }");
+        line("}");
+
+        // handled outside of the loop, so the result is passed to the enclosing loop or the caller
+        line("if (" + loop.control + " == " + RETURN + ") {");
+        result(loop.result);
+        line("}");
+    }
+
+    /**
+     * Break the current loop
+     */
+    public void breakLoop() {
+        if (loops.isEmpty()) {
+            result(RESULT + ".of(" + STATUS + ".BREAK, null)");
+            return;
+        }
+
+        line("{ " + loops.peek().control + " = " + BREAK + "; break; }");
+    }
+
+    /**
+     * Omit the rest of the current iteration
+     */
+    public void continueLoop() {
+        if (loops.isEmpty()) {
+            result(RESULT + ".of(" + STATUS + ".CONTINUE, null)");
+            return;
+        }
+
+        line("{ break; }");
+    }
+
+    /**
+     * Pass the result to the caller of method
+     *
+     * @param result source of the {@link panda.interpreter.runtime.Result} to return
+     */
+    public void result(String result) {
+        if (loops.isEmpty()) {
+            line("return " + result + ";");
+            return;
+        }
+
+        Loop loop = loops.peek();
+        line("{ " + loop.result + " = " + result + "; " + loop.control + " = " + RETURN + "; break; }");
+    }
+
+    /**
+     * Handle result returned by the interpreter in the same way as the interpreter does
+     *
+     * @param result the name of variable that contains nullable {@link panda.interpreter.runtime.Result}
+     */
+    public void propagate(String result) {
+        line("if (" + result + " != null) {");
+
+        if (loops.isEmpty()) {
+            result(result);
+        }
+        else {
+            line("if (" + result + ".getStatus() == " + STATUS + ".CONTINUE) {");
+            continueLoop();
+            line("} else if (" + result + ".getStatus() == " + STATUS + ".BREAK) {");
+            breakLoop();
+            line("} else {");
+            result(result);
+            line("}");
+        }
+
+        line("}");
+    }
+
+    public Object[] getConstants() {
+        return constants.toArray();
+    }
+
+    public String getSource() {
+        return source.toString();
+    }
+
+    private static final class Loop {
+
+        private final String control;
+        private final String result;
+
+        private Loop(String control, String result) {
+            this.control = control;
+            this.result = result;
+        }
+
+    }
+
+}
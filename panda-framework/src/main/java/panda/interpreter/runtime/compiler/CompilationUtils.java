@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.type.member.MemberInvoker;
+import panda.interpreter.architecture.type.member.ParametrizedMember;
+import panda.interpreter.architecture.type.member.method.MethodInlineCache;
+import panda.interpreter.runtime.PandaRuntimeException;
+import panda.interpreter.runtime.ProcessStack;
+
+/**
+ * Utilities called by the code generated by {@link panda.interpreter.runtime.compiler.MethodCompiler}
+ */
+public final class CompilationUtils {
+
+    private CompilationUtils() { }
+
+    public static Object requireValue(@Nullable Object value, String variableName) {
+        if (value == null) {
+            throw new PandaRuntimeException("Cannot assign null to variable '" + variableName + "' without nil modifier");
+        }
+
+        return value;
+    }
+
+    public static @Nullable Object exchange(Object[] memory, int pointer, @Nullable Object value) {
+        Object previous = memory[pointer];
+        memory[pointer] = value;
+        return previous;
+    }
+
+    public static @Nullable Object invoke(ParametrizedMember member, ProcessStack stack, Object[] arguments, @Nullable Object instance) throws Exception {
+        return member.invoke(stack, instance, arguments);
+    }
+
+    public static @Nullable Object invoke(ParametrizedMember member, MemberInvoker<ParametrizedMember, Object, Object> instanceInvoker, ProcessStack stack, @Nullable Object instance, Object[] arguments) throws Exception {
+        return member.invoke(stack, instanceInvoker.invoke(member, stack, instance, arguments), arguments);
+    }
+
+    public static @Nullable Object invoke(MethodInlineCache inlineCache, ProcessStack stack, Object[] arguments, @Nullable Object instance) throws Exception {
+        return inlineCache.invoke(stack, instance, arguments);
+    }
+
+    public static @Nullable Object invoke(MethodInlineCache inlineCache, MemberInvoker<ParametrizedMember, Object, Object> instanceInvoker, ProcessStack stack, @Nullable Object instance, Object[] arguments) throws Exception {
+        return inlineCache.invoke(stack, instanceInvoker.invoke(inlineCache.getMethod(), stack, instance, arguments), arguments);
+    }
+
+}
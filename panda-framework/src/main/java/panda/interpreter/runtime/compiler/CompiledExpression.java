@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+/**
+ * Source of compiled expression with the Java type of value it returns
+ */
+public final class CompiledExpression {
+
+    private final String source;
+    private final Class<?> type;
+
+    private CompiledExpression(String source, Class<?> type) {
+        this.source = source;
+        this.type = type;
+    }
+
+    public boolean isPrimitive() {
+        return type.isPrimitive();
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    public static CompiledExpression of(String source, Class<?> type) {
+        return new CompiledExpression(source, type);
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.Result;
+
+/**
+ * Method body compiled by the {@link panda.interpreter.runtime.compiler.MethodCompiler}
+ */
+public interface CompiledMethod {
+
+    /**
+     * Call compiled body
+     *
+     * @param stack the current stack
+     * @param instance the current instance
+     * @param memory the local memory of the current frame
+     * @return result of invocation
+     * @throws Exception if something happen
+     */
+    @Nullable Result<?> call(ProcessStack stack, Object instance, Object[] memory) throws Exception;
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.Modifier;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.Result;
+import panda.std.Option;
+import panda.utilities.javassist.ClassPoolUtils;
+import panda.utilities.javassist.CtCode;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles bodies of hot methods into JVM classes.
+ * If the body cannot be compiled, the method should stay in the interpreter.
+ */
+public final class MethodCompiler {
+
+    private static final AtomicInteger ID = new AtomicInteger(0);
+    private static final AtomicInteger COMPILED = new AtomicInteger(0);
+    private static final AtomicInteger FALLBACKS = new AtomicInteger(0);
+
+    private static final ClassPool CLASS_POOL = ClassPoolUtils.getClassPool();
+    private static final CtClass CT_COMPILED_METHOD_CLASS = ClassPoolUtils.require(CompiledMethod.class);
+    private static final CtClass CT_OBJECT_ARRAY_CLASS = ClassPoolUtils.require(Object[].class);
+    private static final CtClass[] CALL_PARAMETERS = ClassPoolUtils.toCt(ProcessStack.class, Object.class, Object[].class);
+
+    private MethodCompiler() { }
+
+    /**
+     * Compile body of method
+     *
+     * @param name the name of method, used to generate readable name of class
+     * @param body the body to compile
+     * @return the compiled method or empty option if body could not be compiled
+     */
+    public static Option<CompiledMethod> compile(String name, Scope body) {
+        Compilation compilation = new Compilation();
+
+        if (!compilation.scope(body)) {
+            compilation.line("return null;");
+        }
+
+        String javaName = CompiledMethod.class.getName() + "$" + name.replaceAll("[^A-Za-z0-9_$]", "") + "_" + ID.incrementAndGet();
+        CtClass javaType = CLASS_POOL.makeClass(javaName);
+
+        try {
+            javaType.addInterface(CT_COMPILED_METHOD_CLASS);
+
+            CtField constantsField = new CtField(CT_OBJECT_ARRAY_CLASS, "constants", javaType);
+            constantsField.setModifiers(Modifier.PRIVATE | Modifier.FINAL);
+            javaType.addField(constantsField);
+
+            CtConstructor javaConstructor = new CtConstructor(new CtClass[] { CT_OBJECT_ARRAY_CLASS }, javaType);
+            javaType.addConstructor(javaConstructor);
+            javaConstructor.setBody("{ super(); $0.constants = $1; }");
+
+            CtMethod javaMethod = new CtMethod(ClassPoolUtils.require(Result.class), "call", CALL_PARAMETERS, javaType);
+            javaType.addMethod(javaMethod);
+
+            CtCode.of(javaMethod)
+                    .alias("{ProcessStack}", ProcessStack.class.getName())
+                    .compile(
+                            "{ProcessStack} stack = $1;",
+                            "java.lang.Object instance = $2;",
+                            "java.lang.Object[] memory = $3;",
+                            compilation.getSource()
+                    );
+
+            Class<?> compiledClass = ClassPoolUtils.toClass(javaType, CompiledMethod.class);
+            Object compiled = compiledClass.getConstructor(Object[].class).newInstance((Object) compilation.getConstants());
+
+            COMPILED.incrementAndGet();
+            return Option.of((CompiledMethod) compiled);
+        } catch (CannotCompileException | ReflectiveOperationException | LinkageError | ClassPoolUtils.ClassPoolException exception) {
+            FALLBACKS.incrementAndGet();
+            return Option.none();
+        } finally {
+            javaType.detach();
+        }
+    }
+
+    /**
+     * Get amount of methods compiled by this compiler
+     *
+     * @return the amount of compiled methods
+     */
+    public static int getCompiledMethods() {
+        return COMPILED.get();
+    }
+
+    /**
+     * Get amount of methods that could not be compiled and stayed in the interpreter
+     *
+     * @return the amount of fallbacks
+     */
+    public static int getFallbacks() {
+        return FALLBACKS.get();
+    }
+
+}
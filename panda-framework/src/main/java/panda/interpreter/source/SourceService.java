@@ -21,8 +21,10 @@
 import panda.std.reactive.Completable;
 import panda.std.Pair;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 import java.util.stream.Collectors;
@@ -53,6 +55,21 @@ public Pair<? extends Source, Completable<Script>> retrieve() {
         return currentSource;
     }
 
+    /**
+     * Retrieve all sources that are currently waiting to be loaded
+     *
+     * @return the list of sources in the order of {@link #retrieve()}
+     */
+    public List<Pair<? extends Source, Completable<Script>>> retrieveAll() {
+        List<Pair<? extends Source, Completable<Script>>> retrieved = new ArrayList<>(sources.size());
+
+        while (hasUnloadedSources()) {
+            retrieved.add(retrieve());
+        }
+
+        return retrieved;
+    }
+
     public boolean hasUnloadedSources() {
         return !sources.isEmpty();
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.dynamic.AbstractConcurrentFrame
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNull
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class TypeFrameTest {
+
+    @Test
+    void 'should store fields in concurrent memory' () {
+        TypeFrame frame = new TypeFrame(null, null, 2)
+        assertTrue(frame instanceof AbstractConcurrentFrame)
+        assertEquals(2, frame.getMemorySize())
+
+        assertNull(frame.get(0))
+        assertEquals('value', frame.set(1, 'value'))
+        assertEquals('value', frame.get(1))
+    }
+
+    @Test
+    void 'should publish fields written by other threads' () {
+        TypeFrame frame = new TypeFrame(null, null, 1)
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+        CountDownLatch written = new CountDownLatch(1)
+
+        try {
+            Future<Object> reader = executor.submit({
+                while (frame.get(0) == null) {
+                    Thread.yield()
+                }
+
+                return frame.get(0)
+            } as Callable<Object>)
+
+            executor.submit({
+                frame.set(0, 'written')
+                written.countDown()
+            } as Runnable)
+
+            written.await()
+            assertEquals('written', reader.get(5, TimeUnit.SECONDS))
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertSame
+
+@CompileStatic
+final class ArrayComponentTest {
+
+    @Test
+    void shouldSelectComponentOfArray() {
+        assertSame ArrayComponent.OBJECT, ArrayComponent.of(Double[].class)
+        assertSame ArrayComponent.FLOAT, ArrayComponent.of(float[].class)
+        assertSame ArrayComponent.BYTE, ArrayComponent.of(byte[].class)
+    }
+
+    @Test
+    void shouldReadBoxedNumbersWithoutTruncation() {
+        Double[] doubles = [ 0.5d ] as Double[]
+        Long[] longs = [ 5_000_000_000L ] as Long[]
+
+        assertEquals 0.5d, ArrayComponent.OBJECT.getDouble(doubles, 0)
+        assertEquals 5_000_000_000L, ArrayComponent.OBJECT.getLong(longs, 0)
+        assertEquals 5_000_000_000d, ArrayComponent.OBJECT.getDouble(longs, 0)
+    }
+
+    @Test
+    void shouldReadPrimitiveNumbersWithoutTruncation() {
+        float[] floats = [ 1.5f ] as float[]
+        long[] longs = [ 5_000_000_000L ] as long[]
+
+        assertEquals 1.5d, ArrayComponent.FLOAT.getDouble(floats, 0)
+        assertEquals 1L, ArrayComponent.FLOAT.getLong(floats, 0)
+        assertEquals 5_000_000_000L, ArrayComponent.LONG.getLong(longs, 0)
+        assertEquals 5_000_000_000d, ArrayComponent.LONG.getDouble(longs, 0)
+    }
+
+    @Test
+    void shouldConvertStoredValues() {
+        byte[] bytes = new byte[1]
+        ArrayComponent.BYTE.set(bytes, 0, 300)
+
+        assertEquals((byte) 300, bytes[0])
+        assertEquals 44, ArrayComponent.BYTE.getInt(bytes, 0)
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertNotEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class GeneratedClassCacheTest {
+
+    @TempDir
+    public Path directory
+
+    @Test
+    void shouldLoadStoredBytecode() {
+        GeneratedClassCache cache = new GeneratedClassCache(directory)
+        String hash = GeneratedClassCache.hash('declaration')
+        byte[] bytecode = [ 1, 2, 3, 4 ] as byte[]
+
+        cache.store('panda.Test', hash, bytecode)
+
+        assertArrayEquals bytecode, cache.load('panda.Test', hash).get()
+        assertFalse cache.load('panda.Test', GeneratedClassCache.hash('modified declaration')).isDefined()
+    }
+
+    @Test
+    void shouldRemoveTemporaryFileIfEntryCannotBeStored() {
+        GeneratedClassCache cache = new GeneratedClassCache(directory)
+        String hash = GeneratedClassCache.hash('declaration')
+
+        // non-empty directory cannot be replaced by the entry
+        Path blocker = Files.createDirectories(directory.resolve('panda.Test-' + hash + '.class'))
+        Files.createFile(blocker.resolve('file'))
+
+        cache.store('panda.Test', hash, [ 1, 2, 3, 4 ] as byte[])
+
+        Files.list(directory).withCloseable { files ->
+            assertFalse files.anyMatch({ Path file -> file.getFileName().toString().endsWith('.tmp') })
+        }
+    }
+
+    @Test
+    void shouldIgnoreDisabledCache() {
+        GeneratedClassCache cache = new GeneratedClassCache(null)
+        cache.store('panda.Test', 'hash', new byte[0])
+
+        assertFalse cache.isEnabled()
+        assertFalse cache.load('panda.Test', 'hash').isDefined()
+    }
+
+    @Test
+    void shouldHashDeclarations() {
+        assertTrue GeneratedClassCache.hash('a') == GeneratedClassCache.hash('a')
+        assertNotEquals GeneratedClassCache.hash('a'), GeneratedClassCache.hash('b')
+    }
+
+}
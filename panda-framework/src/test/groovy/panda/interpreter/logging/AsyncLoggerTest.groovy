@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.logging
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.function.Executable
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class AsyncLoggerTest {
+
+    @Test
+    void shouldWriteMessagesInOrder() {
+        List<String> output = Collections.synchronizedList(new ArrayList<String>())
+        AsyncLogger logger = new AsyncLogger(Channel.INFO, { String batch -> output.addAll(batch.split(System.lineSeparator())) }, 16, AsyncLogger.OverflowPolicy.BLOCK)
+
+        for (int index = 0; index < 100; index++) {
+            logger.info('message ' + index)
+        }
+
+        logger.debug('ignored')
+        logger.close()
+
+        assertEquals 100, output.size()
+        assertEquals 'message 0', output.get(0)
+        assertEquals 'message 99', output.get(99)
+    }
+
+    @Test
+    void shouldDropNewestMessages() {
+        List<String> output = overflow(AsyncLogger.OverflowPolicy.DROP_NEWEST, 3)
+        assertEquals(['first', 'message 0', 'message 1', 'message 2', 'message 3'], output)
+    }
+
+    @Test
+    void shouldDropOldestMessages() {
+        List<String> output = overflow(AsyncLogger.OverflowPolicy.DROP_OLDEST, 3)
+        assertEquals(['first', 'message 3', 'message 4', 'message 5', 'message 6'], output)
+    }
+
+    @Test
+    void shouldNotBlockFlushesByIdleFlusher() {
+        AsyncLogger logger = new AsyncLogger(Channel.INFO, { String batch -> }, 16, AsyncLogger.OverflowPolicy.BLOCK)
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), {
+            for (int index = 0; index < 100; index++) {
+                logger.flush()
+            }
+        } as Executable)
+
+        logger.close()
+    }
+
+    /**
+     * Block the output on the first message and log more messages than the buffer (4) can store
+     */
+    private static List<String> overflow(AsyncLogger.OverflowPolicy policy, int expectedDropped) {
+        List<String> output = Collections.synchronizedList(new ArrayList<String>())
+        CountDownLatch entered = new CountDownLatch(1)
+        CountDownLatch released = new CountDownLatch(1)
+
+        AsyncLogger logger = new AsyncLogger(Channel.INFO, { String batch ->
+            output.addAll(batch.split(System.lineSeparator()))
+            entered.countDown()
+            released.await()
+        }, 4, policy)
+
+        logger.info('first')
+        assertTrue(entered.await(5, TimeUnit.SECONDS))
+
+        for (int index = 0; index < 7; index++) {
+            logger.info('message ' + index)
+        }
+
+        assertEquals(expectedDropped, logger.getDropped())
+        released.countDown()
+        logger.close()
+
+        return output
+    }
+
+    @Test
+    void shouldFilterChannels() {
+        AsyncLogger logger = new AsyncLogger(Channel.WARN, { String batch -> }, 16, AsyncLogger.OverflowPolicy.DROP_NEWEST)
+
+        assertTrue logger.isEnabled(Channel.ERROR)
+        assertFalse logger.isEnabled(Channel.INFO)
+
+        logger.close()
+    }
+
+}
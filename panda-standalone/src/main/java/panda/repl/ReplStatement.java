@@ -20,6 +20,7 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.Status;
+import panda.interpreter.runtime.compiler.Compilation;
 import panda.interpreter.syntax.scope.StandaloneExpression;
 
 final class ReplStatement extends StandaloneExpression implements Controller {
@@ -28,6 +29,11 @@ final class ReplStatement extends StandaloneExpression implements Controller {
         super(location, expression);
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        return false;
+    }
+
     @Override
     public byte getStatusCode() {
         return Status.RETURN;
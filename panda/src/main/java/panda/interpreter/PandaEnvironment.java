@@ -24,6 +24,7 @@
 import panda.interpreter.logging.Logger;
 import panda.interpreter.source.SourceService;
 import panda.interpreter.std.StdLoader;
+import panda.interpreter.std.StdUniverse;
 import panda.std.Lazy;
 
 import java.io.File;
@@ -37,6 +38,7 @@ public final class PandaEnvironment implements Environment {
     private final TypeGenerator typeGenerator;
     private final TypeLoader typeLoader;
     private final PandaInterpreter interpreter;
+    private final StdLoader stdLoader;
     private final Lazy<Void> std;
 
     public PandaEnvironment(FrameworkController controller, File workingDirectory) {
@@ -47,11 +49,28 @@ public PandaEnvironment(FrameworkController controller, File workingDirectory) {
         this.typeLoader = new PandaTypeLoader(packages);
         this.typeGenerator = new TypeGenerator(controller);
         this.interpreter = new PandaInterpreter(this);
+        this.stdLoader = new StdLoader();
+        this.std = Lazy.ofRunnable(() -> stdLoader.load(packages, typeGenerator, typeLoader));
+    }
 
-        this.std = Lazy.ofRunnable(() -> {
-            StdLoader stdLoader = new StdLoader();
-            stdLoader.load(packages, typeGenerator, typeLoader);
-        });
+    /**
+     * Create environment on top of the shared std universe, std types are not loaded again
+     *
+     * @param controller the controller
+     * @param workingDirectory the working directory
+     * @param universe the std universe to share
+     */
+    public PandaEnvironment(FrameworkController controller, File workingDirectory, StdUniverse universe) {
+        this.controller = controller;
+        this.workingDirectory = workingDirectory;
+        this.sources = new SourceService();
+        this.packages = new Packages(sources);
+        this.packages.registerPackages(universe.getPackages());
+        this.typeLoader = new PandaTypeLoader(packages, universe.getTypeLoader());
+        this.typeGenerator = new TypeGenerator(controller, universe.getTypeGenerator());
+        this.interpreter = new PandaInterpreter(this);
+        this.stdLoader = universe.getStdLoader();
+        this.std = Lazy.ofRunnable(() -> { });
     }
 
     public synchronized void initialize() {
@@ -67,6 +86,10 @@ public PandaInterpreter getInterpreter() {
         return interpreter;
     }
 
+    public StdLoader getStdLoader() {
+        return stdLoader;
+    }
+
     @Override
     public Logger getLogger() {
         return getController().getLogger();
@@ -18,6 +18,7 @@
 
 import panda.interpreter.architecture.Application;
 import panda.interpreter.architecture.packages.Package;
+import panda.interpreter.std.StdUniverse;
 import panda.std.Result;
 
 import java.io.File;
@@ -31,7 +32,9 @@ public PandaFileLoader(Panda panda) {
     }
 
     public Result<Application, Throwable> load(File workingDirectory, Package pkg) {
-        PandaEnvironment environment = new PandaEnvironment(panda, workingDirectory);
+        PandaEnvironment environment = Boolean.getBoolean(StdUniverse.SHARED_PROPERTY)
+                ? new PandaEnvironment(panda, workingDirectory, StdUniverse.shared(panda))
+                : new PandaEnvironment(panda, workingDirectory);
         environment.initialize();
 
         return environment.getInterpreter().interpret(pkg);
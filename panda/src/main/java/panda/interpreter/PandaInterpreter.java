@@ -38,6 +38,7 @@
 import panda.interpreter.parser.stage.StageService;
 import panda.interpreter.source.Source;
 import panda.interpreter.source.SourceService;
+import panda.interpreter.std.StdLoader;
 import panda.interpreter.token.PandaSourceStream;
 import panda.interpreter.token.Snippet;
 import panda.interpreter.token.SourceStream;
@@ -49,12 +50,29 @@
 import panda.std.Option;
 import panda.std.Result;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 public final class PandaInterpreter implements Interpreter {
 
+    /**
+     * Enables parallel lexing of sources, disabled by default
+     */
+    public static final String PARALLEL_PROPERTY = "panda.interpreter.parallel";
+
     private final Environment environment;
+    private final boolean parallel;
 
-    public PandaInterpreter(Environment environment) {
+    public PandaInterpreter(Environment environment, boolean parallel) {
         this.environment = environment;
+        this.parallel = parallel;
+    }
+
+    public PandaInterpreter(Environment environment) {
+        this(environment, Boolean.getBoolean(PARALLEL_PROPERTY));
     }
 
     @Override
@@ -70,7 +88,7 @@ public Result<Application, Throwable> interpret(Package packageSource) {
 
         Lexer lexer = PandaLexer.of(environment.getController().getLanguage().getSyntax())
                 .enableSections()
-                .build();
+                .compile();
 
         Context<Object> context = new PandaContextCreator<>(
                 Option.none(),
@@ -97,6 +115,11 @@ public Result<Application, Throwable> interpret(Package packageSource) {
 
         try {
             stageManager.launch(() -> {
+                if (parallel) {
+                    parseInParallel(lexer, application, context, headPool, sources);
+                    return;
+                }
+
                 while (sources.hasUnloadedSources()) {
                     Pair<? extends Source, Completable<Script>> unloadedSource = sources.retrieve();
                     parse(lexer, application, context, headPool, unloadedSource.getFirst(), unloadedSource.getSecond());
@@ -112,6 +135,12 @@ public Result<Application, Throwable> interpret(Package packageSource) {
         String parseTime = TimeUtils.toMilliseconds(System.nanoTime() - uptime);
         environment.getLogger().debug("--- Interpretation of " + packageSource.getName() + " package details ");
         environment.getLogger().debug("• Parse time: " + parseTime);
+
+        if (environment instanceof PandaEnvironment) {
+            StdLoader stdLoader = ((PandaEnvironment) environment).getStdLoader();
+            environment.getLogger().debug("• Std types: " + stdLoader.getMaterializedTypes() + " of " + stdLoader.getRegisteredTypes() + " materialized" + (stdLoader.isLazy() ? " on demand" : ""));
+        }
+
         // environment.getLogger().debug("• Amount of types: " + environment.getModulePath().countTypes());
         // environment.getLogger().debug("• Amount of used types: " + environment.getModulePath().countUsedTypes());
         // environment.getLogger().debG, "• Amount of cached references: " + TypeGeneratorManager.getInstance().getCacheSize());
@@ -125,11 +154,58 @@ public Result<Application, Throwable> interpret(Package packageSource) {
         return Result.ok(application);
     }
 
+    /**
+     * Lex all unloaded sources using common fork join pool and head parse them on the calling thread.
+     * Lexers do not touch shared state, so types, modules and stage layers are accessed by the calling thread only and do not require locking.
+     * Head parsers delegate stage tasks and stage layers do not keep insertion order of tasks with the same priority,
+     * so sources are head parsed in the order of retrieval to delegate tasks in the same order as the sequential mode does.
+     * Sources required by the parsed batch are loaded as a next batch.
+     */
+    private void parseInParallel(Lexer lexer, PandaApplication application, Context<Object> context, ParserPool<Object> headPool, SourceService sources) {
+        while (sources.hasUnloadedSources()) {
+            List<Pair<? extends Source, Completable<Script>>> batch = sources.retrieveAll();
+            List<ForkJoinTask<Snippet>> tasks = new ArrayList<>(batch.size());
+
+            for (Pair<? extends Source, Completable<Script>> unloadedSource : batch) {
+                tasks.add(ForkJoinPool.commonPool().submit(() -> lexer.convert(unloadedSource.getFirst())));
+            }
+
+            for (int index = 0; index < batch.size(); index++) {
+                Pair<? extends Source, Completable<Script>> unloadedSource = batch.get(index);
+                Snippet tokenizedSource;
+
+                try {
+                    tokenizedSource = tasks.get(index).get();
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw new PandaParserException("Interrupted parsing of sources", interruptedException);
+                } catch (ExecutionException executionException) {
+                    Throwable cause = executionException.getCause();
+
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+
+                    throw new PandaParserException("Cannot parse source", cause);
+                }
+
+                parse(application, context, headPool, unloadedSource.getFirst(), tokenizedSource, unloadedSource.getSecond());
+            }
+        }
+    }
+
     private boolean parse(Lexer lexer, PandaApplication application, Context<Object> context, ParserPool<Object> headPool, Source source, Completable<Script> result) {
+        return parse(application, context, headPool, source, lexer.convert(source), result);
+    }
+
+    private boolean parse(PandaApplication application, Context<Object> context, ParserPool<Object> headPool, Source source, Snippet tokenizedSource, Completable<Script> result) {
         PandaScript script = new PandaScript(source);
         application.addScript(script);
 
-        Snippet tokenizedSource = lexer.convert(source);
         SourceStream stream = new PandaSourceStream(tokenizedSource);
 
         Imports imports = new Imports(context.getEnvironment().getPackages(), context.getTypeLoader());
@@ -18,20 +18,44 @@
 
 import panda.interpreter.PandaFrameworkException;
 import panda.interpreter.architecture.module.Module;
+import panda.interpreter.architecture.module.PandaTypeLoader;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.architecture.packages.Package;
 import panda.interpreter.architecture.packages.Packages;
+import panda.interpreter.architecture.type.LazyReference;
+import panda.interpreter.architecture.type.Reference;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.architecture.type.Visibility;
 import panda.interpreter.architecture.type.generator.TypeGenerator;
 import panda.interpreter.resource.Mappings;
 import panda.interpreter.resource.Mappings.CustomInitializer;
 import panda.interpreter.PandaConstants;
 import panda.utilities.ClassUtils;
 import panda.utilities.StringUtils;
+import panda.std.Option;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class StdLoader {
 
+    /**
+     * Enables on-demand generation of mapped std types, disabled by default
+     */
+    public static final String LAZY_PROPERTY = "panda.std.lazy";
+
+    private final boolean lazy;
+    private final AtomicInteger registeredTypes = new AtomicInteger();
+    private final AtomicInteger materializedTypes = new AtomicInteger();
+
+    public StdLoader(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public StdLoader() {
+        this(Boolean.getBoolean(LAZY_PROPERTY));
+    }
+
     public void load(Packages packages, TypeGenerator typeGenerator, TypeLoader typeLoader) {
         load(packages, typeGenerator, typeLoader, PandaModules.getMappings());
     }
@@ -60,14 +84,69 @@ private void loadClass(Packages packages, TypeGenerator typeGenerator, TypeLoade
         String packageName = mappingsInfo.commonPackage().isEmpty() ? StringUtils.EMPTY : mappingsInfo.commonPackage() + ".";
 
         for (String name : mappingsInfo.classes()) {
-            ClassUtils.forName(packageName + name)
-                    .map(type -> typeGenerator.generate(typeLoader, module, name, type))
-                    .peek(module::add)
-                    .peek(reference -> typeLoader.load(reference.fetchType()))
-                    .orThrow(() -> {
-                        throw new PandaFrameworkException("Cannot find class " + name + " in " + packageName);
-                    });
+            registeredTypes.incrementAndGet();
+
+            // names of mapped classes are enough to register types, classes are loaded and reflected on the first use
+            if (lazy) {
+                LazyReference reference = new LazyReference(module, name, Visibility.OPEN, () -> materialize(typeGenerator, typeLoader, module, packageName, name));
+                typeGenerator.defer(packageName + name, reference);
+                module.add(reference);
+                continue;
+            }
+
+            Reference reference = generate(typeGenerator, typeLoader, module, packageName, name);
+            module.add(reference);
+            typeLoader.load(reference.fetchType());
         }
     }
 
+    private Reference materialize(TypeGenerator typeGenerator, TypeLoader typeLoader, Module module, String packageName, String name) {
+        // the same lock is used by the type loader, so concurrent requests of the same type generate it only once
+        return PandaTypeLoader.synchronize(() -> {
+            Option<Reference> loadedReference = ClassUtils.forName(packageName + name)
+                    .flatMap(typeLoader::forJavaType)
+                    .map(Type::getReference);
+
+            if (loadedReference.isDefined()) {
+                return loadedReference.get();
+            }
+
+            materializedTypes.incrementAndGet();
+
+            Reference reference = generate(typeGenerator, typeLoader, module, packageName, name);
+            typeLoader.load(reference.fetchType());
+            return reference;
+        });
+    }
+
+    private Reference generate(TypeGenerator typeGenerator, TypeLoader typeLoader, Module module, String packageName, String name) {
+        return ClassUtils.forName(packageName + name)
+                .map(type -> typeGenerator.generate(typeLoader, module, name, type))
+                .orThrow(() -> {
+                    throw new PandaFrameworkException("Cannot find class " + name + " in " + packageName);
+                });
+    }
+
+    /**
+     * Get amount of types registered by mappings
+     *
+     * @return the amount of registered types
+     */
+    public int getRegisteredTypes() {
+        return registeredTypes.get();
+    }
+
+    /**
+     * Get amount of types generated on demand, in the eager mode all registered types are generated during load
+     *
+     * @return the amount of materialized types
+     */
+    public int getMaterializedTypes() {
+        return lazy ? materializedTypes.get() : registeredTypes.get();
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.std;
+
+import panda.interpreter.FrameworkController;
+import panda.interpreter.architecture.module.PandaTypeLoader;
+import panda.interpreter.architecture.module.TypeLoader;
+import panda.interpreter.architecture.packages.Packages;
+import panda.interpreter.architecture.type.generator.TypeGenerator;
+import panda.interpreter.source.SourceService;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Std types loaded once and shared by multiple environments.
+ * Environments use the universe as a parent of their own type loader and type generator,
+ * so each of them still has its own mutable state for user types.
+ */
+public final class StdUniverse {
+
+    /**
+     * Enables sharing of std types between environments created by {@link panda.interpreter.PandaFileLoader}, disabled by default
+     */
+    public static final String SHARED_PROPERTY = "panda.std.shared";
+
+    private static @Nullable StdUniverse shared;
+
+    private final Packages packages;
+    private final TypeGenerator typeGenerator;
+    private final PandaTypeLoader typeLoader;
+    private final StdLoader stdLoader;
+
+    public StdUniverse(FrameworkController controller, StdLoader stdLoader) {
+        this.packages = new Packages(new SourceService());
+        this.typeLoader = new PandaTypeLoader(packages);
+        this.typeGenerator = new TypeGenerator(controller);
+        this.stdLoader = stdLoader;
+        stdLoader.load(packages, typeGenerator, typeLoader);
+    }
+
+    public StdUniverse(FrameworkController controller) {
+        this(controller, new StdLoader());
+    }
+
+    /**
+     * Get universe shared by all environments created by the current class loader
+     *
+     * @param controller the controller used to create universe if it does not exist yet
+     * @return the shared universe
+     */
+    public static synchronized StdUniverse shared(FrameworkController controller) {
+        if (shared == null) {
+            shared = new StdUniverse(controller);
+        }
+
+        return shared;
+    }
+
+    public StdLoader getStdLoader() {
+        return stdLoader;
+    }
+
+    public TypeLoader getTypeLoader() {
+        return typeLoader;
+    }
+
+    public TypeGenerator getTypeGenerator() {
+        return typeGenerator;
+    }
+
+    public Packages getPackages() {
+        return packages;
+    }
+
+}
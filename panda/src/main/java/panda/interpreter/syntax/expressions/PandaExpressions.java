@@ -18,6 +18,7 @@
 
 import panda.interpreter.parser.expression.ExpressionSubparser;
 import panda.interpreter.parser.expression.ExpressionSubparsers;
+import panda.interpreter.syntax.expressions.subparsers.AwaitParser;
 import panda.interpreter.syntax.expressions.subparsers.CastParser;
 import panda.interpreter.syntax.expressions.subparsers.InstanceCreationParser;
 import panda.interpreter.syntax.expressions.subparsers.CreaseParser;
@@ -32,6 +33,7 @@
 import panda.interpreter.syntax.expressions.subparsers.operation.OperationExpressionParser;
 import panda.interpreter.syntax.expressions.subparsers.SectionParser;
 import panda.interpreter.syntax.expressions.subparsers.SequenceParser;
+import panda.interpreter.syntax.expressions.subparsers.SpawnParser;
 import panda.interpreter.syntax.expressions.subparsers.StaticParser;
 import panda.interpreter.syntax.expressions.subparsers.VariableParser;
 import panda.interpreter.syntax.expressions.subparsers.AssignationPrarser;
@@ -44,6 +46,7 @@ public final class PandaExpressions {
     public static Collection<ExpressionSubparser> createSubparsers() {
         return Arrays.asList(
                 new AssignationPrarser(),
+                new AwaitParser(),
                 new CastParser(),
                 new InstanceCreationParser(),
                 new CreaseParser(),
@@ -58,6 +61,7 @@ public static Collection<ExpressionSubparser> createSubparsers() {
                 new OperationExpressionParser(),
                 new SectionParser(),
                 new SequenceParser(),
+                new SpawnParser(),
                 new StaticParser(),
                 new VariableParser()
         );
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.DynamicExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.type.generator.ArrayComponent;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+
+/**
+ * Reads element of array without the dispatch of generated {@code get} method
+ */
+final class ArrayLoadExpression implements DynamicExpression, CompilableExpression, OptimizableExpression {
+
+    private final ArrayComponent component;
+    private final Signature returnType;
+    private final Expression array;
+    private final Expression index;
+
+    ArrayLoadExpression(ArrayComponent component, Signature returnType, Expression array, Expression index) {
+        this.component = component;
+        this.returnType = returnType;
+        this.array = array;
+        this.index = index;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object evaluate(ProcessStack stack, Object instance) throws Exception {
+        return component.get(array.evaluate(stack, instance), index.evaluateInt(stack, instance));
+    }
+
+    @Override
+    public int evaluateInt(ProcessStack stack, Object instance) throws Exception {
+        return component.getInt(array.evaluate(stack, instance), index.evaluateInt(stack, instance));
+    }
+
+    @Override
+    public long evaluateLong(ProcessStack stack, Object instance) throws Exception {
+        return component.getLong(array.evaluate(stack, instance), index.evaluateInt(stack, instance));
+    }
+
+    @Override
+    public double evaluateDouble(ProcessStack stack, Object instance) throws Exception {
+        return component.getDouble(array.evaluate(stack, instance), index.evaluateInt(stack, instance));
+    }
+
+    @Override
+    public CompiledExpression compile(Compilation compilation) {
+        Class<?> arrayClass = component.getArrayClass();
+        String arraySource = "((" + arrayClass.getCanonicalName() + ") " + compilation.toObject(compilation.expression(array)) + ")";
+        String indexSource = compilation.toPrimitive(compilation.expression(index), int.class);
+
+        return CompiledExpression.of(arraySource + "[" + indexSource + "]", arrayClass.getComponentType());
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        Expression optimizedArray = optimizer.optimize(array);
+        Expression optimizedIndex = optimizer.optimize(index);
+
+        if (optimizedArray == array && optimizedIndex == index) {
+            return null;
+        }
+
+        return new ArrayLoadExpression(component, returnType, optimizedArray, optimizedIndex).toExpression();
+    }
+
+    @Override
+    public Signature getReturnType() {
+        return returnType;
+    }
+
+}
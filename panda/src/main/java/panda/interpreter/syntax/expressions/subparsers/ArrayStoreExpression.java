@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.DynamicExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.type.generator.ArrayComponent;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+
+/**
+ * Writes element of array without the dispatch of generated {@code set} method, returns the array
+ */
+final class ArrayStoreExpression implements DynamicExpression, CompilableExpression, OptimizableExpression {
+
+    private final ArrayComponent component;
+    private final Expression array;
+    private final Expression index;
+    private final Expression value;
+
+    ArrayStoreExpression(ArrayComponent component, Expression array, Expression index, Expression value) {
+        this.component = component;
+        this.array = array;
+        this.index = index;
+        this.value = value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object evaluate(ProcessStack stack, Object instance) throws Exception {
+        return component.set(array.evaluate(stack, instance), index.evaluateInt(stack, instance), value.evaluate(stack, instance));
+    }
+
+    @Override
+    public CompiledExpression compile(Compilation compilation) {
+        String arraySource = compilation.toObject(compilation.expression(array));
+        String indexSource = compilation.toPrimitive(compilation.expression(index), int.class);
+        String valueSource = compilation.toObject(compilation.expression(value));
+
+        return CompiledExpression.of(compilation.constant(component, ArrayComponent.class) + ".set(" + arraySource + ", " + indexSource + ", " + valueSource + ")", Object.class);
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        Expression optimizedArray = optimizer.optimize(array);
+        Expression optimizedIndex = optimizer.optimize(index);
+        Expression optimizedValue = optimizer.optimize(value);
+
+        if (optimizedArray == array && optimizedIndex == index && optimizedValue == value) {
+            return null;
+        }
+
+        return new ArrayStoreExpression(component, optimizedArray, optimizedIndex, optimizedValue).toExpression();
+    }
+
+    @Override
+    public Signature getReturnType() {
+        return array.getSignature();
+    }
+
+}
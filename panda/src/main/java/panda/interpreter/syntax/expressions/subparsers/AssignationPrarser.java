@@ -22,6 +22,7 @@
 import panda.interpreter.architecture.dynamic.assigner.Assigner;
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.expression.ExpressionUtils;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
 import panda.interpreter.architecture.statement.Variable;
 import panda.interpreter.parser.Context;
 import panda.interpreter.parser.PandaParserFailure;
@@ -97,8 +98,16 @@ else if (!accessor.getSignature().isAssignableFrom(value.getSignature())) {
                 throw new PandaParserFailure(context, "Incompatible signatures");
             });
 
-            accessor.getVariable().initialize();
-            Assigner<?> assigner = accessor.toAssigner(token, true, equalizedExpression);
+            // assignments of definitely assigned local variables are changes, so immutable variables reject them
+            boolean local = accessor instanceof LocalVariableAccessor;
+            boolean initialize = !local || !variable.isInitialized();
+
+            // local variable is definitely assigned only if the assignment is not nested in a block like branch or loop
+            if (!local || context.toContext().getScope().getVariables().contains(variable)) {
+                variable.initialize();
+            }
+
+            Assigner<?> assigner = accessor.toAssigner(token, initialize, equalizedExpression);
 
             return ExpressionResult.of(assigner.toExpression());
         }
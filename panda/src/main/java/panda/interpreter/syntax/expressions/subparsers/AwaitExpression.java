@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.DynamicExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.runtime.PandaRuntimeException;
+import panda.interpreter.runtime.PandaTasks;
+import panda.interpreter.runtime.ProcessStack;
+
+import java.util.concurrent.Future;
+
+/**
+ * Waits for the result of task spawned by {@link panda.interpreter.syntax.expressions.subparsers.SpawnExpression}
+ */
+final class AwaitExpression implements DynamicExpression {
+
+    private final Signature resultSignature;
+    private final Expression task;
+
+    AwaitExpression(Signature resultSignature, Expression task) {
+        this.resultSignature = resultSignature;
+        this.task = task;
+    }
+
+    @Override
+    public @Nullable Object evaluate(ProcessStack stack, Object instance) throws Exception {
+        Future<?> future = task.evaluate(stack, instance);
+
+        if (future == null) {
+            throw new PandaRuntimeException("Cannot await nil task");
+        }
+
+        return PandaTasks.await(future);
+    }
+
+    @Override
+    public Signature getReturnType() {
+        return resultSignature;
+    }
+
+}
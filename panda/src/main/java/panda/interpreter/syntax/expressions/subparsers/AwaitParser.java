@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.parser.Context;
+import panda.interpreter.parser.expression.AbstractExpressionSubparserWorker;
+import panda.interpreter.parser.expression.ExpressionContext;
+import panda.interpreter.parser.expression.ExpressionResult;
+import panda.interpreter.parser.expression.ExpressionSubparser;
+import panda.interpreter.parser.expression.ExpressionSubparserType;
+import panda.interpreter.parser.expression.ExpressionSubparserWorker;
+import panda.interpreter.resource.syntax.keyword.Keywords;
+import panda.interpreter.token.TokenInfo;
+
+public final class AwaitParser implements ExpressionSubparser {
+
+    @Override
+    public ExpressionSubparserWorker createWorker(Context<?> context) {
+        return new AwaitWorker().withSubparser(this);
+    }
+
+    @Override
+    public int minimalRequiredLengthOfSource() {
+        return 2;
+    }
+
+    @Override
+    public ExpressionSubparserType type() {
+        return ExpressionSubparserType.INDIVIDUAL;
+    }
+
+    @Override
+    public String name() {
+        return "await";
+    }
+
+    private static final class AwaitWorker extends AbstractExpressionSubparserWorker {
+
+        @Override
+        public @Nullable ExpressionResult next(ExpressionContext<?> context, TokenInfo token) {
+            if (!token.contentEquals(Keywords.AWAIT)) {
+                return null;
+            }
+
+            Expression task = context.getParser().parse(context.toContext(), context.getSynchronizedSource());
+            Type futureType = context.toContext().getTypeLoader().requireType("panda/panda@::Future");
+
+            if (!futureType.isAssignableFrom(task.getKnownType())) {
+                return ExpressionResult.error("Cannot await non Future value of type " + task.getKnownType().getSimpleName(), token);
+            }
+
+            Signature[] generics = task.getSignature().getGenerics();
+
+            // result of raw or unresolved futures is known only as an object
+            Signature resultSignature = generics.length == 1 && generics[0].isTyped()
+                    ? generics[0]
+                    : context.toContext().getTypeLoader().requireType("panda/panda@::Object").getSignature();
+
+            return ExpressionResult.of(new AwaitExpression(resultSignature, task).toExpression());
+        }
+
+    }
+
+}
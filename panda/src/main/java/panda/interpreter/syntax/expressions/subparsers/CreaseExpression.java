@@ -16,30 +16,43 @@
 
 package panda.interpreter.syntax.expressions.subparsers;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.dynamic.accessor.Accessor;
 import panda.interpreter.architecture.dynamic.accessor.AccessorExpression;
 import panda.interpreter.architecture.expression.DynamicExpression;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
+import panda.interpreter.architecture.statement.Variable;
+import panda.interpreter.architecture.statement.VariableAccessor;
 import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
 import panda.interpreter.parser.PandaParserException;
 import panda.interpreter.runtime.MemoryContainer;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.CompilationUtils;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.number.NumberPriorities;
+import panda.utilities.ClassUtils;
 
 import java.util.function.Function;
 
-final class CreaseExpression extends NumberPriorities implements DynamicExpression {
+public final class CreaseExpression extends NumberPriorities implements DynamicExpression, CompilableExpression, OptimizableExpression {
 
     private final Accessor<?> accessor;
     private final boolean grow;
     private final boolean post;
+    private final int priority;
     private final Function<Number, Object> function;
 
     public CreaseExpression(Accessor<?> accessor, boolean grow, boolean post) {
         this.accessor = accessor;
         this.grow = grow;
         this.post = post;
-        this.function = toFunction(getPriority(accessor.getKnownType()));
+        this.priority = getPriority(accessor.getKnownType());
+        this.function = toFunction(priority);
     }
 
     @Override
@@ -56,6 +69,26 @@ public Object evaluate(ProcessStack stack, Object instance) throws Exception {
                 : after;
     }
 
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        if (!(accessor instanceof VariableAccessor) && !(accessor instanceof LocalVariableAccessor)) {
+            return null;
+        }
+
+        String local = compilation.local(accessor.getMemoryPointer());
+        Class<?> operandType = toPrimitiveClass(priority);
+        Class<?> resultType = priority < INT ? int.class : operandType;
+
+        String value = compilation.toPrimitive(CompiledExpression.of(local, Object.class), operandType) + (grow ? " + 1" : " - 1");
+        String after = ClassUtils.getNonPrimitiveClass(resultType).getName() + ".valueOf(" + value + ")";
+
+        if (post) {
+            return CompiledExpression.of(CompilationUtils.class.getName() + ".exchange(memory, " + accessor.getMemoryPointer() + ", " + after + ")", Object.class);
+        }
+
+        return CompiledExpression.of("(" + local + " = " + after + ")", Object.class);
+    }
+
     private Function<Number, Object> toFunction(int priority) {
         switch (priority) {
             case INT:
@@ -87,6 +120,24 @@ private Function<Number, Object> toFunction(int priority) {
         }
     }
 
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        return null;
+    }
+
+    @Override
+    public Variable getModifiedVariable() {
+        return accessor.getVariable();
+    }
+
+    public boolean isIncrement() {
+        return grow;
+    }
+
+    public Accessor<?> getAccessor() {
+        return accessor;
+    }
+
     @Override
     public Signature getReturnType() {
         return accessor.getVariable().getSignature();
@@ -18,8 +18,8 @@
 
 import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
 import panda.interpreter.architecture.statement.Variable;
-import panda.interpreter.architecture.statement.VariableAccessor;
 import panda.interpreter.architecture.statement.VariableData;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.parser.Context;
@@ -119,7 +119,7 @@ private static final class Worker extends AbstractExpressionSubparserWorker impl
                     .orElseGet(() -> dataInitializer.createVariableData(name.get(), mutable, nillable));
 
             Variable variable = scope.createVariable(variableData);
-            return ExpressionResult.of(new VariableExpression(new VariableAccessor(variable)));
+            return ExpressionResult.of(new LocalVariableExpression(new LocalVariableAccessor(variable)));
         }
 
     }
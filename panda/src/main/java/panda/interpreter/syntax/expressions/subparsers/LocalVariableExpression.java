@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.AbstractLivingFrameUtils;
+import panda.interpreter.architecture.dynamic.accessor.AccessorExpression;
+import panda.interpreter.architecture.expression.DynamicExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+
+/**
+ * Reads variable from the fixed slot in the local memory of the current frame
+ */
+final class LocalVariableExpression implements DynamicExpression, CompilableExpression {
+
+    private final LocalVariableAccessor accessor;
+    private final int pointer;
+
+    LocalVariableExpression(LocalVariableAccessor accessor) {
+        this.accessor = accessor;
+        this.pointer = accessor.getMemoryPointer();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Object evaluate(ProcessStack stack, Object instance) {
+        return AbstractLivingFrameUtils.get(stack.getCurrentFrame(), pointer);
+    }
+
+    @Override
+    public CompiledExpression compile(Compilation compilation) {
+        return CompiledExpression.of(compilation.local(pointer), Object.class);
+    }
+
+    @Override
+    public Signature getReturnType() {
+        return accessor.getSignature();
+    }
+
+    @Override
+    public Expression toExpression() {
+        return new AccessorExpression(accessor, this);
+    }
+
+}
@@ -24,6 +24,7 @@
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.architecture.type.TypedUtils;
 import panda.interpreter.architecture.type.VisibilityComparator;
+import panda.interpreter.architecture.type.generator.ArrayComponent;
 import panda.interpreter.architecture.type.member.method.TypeMethod;
 import panda.interpreter.architecture.type.member.parameter.PropertyParameter;
 import panda.interpreter.architecture.type.signature.AdjustedExpression;
@@ -182,9 +183,31 @@ private Expression parseMethod(ExpressionContext<?> context, Type type, Expressi
                 throw new PandaParserFailure(context.toContext(), methodName, issue.get(), VisibilityComparator.NOTE_MESSAGE);
             }
 
+            if (method.getType() == type && type.getAssociated().isReady() && type.getAssociated().get().isArray()) {
+                Expression arrayAccess = parseArrayAccess(type, instance, method, arguments);
+
+                if (arrayAccess != null) {
+                    return arrayAccess;
+                }
+            }
+
             return new AdjustedExpression(instance, matchedMethod.get(), arguments);
         }
 
+        private @Nullable Expression parseArrayAccess(Type type, Expression instance, TypeMethod method, List<Expression> arguments) {
+            ArrayComponent component = ArrayComponent.of(type.getAssociated().get());
+
+            if (method.getName().equals("get") && arguments.size() == 1) {
+                return new ArrayLoadExpression(component, method.getReturnType(), instance, arguments.get(0)).toExpression();
+            }
+
+            if (method.getName().equals("set") && arguments.size() == 2) {
+                return new ArrayStoreExpression(component, instance, arguments.get(0), arguments.get(1)).toExpression();
+            }
+
+            return null;
+        }
+
     }
 
 }
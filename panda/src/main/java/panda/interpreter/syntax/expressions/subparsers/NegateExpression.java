@@ -16,14 +16,20 @@
 
 package panda.interpreter.syntax.expressions.subparsers;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.expression.DynamicExpression;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.expression.ExpressionUtils;
+import panda.interpreter.architecture.expression.ExpressionValueType;
+import panda.interpreter.architecture.expression.PandaExpression;
 import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
 import panda.interpreter.runtime.ProcessStack;
 
 import java.security.InvalidParameterException;
 
-final class NegateExpression implements DynamicExpression {
+final class NegateExpression implements DynamicExpression, OptimizableExpression {
 
     private final Expression logicalExpression;
 
@@ -42,6 +48,27 @@ public Object evaluate(ProcessStack stack, Object instance) throws Exception {
         return !value; // handle npe?
     }
 
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        Expression optimized = optimizer.optimize(logicalExpression);
+
+        if (optimized == logicalExpression) {
+            return null;
+        }
+
+        if (optimized.getExpressionType() == ExpressionValueType.CONST) {
+            Boolean value = ExpressionUtils.evaluateConstExpression(optimized);
+            return new PandaExpression(getReturnType(), !value);
+        }
+
+        return new NegateExpression(optimized).toExpression();
+    }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
     @Override
     public Signature getReturnType() {
         return logicalExpression.getSignature();
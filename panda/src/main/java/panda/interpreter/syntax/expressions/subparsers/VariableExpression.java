@@ -16,16 +16,22 @@
 
 package panda.interpreter.syntax.expressions.subparsers;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.dynamic.accessor.Accessor;
 import panda.interpreter.architecture.dynamic.accessor.AccessorExpression;
 import panda.interpreter.architecture.expression.DynamicExpression;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
+import panda.interpreter.architecture.statement.Scope;
 import panda.interpreter.architecture.statement.Variable;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.architecture.statement.VariableAccessor;
 
-final class VariableExpression implements DynamicExpression {
+final class VariableExpression implements DynamicExpression, CompilableExpression {
 
     private final Accessor<?> accessor;
 
@@ -43,6 +49,13 @@ public Object evaluate(ProcessStack stack, Object instance) throws Exception {
         return accessor.getValue(stack, instance);
     }
 
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        return accessor instanceof VariableAccessor
+                ? CompiledExpression.of(compilation.local(accessor.getMemoryPointer()), Object.class)
+                : null;
+    }
+
     @Override
     public Signature getReturnType() {
         return accessor.getSignature();
@@ -53,4 +66,17 @@ public Expression toExpression() {
         return new AccessorExpression(accessor, this);
     }
 
+    /**
+     * Create expression that reads the given variable, variables of the current frame are read directly from their slots
+     *
+     * @param scope the scope where variable is used
+     * @param variable the variable to read
+     * @return the expression
+     */
+    static DynamicExpression of(Scope scope, Variable variable) {
+        return LocalVariableAccessor.isLocal(scope, variable)
+                ? new LocalVariableExpression(new LocalVariableAccessor(variable))
+                : new VariableExpression(variable);
+    }
+
 }
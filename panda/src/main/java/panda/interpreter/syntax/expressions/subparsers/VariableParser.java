@@ -88,7 +88,7 @@ private static final class VariableWorker extends AbstractExpressionSubparserWor
             // respect local variables before fields
             if (variableValue.isDefined()) {
                 Variable variable = variableValue.get();
-                return ExpressionResult.of(new VariableExpression(variable).toExpression());
+                return ExpressionResult.of(VariableExpression.of(context.toContext().getScope(), variable).toExpression());
             }
 
             if (context.toContext().getSubject() instanceof TypeContext) {
@@ -53,6 +53,29 @@ public static Type estimateType(Type a, Type b) {
         return getPriority(a) < getPriority(b) ? b : a;
     }
 
+    public static Class<?> toPrimitiveClass(int priority) {
+        switch (priority) {
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            default:
+                throw new PandaParserException("Unknown number type: " + priority);
+        }
+    }
+
+    public static boolean isNumber(Type type) {
+        return HIERARCHY.containsKey(type.getName()) || HIERARCHY.containsKey(type.getName().replace("Primitive", ""));
+    }
+
     public static int getPriority(Type type) {
         @Nullable Integer priority = HIERARCHY.get(type.getName());
 
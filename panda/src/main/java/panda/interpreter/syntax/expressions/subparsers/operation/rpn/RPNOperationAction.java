@@ -16,9 +16,12 @@
 
 package panda.interpreter.syntax.expressions.subparsers.operation.rpn;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 
 public interface RPNOperationAction<R> {
 
@@ -26,4 +29,44 @@
 
     Signature returnType(TypeLoader typeLoader);
 
+    /**
+     * Get result of numeric operation as int, primitive operations should override it to avoid boxing
+     *
+     * @param stack the current stack
+     * @param instance the current instance
+     * @return the result
+     * @throws Exception if something happen
+     */
+    default int getInt(ProcessStack stack, Object instance) throws Exception {
+        return ((Number) get(stack, instance)).intValue();
+    }
+
+    /**
+     * Get result of numeric operation as long
+     *
+     * @see #getInt(panda.interpreter.runtime.ProcessStack, Object)
+     */
+    default long getLong(ProcessStack stack, Object instance) throws Exception {
+        return ((Number) get(stack, instance)).longValue();
+    }
+
+    /**
+     * Get result of numeric operation as double
+     *
+     * @see #getInt(panda.interpreter.runtime.ProcessStack, Object)
+     */
+    default double getDouble(ProcessStack stack, Object instance) throws Exception {
+        return ((Number) get(stack, instance)).doubleValue();
+    }
+
+    /**
+     * Compile operation, used by the compilation tier
+     *
+     * @param compilation the current compilation
+     * @return the compiled operation or null if operation has to be evaluated by the interpreter
+     */
+    default @Nullable CompiledExpression compile(Compilation compilation) {
+        return null;
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers.operation.rpn;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.expression.AbstractDynamicExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.expression.ExpressionValueType;
+import panda.interpreter.architecture.expression.PandaExpression;
+import panda.interpreter.architecture.module.TypeLoader;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+
+/**
+ * Binary operation of the operation expression, operands are kept to allow the optimizer to rebuild the operation
+ */
+public final class RPNOperationExpression extends AbstractDynamicExpression implements CompilableExpression, OptimizableExpression {
+
+    private final TypeLoader typeLoader;
+    private final RPNOperationSupplier<?> supplier;
+    private final Expression a;
+    private final Expression b;
+    private final RPNOperationAction<?> action;
+
+    RPNOperationExpression(TypeLoader typeLoader, RPNOperationSupplier<?> supplier, Expression a, Expression b, RPNOperationAction<?> action) {
+        super(action.returnType(typeLoader));
+        this.typeLoader = typeLoader;
+        this.supplier = supplier;
+        this.a = a;
+        this.b = b;
+        this.action = action;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object evaluate(ProcessStack stack, Object instance) throws Exception {
+        return action.get(stack, instance);
+    }
+
+    @Override
+    public int evaluateInt(ProcessStack stack, Object instance) throws Exception {
+        return action.getInt(stack, instance);
+    }
+
+    @Override
+    public long evaluateLong(ProcessStack stack, Object instance) throws Exception {
+        return action.getLong(stack, instance);
+    }
+
+    @Override
+    public double evaluateDouble(ProcessStack stack, Object instance) throws Exception {
+        return action.getDouble(stack, instance);
+    }
+
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        return action.compile(compilation);
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        Expression optimizedA = optimizer.optimize(a);
+        Expression optimizedB = optimizer.optimize(b);
+
+        if (optimizedA == a && optimizedB == b) {
+            return null;
+        }
+
+        RPNOperationAction<?> optimizedAction = supplier.of(typeLoader, optimizedA, optimizedB);
+
+        if (optimizedA.getExpressionType() == ExpressionValueType.CONST && optimizedB.getExpressionType() == ExpressionValueType.CONST) {
+            try {
+                return fold(typeLoader, optimizedAction);
+            } catch (Exception ignored) {
+                // the operation may be never called, so the failure is left to the runtime
+            }
+        }
+
+        return new PandaExpression(new RPNOperationExpression(typeLoader, supplier, optimizedA, optimizedB, optimizedAction));
+    }
+
+    @Override
+    public boolean isPure() {
+        return supplier.isPure();
+    }
+
+    static Expression fold(TypeLoader typeLoader, RPNOperationAction<?> action) throws Exception {
+        return new PandaExpression(action.returnType(typeLoader), action.get(null, null));
+    }
+
+    public RPNOperationSupplier<?> getSupplier() {
+        return supplier;
+    }
+
+    public Expression getA() {
+        return a;
+    }
+
+    public Expression getB() {
+        return b;
+    }
+
+}
+
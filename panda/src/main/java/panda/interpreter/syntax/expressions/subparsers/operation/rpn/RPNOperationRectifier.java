@@ -17,14 +17,12 @@
 package panda.interpreter.syntax.expressions.subparsers.operation.rpn;
 
 import panda.interpreter.PandaFrameworkException;
-import panda.interpreter.architecture.expression.AbstractDynamicExpression;
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.expression.ExpressionValueType;
 import panda.interpreter.architecture.expression.PandaExpression;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.parser.PandaParserException;
 import panda.interpreter.resource.syntax.operator.Operator;
-import panda.interpreter.runtime.ProcessStack;
 import panda.utilities.ObjectUtils;
 
 import java.util.Map;
@@ -57,8 +55,7 @@ public Expression rectify(TypeLoader typeLoader, Map<Operator, RPNOperationSuppl
 
             if (a.getExpressionType() == ExpressionValueType.CONST && b.getExpressionType() == ExpressionValueType.CONST) {
                 try {
-                    Object constValue = action.get(null, null);
-                    values.push(new PandaExpression(action.returnType(typeLoader), constValue));
+                    values.push(RPNOperationExpression.fold(typeLoader, action));
                 } catch (Exception cause) {
                     throw new PandaParserException("Cannot evaluate static expression: " + cause.toString(), cause);
                 }
@@ -66,15 +63,7 @@ public Expression rectify(TypeLoader typeLoader, Map<Operator, RPNOperationSuppl
                 continue;
             }
 
-            Expression expression = new PandaExpression(new AbstractDynamicExpression(action.returnType(typeLoader)) {
-                @Override
-                @SuppressWarnings("unchecked")
-                public Object evaluate(ProcessStack stack, Object instance) throws Exception {
-                    return action.get(stack, instance);
-                }
-            });
-
-            values.push(expression);
+            values.push(new PandaExpression(new RPNOperationExpression(typeLoader, supplier, a, b, action)));
         }
 
         return values.pop();
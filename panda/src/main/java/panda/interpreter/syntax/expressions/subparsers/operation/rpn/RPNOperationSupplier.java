@@ -28,4 +28,14 @@
 
     Type requiredType(TypeLoader typeLoader);
 
+    /**
+     * Check if operation does not have any side effects and cannot fail for the non-null operands of required type,
+     * so the optimizer is allowed to evaluate it in advance
+     *
+     * @return true if operation is pure
+     */
+    default boolean isPure() {
+        return false;
+    }
+
 }
@@ -16,35 +16,207 @@
 
 package panda.interpreter.syntax.expressions.subparsers.operation.subparsers;
 
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.accessor.Accessor;
+import panda.interpreter.architecture.dynamic.accessor.AccessorExpression;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.expression.ExpressionUtils;
+import panda.interpreter.architecture.expression.ExpressionValueType;
+import panda.interpreter.architecture.expression.PandaExpression;
+import panda.interpreter.architecture.statement.LocalVariableAccessor;
+import panda.interpreter.architecture.statement.Variable;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.architecture.type.Type;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableExpression;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.architecture.expression.DynamicExpression;
+import panda.interpreter.runtime.compiler.CompilableExpression;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+import panda.interpreter.syntax.expressions.subparsers.number.NumberPriorities;
+import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationExpression;
 
+import java.util.ArrayList;
 import java.util.List;
 
-public final class ConcatenationExpressionCallback implements DynamicExpression {
+/**
+ * Concatenation of values planned at parse time.
+ * Constant operands are appended as strings, numeric operands are appended through the primitive fast path of expressions,
+ * and the builder is presized using the length of the previously created value.
+ */
+public final class ConcatenationExpressionCallback implements DynamicExpression, CompilableExpression, OptimizableExpression {
+
+    private static final int OBJECT = 0;
+    private static final int LITERAL = 1;
+    private static final int INT = 2;
+    private static final int LONG = 3;
+    private static final int DOUBLE = 4;
 
     private final Type stringType;
-    private final List<Expression> values;
+    private final Expression[] values;
+    private final String[] literals;
+    private final int[] kinds;
+    private int estimatedLength;
 
-    public ConcatenationExpressionCallback(Type stringType, List<Expression> values) {
+    private ConcatenationExpressionCallback(Type stringType, List<Expression> values) {
         this.stringType = stringType;
-        this.values = values;
+        this.values = values.toArray(new Expression[0]);
+        this.literals = new String[this.values.length];
+        this.kinds = new int[this.values.length];
+
+        for (int index = 0; index < this.values.length; index++) {
+            Expression value = this.values[index];
+            this.kinds[index] = kindOf(value);
+
+            if (kinds[index] == LITERAL) {
+                literals[index] = String.valueOf((Object) ExpressionUtils.evaluateConstExpression(value));
+                this.estimatedLength += literals[index].length();
+            }
+            else {
+                this.estimatedLength += 16;
+            }
+        }
     }
 
     @Override
     public String evaluate(ProcessStack stack, Object instance) throws Exception {
-        StringBuilder content = new StringBuilder();
+        StringBuilder content = new StringBuilder(estimatedLength);
 
-        for (Expression value : values) {
-            content.append((Object) value.evaluate(stack, instance));
+        for (int index = 0; index < values.length; index++) {
+            switch (kinds[index]) {
+                case LITERAL:
+                    content.append(literals[index]);
+                    break;
+                case INT:
+                    content.append(values[index].evaluateInt(stack, instance));
+                    break;
+                case LONG:
+                    content.append(values[index].evaluateLong(stack, instance));
+                    break;
+                case DOUBLE:
+                    content.append(values[index].evaluateDouble(stack, instance));
+                    break;
+                default:
+                    content.append((Object) values[index].evaluate(stack, instance));
+            }
         }
 
+        // racy updates are fine, the estimation only affects the initial capacity of builder
+        this.estimatedLength = content.length();
         return content.toString();
     }
 
+    @Override
+    public @Nullable CompiledExpression compile(Compilation compilation) {
+        StringBuilder source = new StringBuilder("new " + StringBuilder.class.getName() + "(" + estimatedLength + ")");
+
+        for (int index = 0; index < values.length; index++) {
+            if (kinds[index] == LITERAL) {
+                source.append(".append(").append(compilation.constant(literals[index], String.class)).append(")");
+                continue;
+            }
+
+            CompiledExpression value = compilation.expression(values[index]);
+            source.append(".append(").append(value.isPrimitive() ? value.getSource() : "(Object) " + value.getSource()).append(")");
+        }
+
+        return CompiledExpression.of(source.append(".toString()").toString(), String.class);
+    }
+
+    @Override
+    public @Nullable Expression optimize(ExpressionOptimizer optimizer) {
+        List<Expression> optimizedValues = new ArrayList<>(values.length);
+        boolean changed = false;
+
+        for (Expression value : values) {
+            Expression optimizedValue = optimizer.optimize(value);
+            optimizedValues.add(optimizedValue);
+            changed |= optimizedValue != value;
+        }
+
+        return changed ? of(stringType, optimizedValues) : null;
+    }
+
+    /**
+     * Create concatenation of the given values, adjacent constant values are merged into a single literal
+     *
+     * @param stringType the type of string
+     * @param values the values to concatenate
+     * @return the expression that concatenates values or the constant expression if all the values are constants
+     */
+    public static Expression of(Type stringType, List<Expression> values) {
+        List<Expression> plan = foldConstants(stringType, values);
+
+        if (plan.size() == 1 && plan.get(0).getExpressionType() == ExpressionValueType.CONST) {
+            return plan.get(0);
+        }
+
+        return new ConcatenationExpressionCallback(stringType, plan).toExpression();
+    }
+
+    private static List<Expression> foldConstants(Type stringType, List<Expression> values) {
+        List<Expression> plan = new ArrayList<>(values.size());
+        StringBuilder constant = null;
+
+        for (Expression value : values) {
+            if (value.getExpressionType() == ExpressionValueType.CONST) {
+                constant = constant == null ? new StringBuilder() : constant;
+                constant.append((Object) ExpressionUtils.evaluateConstExpression(value));
+                continue;
+            }
+
+            if (constant != null) {
+                plan.add(new PandaExpression(stringType.getSignature(), constant.toString()));
+                constant = null;
+            }
+
+            plan.add(value);
+        }
+
+        if (constant != null) {
+            plan.add(new PandaExpression(stringType.getSignature(), constant.toString()));
+        }
+
+        return plan;
+    }
+
+    private static int kindOf(Expression value) {
+        if (value.getExpressionType() == ExpressionValueType.CONST) {
+            return LITERAL;
+        }
+
+        // primitive path unboxes values, so nil values have to be appended as objects
+        if (value.isNull() || !NumberPriorities.isNumber(value.getKnownType()) || !isNonNull(value)) {
+            return OBJECT;
+        }
+
+        int priority = NumberPriorities.getPriority(value.getKnownType());
+
+        if (priority <= NumberPriorities.INT) {
+            return INT;
+        }
+
+        if (priority == NumberPriorities.LONG) {
+            return LONG;
+        }
+
+        return priority == NumberPriorities.DOUBLE ? DOUBLE : OBJECT;
+    }
+
+    private static boolean isNonNull(Expression value) {
+        if (value instanceof AccessorExpression) {
+            Accessor<?> accessor = ((AccessorExpression) value).getAccessor();
+            Variable variable = accessor.getVariable();
+
+            // late variables are not assigned until their initialization, even if they are not nillable
+            return accessor instanceof LocalVariableAccessor && !variable.isNillable() && variable.isInitialized();
+        }
+
+        // arithmetic operations always produce primitive values
+        return value instanceof PandaExpression && ((PandaExpression) value).getEvaluator() instanceof RPNOperationExpression;
+    }
+
     @Override
     public Signature getReturnType() {
         return stringType.getSignature();
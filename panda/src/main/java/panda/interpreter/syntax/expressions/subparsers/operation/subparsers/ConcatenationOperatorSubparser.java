@@ -54,7 +54,7 @@ public final class ConcatenationOperatorSubparser implements OperationSubparser
         }
 
         Type stringType = context.getTypeLoader().requireType("panda/panda@::String");
-        return new ConcatenationExpressionCallback(stringType, values).toExpression();
+        return ConcatenationExpressionCallback.of(stringType, values);
     }
 
     private boolean parseSubOperation(OperationParser parser, Context<?> context, List<Expression> values, Operation operation, int start, int end) {
@@ -42,4 +42,9 @@ public Type requiredType(TypeLoader typeLoader) {
         return typeLoader.requireType("panda/panda@::Number");
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
 }
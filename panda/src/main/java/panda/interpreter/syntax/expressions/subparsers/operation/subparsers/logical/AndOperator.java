@@ -20,6 +20,8 @@
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 
 public final class AndOperator extends OrOperation {
@@ -42,6 +44,11 @@ public Boolean get(ProcessStack stack, Object instance) throws Exception {
             public Signature returnType(TypeLoader loader) {
                 return AndOperator.super.requiredType(loader).getSignature();
             }
+
+            @Override
+            public CompiledExpression compile(Compilation compilation) {
+                return OrOperation.compile(compilation, "&&", a, b);
+            }
         };
     }
 }
@@ -19,6 +19,8 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.architecture.module.TypeLoader;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.number.NumericOperation;
 
@@ -26,6 +28,23 @@ public abstract class ComparisonOperator extends NumericOperation<Boolean> {
 
     public abstract RPNOperationAction<Boolean> of(int typePriority, Expression a, Expression b);
 
+    /**
+     * Compile comparison of primitive values
+     *
+     * @param compilation the current compilation
+     * @param priority the priority of number type used by the comparison
+     * @param operator the Java operator
+     * @param a the left operand
+     * @param b the right operand
+     * @return the compiled comparison
+     */
+    protected static CompiledExpression compile(Compilation compilation, int priority, String operator, Expression a, Expression b) {
+        Class<?> operandType = toPrimitiveClass(priority);
+        String aSource = compilation.toPrimitive(compilation.expression(a), operandType);
+        String bSource = compilation.toPrimitive(compilation.expression(b), operandType);
+        return CompiledExpression.of("(" + aSource + " " + operator + " " + bSource + ")", boolean.class);
+    }
+
     @Override
     public RPNOperationAction<Boolean> of(TypeLoader typeLoader, Expression a, Expression b) {
         return of(getHigherPriority(a.getKnownType(), b.getKnownType()), a, b);
@@ -41,4 +60,9 @@ public Type requiredType(TypeLoader typeLoader) {
         return typeLoader.requireType("panda/panda@::Number");
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
 }
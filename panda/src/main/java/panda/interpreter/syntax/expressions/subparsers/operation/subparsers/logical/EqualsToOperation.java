@@ -21,6 +21,8 @@
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.parser.PandaParserException;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNSimplifiedSupplier;
 import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.number.NumericOperation;
@@ -45,6 +47,11 @@ public RPNOperationAction<Boolean> of(TypeLoader moduleLoader, Expression a, Exp
                 public Boolean get(ProcessStack stack, Object instance, Number a, Number b) {
                     return numericEquals.apply(a, b);
                 }
+
+                @Override
+                public CompiledExpression compile(Compilation compilation) {
+                    return ComparisonOperator.compile(compilation, priority, "==", a, b);
+                }
             };
         }
 
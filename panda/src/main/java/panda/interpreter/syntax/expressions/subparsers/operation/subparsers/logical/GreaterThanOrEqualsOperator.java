@@ -19,6 +19,8 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.parser.PandaParserException;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 
 import java.util.function.BiFunction;
@@ -35,6 +37,11 @@ public RPNOperationAction<Boolean> of(int typePriority, Expression a, Expression
             public Boolean get(ProcessStack stack, Object instance, Number a, Number b) {
                 return comparison.apply(a, b);
             }
+
+            @Override
+            public CompiledExpression compile(Compilation compilation) {
+                return ComparisonOperator.compile(compilation, typePriority, ">=", a, b);
+            }
         };
     }
 
@@ -16,10 +16,13 @@
 
 package panda.interpreter.syntax.expressions.subparsers.operation.subparsers.logical;
 
+import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.architecture.type.signature.Signature;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 
 public final class NotEqualsToOperation extends EqualsToOperation {
@@ -38,6 +41,12 @@ public Boolean get(ProcessStack stack, Object instance) throws Exception {
             public Signature returnType(TypeLoader typeLoader) {
                 return equalsOperation.returnType(typeLoader);
             }
+
+            @Override
+            public @Nullable CompiledExpression compile(Compilation compilation) {
+                CompiledExpression equals = equalsOperation.compile(compilation);
+                return equals != null ? CompiledExpression.of("(!" + equals + ")", boolean.class) : null;
+            }
         };
     }
 
@@ -21,6 +21,8 @@
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.architecture.module.TypeLoader;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationSupplier;
 
@@ -44,9 +46,20 @@ public Boolean get(ProcessStack stack, Object instance) throws Exception {
             public Signature returnType(TypeLoader typeLoader) {
                 return requiredType(typeLoader).getSignature();
             }
+
+            @Override
+            public CompiledExpression compile(Compilation compilation) {
+                return OrOperation.compile(compilation, "||", a, b);
+            }
         };
     }
 
+    protected static CompiledExpression compile(Compilation compilation, String operator, Expression a, Expression b) {
+        String aSource = compilation.toPrimitive(compilation.expression(a), boolean.class);
+        String bSource = compilation.toPrimitive(compilation.expression(b), boolean.class);
+        return CompiledExpression.of("(" + aSource + " " + operator + " " + bSource + ")", boolean.class);
+    }
+
     @Override
     public Type returnType(TypeLoader typeLoader, Type a, Type b) {
         return requiredType(typeLoader);
@@ -57,4 +70,9 @@ public Type requiredType(TypeLoader typeLoader) {
         return typeLoader.requireType("panda/panda@::Bool");
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
 }
@@ -19,8 +19,10 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.parser.PandaParserException;
-import panda.interpreter.runtime.PandaRuntimeException;
+import panda.interpreter.runtime.ArithmeticUtils;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.number.NumericOperator;
 
@@ -30,16 +32,21 @@ public final class DivisionOperation extends MathOperation {
 
     @Override
     public RPNOperationAction<Number> of(Type returnType, int priority, Expression a, Expression b) {
+        if (PrimitiveMathOperator.isSupported(priority)) {
+            return PrimitiveMathOperator.of(returnType, priority, "/", a, b, ArithmeticUtils::divide, ArithmeticUtils::divide, (x, y) -> x / y);
+        }
+
         BiFunction<Number, Number, Number> operation = toFunction(priority);
 
         return new NumericOperator(returnType, a, b) {
             @Override
             public Number get(ProcessStack stack, Object instance, Number a, Number b) {
-                try {
-                    return operation.apply(a, b);
-                } catch (ArithmeticException exception) {
-                    throw new PandaRuntimeException("Illegal arithmetic operation: " + exception.getMessage(), exception);
-                }
+                return operation.apply(a, b);
+            }
+
+            @Override
+            public CompiledExpression compile(Compilation compilation) {
+                return MathOperation.compile(compilation, priority, "/", a, b);
             }
         };
     }
@@ -47,13 +54,13 @@ public Number get(ProcessStack stack, Object instance, Number a, Number b) {
     private BiFunction<Number, Number, Number> toFunction(int priority) {
         switch (priority) {
             case BYTE:
-                return (a, b) -> a.byteValue() / b.byteValue();
+                return (a, b) -> ArithmeticUtils.divide(a.byteValue(), b.byteValue());
             case SHORT:
-                return (a, b) -> a.shortValue() / b.shortValue();
+                return (a, b) -> ArithmeticUtils.divide(a.shortValue(), b.shortValue());
             case INT:
-                return (a, b) -> a.intValue() / b.intValue();
+                return (a, b) -> ArithmeticUtils.divide(a.intValue(), b.intValue());
             case LONG:
-                return (a, b) -> a.longValue() / b.longValue();
+                return (a, b) -> ArithmeticUtils.divide(a.longValue(), b.longValue());
             case FLOAT:
                 return (a, b) -> a.floatValue() / b.floatValue();
             case DOUBLE:
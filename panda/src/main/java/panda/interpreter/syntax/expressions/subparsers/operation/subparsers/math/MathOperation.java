@@ -19,6 +19,9 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.architecture.module.TypeLoader;
+import panda.interpreter.runtime.ArithmeticUtils;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.number.NumericOperation;
 
@@ -26,6 +29,30 @@ public abstract class MathOperation extends NumericOperation<Number> {
 
     public abstract RPNOperationAction<Number> of(Type returnType, int priority, Expression a, Expression b);
 
+    /**
+     * Compile arithmetic operation on primitive values
+     *
+     * @param compilation the current compilation
+     * @param priority the priority of number type used by the operation
+     * @param operator the Java operator
+     * @param a the left operand
+     * @param b the right operand
+     * @return the compiled operation
+     */
+    protected static CompiledExpression compile(Compilation compilation, int priority, String operator, Expression a, Expression b) {
+        Class<?> operandType = toPrimitiveClass(priority);
+        Class<?> resultType = priority < INT ? int.class : operandType;
+
+        String aSource = compilation.toPrimitive(compilation.expression(a), operandType);
+        String bSource = compilation.toPrimitive(compilation.expression(b), operandType);
+
+        if (operator.equals("/") && (resultType == int.class || resultType == long.class)) {
+            return CompiledExpression.of(ArithmeticUtils.class.getName() + ".divide(" + aSource + ", " + bSource + ")", resultType);
+        }
+
+        return CompiledExpression.of("(" + aSource + " " + operator + " " + bSource + ")", resultType);
+    }
+
     @Override
     public RPNOperationAction<Number> of(TypeLoader typeLoader, Expression a, Expression b) {
         Type returnType = returnType(typeLoader, a.getKnownType(), b.getKnownType());
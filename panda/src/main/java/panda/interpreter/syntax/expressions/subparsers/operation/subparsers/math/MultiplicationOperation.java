@@ -20,6 +20,8 @@
 import panda.interpreter.architecture.type.Type;
 import panda.interpreter.parser.PandaParserException;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
 import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
 import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.number.NumericOperator;
 
@@ -29,6 +31,10 @@ public final class MultiplicationOperation extends MathOperation {
 
     @Override
     public RPNOperationAction<Number> of(Type returnType, int priority, Expression a, Expression b) {
+        if (PrimitiveMathOperator.isSupported(priority)) {
+            return PrimitiveMathOperator.of(returnType, priority, "*", a, b, (x, y) -> x * y, (x, y) -> x * y, (x, y) -> x * y);
+        }
+
         BiFunction<Number, Number, Number> operation = toFunction(priority);
 
         return new NumericOperator(returnType, a, b) {
@@ -36,6 +42,11 @@ public RPNOperationAction<Number> of(Type returnType, int priority, Expression a
             public Number get(ProcessStack stack, Object instance, Number a, Number b) {
                 return operation.apply(a, b);
             }
+
+            @Override
+            public CompiledExpression compile(Compilation compilation) {
+                return MathOperation.compile(compilation, priority, "*", a, b);
+            }
         };
     }
 
@@ -58,4 +69,9 @@ private BiFunction<Number, Number, Number> toFunction(int priority) {
         }
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers.operation.subparsers.math;
+
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.module.TypeLoader;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.runtime.compiler.CompiledExpression;
+import panda.interpreter.syntax.expressions.subparsers.number.NumberPriorities;
+import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationAction;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Math operation specialized for the statically known int, long or double operands.
+ * Operands are evaluated through the primitive fast path of expressions, so nested operations are not boxed.
+ */
+abstract class PrimitiveMathOperator implements RPNOperationAction<Number> {
+
+    private final Type returnType;
+    private final int priority;
+    private final String operator;
+    protected final Expression a;
+    protected final Expression b;
+
+    private PrimitiveMathOperator(Type returnType, int priority, String operator, Expression a, Expression b) {
+        this.returnType = returnType;
+        this.priority = priority;
+        this.operator = operator;
+        this.a = a;
+        this.b = b;
+    }
+
+    @Override
+    public CompiledExpression compile(Compilation compilation) {
+        return MathOperation.compile(compilation, priority, operator, a, b);
+    }
+
+    @Override
+    public Signature returnType(TypeLoader typeLoader) {
+        return returnType.getSignature();
+    }
+
+    static boolean isSupported(int priority) {
+        return priority == NumberPriorities.INT || priority == NumberPriorities.LONG || priority == NumberPriorities.DOUBLE;
+    }
+
+    static PrimitiveMathOperator of(
+            Type returnType, int priority, String operator, Expression a, Expression b,
+            IntBinaryOperator intOperator, LongBinaryOperator longOperator, DoubleBinaryOperator doubleOperator
+    ) {
+        switch (priority) {
+            case NumberPriorities.INT:
+                return new IntOperator(returnType, operator, a, b, intOperator);
+            case NumberPriorities.LONG:
+                return new LongOperator(returnType, operator, a, b, longOperator);
+            case NumberPriorities.DOUBLE:
+                return new DoubleOperator(returnType, operator, a, b, doubleOperator);
+            default:
+                throw new IllegalArgumentException("Unsupported priority " + priority);
+        }
+    }
+
+    private static final class IntOperator extends PrimitiveMathOperator {
+
+        private final IntBinaryOperator operation;
+
+        private IntOperator(Type returnType, String operator, Expression a, Expression b, IntBinaryOperator operation) {
+            super(returnType, NumberPriorities.INT, operator, a, b);
+            this.operation = operation;
+        }
+
+        @Override
+        public Number get(ProcessStack stack, Object instance) throws Exception {
+            return getInt(stack, instance);
+        }
+
+        @Override
+        public int getInt(ProcessStack stack, Object instance) throws Exception {
+            return operation.applyAsInt(a.evaluateInt(stack, instance), b.evaluateInt(stack, instance));
+        }
+
+        @Override
+        public long getLong(ProcessStack stack, Object instance) throws Exception {
+            return getInt(stack, instance);
+        }
+
+        @Override
+        public double getDouble(ProcessStack stack, Object instance) throws Exception {
+            return getInt(stack, instance);
+        }
+
+    }
+
+    private static final class LongOperator extends PrimitiveMathOperator {
+
+        private final LongBinaryOperator operation;
+
+        private LongOperator(Type returnType, String operator, Expression a, Expression b, LongBinaryOperator operation) {
+            super(returnType, NumberPriorities.LONG, operator, a, b);
+            this.operation = operation;
+        }
+
+        @Override
+        public Number get(ProcessStack stack, Object instance) throws Exception {
+            return getLong(stack, instance);
+        }
+
+        @Override
+        public int getInt(ProcessStack stack, Object instance) throws Exception {
+            return (int) getLong(stack, instance);
+        }
+
+        @Override
+        public long getLong(ProcessStack stack, Object instance) throws Exception {
+            return operation.applyAsLong(a.evaluateLong(stack, instance), b.evaluateLong(stack, instance));
+        }
+
+        @Override
+        public double getDouble(ProcessStack stack, Object instance) throws Exception {
+            return getLong(stack, instance);
+        }
+
+    }
+
+    private static final class DoubleOperator extends PrimitiveMathOperator {
+
+        private final DoubleBinaryOperator operation;
+
+        private DoubleOperator(Type returnType, String operator, Expression a, Expression b, DoubleBinaryOperator operation) {
+            super(returnType, NumberPriorities.DOUBLE, operator, a, b);
+            this.operation = operation;
+        }
+
+        @Override
+        public Number get(ProcessStack stack, Object instance) throws Exception {
+            return getDouble(stack, instance);
+        }
+
+        @Override
+        public int getInt(ProcessStack stack, Object instance) throws Exception {
+            return (int) getDouble(stack, instance);
+        }
+
+        @Override
+        public long getLong(ProcessStack stack, Object instance) throws Exception {
+            return (long) getDouble(stack, instance);
+        }
+
+        @Override
+        public double getDouble(ProcessStack stack, Object instance) throws Exception {
+            return operation.applyAsDouble(a.evaluateDouble(stack, instance), b.evaluateDouble(stack, instance));
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package panda.interpreter.syntax.head;
 
+import panda.interpreter.optimizer.Optimizer;
 import panda.interpreter.parser.Context;
 import panda.interpreter.parser.ContextParser;
 import panda.interpreter.parser.PandaParserFailure;
@@ -76,6 +77,8 @@ public Option<Completable<MainScope>> parse(Context<?> context) {
             futureScope.complete(mainScope);
         });
 
+        Optimizer.getDefault().delegate(context, mainScope);
+
         return Option.of(futureScope);
     }
 
@@ -19,14 +19,17 @@
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.expression.ExpressionUtils;
+import panda.interpreter.logging.Channel;
 import panda.interpreter.logging.Logger;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableStatement;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.utilities.text.Joiner;
 
 import java.util.List;
 
-final class LogStatement extends AbstractExecutableStatement {
+final class LogStatement extends AbstractExecutableStatement implements OptimizableStatement {
 
     private final Logger logger;
     private final List<Expression> expressions;
@@ -40,8 +43,17 @@ final class LogStatement extends AbstractExecutableStatement {
     @Override
     public Object execute(ProcessStack stack, Object instance) throws Exception {
         Object[] values = ExpressionUtils.evaluate(stack, instance, expressions);
-        logger.info(Joiner.on(", ").join(values).toString());
+
+        if (logger.isEnabled(Channel.INFO)) {
+            logger.info(Joiner.on(", ").join(values).toString());
+        }
+
         return values;
     }
 
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        expressions.replaceAll(optimizer::optimize);
+    }
+
 }
@@ -18,12 +18,16 @@
 
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableStatement;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 
-public class StandaloneExpression extends AbstractExecutableStatement {
+public class StandaloneExpression extends AbstractExecutableStatement implements CompilableStatement, OptimizableStatement {
 
-    private final Expression expression;
+    private Expression expression;
 
     public StandaloneExpression(Localizable localizable, Expression expression) {
         super(localizable);
@@ -35,6 +39,17 @@ public Object execute(ProcessStack stack, Object instance) throws Exception {
         return expression.evaluate(stack, instance);
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        compilation.discard(expression);
+        return true;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.expression = optimizer.optimize(expression);
+    }
+
     public Expression getExpression() {
         return expression;
     }
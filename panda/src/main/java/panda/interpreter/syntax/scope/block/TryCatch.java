@@ -17,20 +17,26 @@
 package panda.interpreter.syntax.scope.block;
 
 import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.Frame;
 import panda.interpreter.architecture.statement.Scope;
 import panda.interpreter.architecture.statement.Variable;
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 public final class TryCatch extends AbstractExecutableStatement {
 
+    private static final Handler[] NO_HANDLERS = new Handler[0];
+    private static final Handler UNHANDLED = new Handler(Throwable.class, null, null);
+
     private final Scope tryBlock;
     private final Scope finallyBlock;
-    private final Map<Class<? extends Throwable>, Data> catchContainers = new HashMap<>();
+    private Handler[] handlers = NO_HANDLERS;
+    private volatile Map<Class<?>, Handler> resolvedHandlers = Collections.emptyMap();
 
     public TryCatch(Location location, Scope tryBlock, Scope finallyBlock) {
         super(location);
@@ -40,43 +46,103 @@ public TryCatch(Location location, Scope tryBlock, Scope finallyBlock) {
 
     @Override
     public @Nullable Object execute(ProcessStack stack, Object instance) throws Exception {
+        int depth = stack.getDepth();
+        Frame frame = stack.getCurrentFrame();
+        boolean completed = false;
+
         try {
-            return stack.callScope(instance, tryBlock);
+            Object result = stack.callScope(instance, tryBlock);
+            completed = true;
+            return result;
         } catch (Throwable throwable) {
-            Data catchData = catchContainers.get(throwable.getClass());
-
-            if (catchData == null) {
-                catchData = catchContainers.entrySet().stream()
-                        .filter(entry -> entry.getKey().isAssignableFrom(throwable.getClass()))
-                        .findFirst()
-                        .map(Map.Entry::getValue)
-                        .orElse(null);
-            }
+            Handler handler = getHandler(throwable.getClass());
 
-            if (catchData == null) {
+            if (handler == UNHANDLED) {
                 throw throwable;
             }
 
-            stack.getCurrentFrame().set(catchData.variable.getPointer(), throwable);
-            stack.callScope(instance, catchData.block);
+            // statements interrupted by the exception are still on the stack
+            stack.restore(depth, frame);
+            frame.set(handler.variable.getPointer(), throwable);
+            stack.callScope(instance, handler.block);
+            completed = true;
         } finally {
+            // exception leaving this statement keeps interrupted statements on the stack, so the failure can still describe them
+            if (completed) {
+                stack.restore(depth, frame);
+            }
+
             stack.callScope(instance, finallyBlock);
         }
 
         return null;
     }
 
+    private Handler getHandler(Class<?> throwableType) {
+        Map<Class<?>, Handler> resolved = resolvedHandlers;
+        Handler handler = resolved.get(throwableType);
+
+        if (handler != null) {
+            return handler;
+        }
+
+        handler = UNHANDLED;
+
+        for (Handler candidate : handlers) {
+            if (candidate.type.isAssignableFrom(throwableType)) {
+                handler = candidate;
+                break;
+            }
+        }
+
+        Map<Class<?>, Handler> updated = new IdentityHashMap<>(resolved);
+        updated.put(throwableType, handler);
+        this.resolvedHandlers = updated;
+
+        return handler;
+    }
+
+    /**
+     * Add handler of the given type of exceptions.
+     * Handlers are ordered by specificity, so handler of subtype always precedes handlers of its supertypes.
+     *
+     * @param type the type of handled exceptions
+     * @param variable the variable to store caught exception
+     * @param block the block to call
+     * @return the current try-catch statement
+     */
     public TryCatch addHandler(Class<? extends Throwable> type, Variable variable, Scope block) {
-        catchContainers.put(type, new Data(variable, block));
+        Handler handler = new Handler(type, variable, block);
+        Handler[] updated = new Handler[handlers.length + 1];
+        int index = 0;
+
+        while (index < handlers.length && !handlers[index].type.isAssignableFrom(type)) {
+            updated[index] = handlers[index];
+            index++;
+        }
+
+        if (index < handlers.length && handlers[index].type == type) {
+            updated = handlers.clone();
+            updated[index] = handler;
+        }
+        else {
+            updated[index] = handler;
+            System.arraycopy(handlers, index, updated, index + 1, handlers.length - index);
+        }
+
+        this.handlers = updated;
+        this.resolvedHandlers = Collections.emptyMap();
         return this;
     }
 
-    private static final class Data {
+    private static final class Handler {
 
+        private final Class<?> type;
         private final Variable variable;
         private final Scope block;
 
-        public Data(Variable variable, Scope block) {
+        private Handler(Class<?> type, Variable variable, Scope block) {
+            this.type = type;
             this.variable = variable;
             this.block = block;
         }
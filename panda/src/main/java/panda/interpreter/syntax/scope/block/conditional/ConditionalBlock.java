@@ -22,14 +22,18 @@
 import panda.interpreter.architecture.statement.AbstractBlock;
 import panda.interpreter.architecture.statement.Scope;
 import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.optimizer.BranchScope;
+import panda.interpreter.optimizer.ExpressionOptimizer;
 import panda.interpreter.parser.PandaParserException;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 
-final class ConditionalBlock extends AbstractBlock implements ControlledScope {
+final class ConditionalBlock extends AbstractBlock implements ControlledScope, CompilableStatement, BranchScope {
 
-    private final Expression condition;
+    private Expression condition;
     private ConditionalBlock elseBlock;
 
     public ConditionalBlock(Scope parent, Localizable localizable, Expression condition) {
@@ -57,6 +61,21 @@ public ConditionalBlock(Scope parent, Localizable localizable, Expression condit
         return null;
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        compilation.line("if (" + compilation.toPrimitive(compilation.expression(condition), boolean.class) + ") {");
+        compilation.scope(this);
+        compilation.line("}");
+
+        if (elseBlock != null) {
+            compilation.line("else {");
+            compilation.statement(elseBlock);
+            compilation.line("}");
+        }
+
+        return true;
+    }
+
     @Override
     public boolean hasEffective(Class<? extends Statement> statementClass) {
         boolean current = super.hasEffective(statementClass);
@@ -65,6 +84,16 @@ public boolean hasEffective(Class<? extends Statement> statementClass) {
         return current && otherwise;
     }
 
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.condition = optimizer.optimize(condition);
+    }
+
+    @Override
+    public void replaceElseBranch(@Nullable BranchScope elseBranch) {
+        this.elseBlock = (ConditionalBlock) elseBranch;
+    }
+
     public void setElseBlock(ConditionalBlock elseBlock) {
         if (this.elseBlock != null) {
             throw new PandaParserException("Else block already set");
@@ -73,8 +102,18 @@ public void setElseBlock(ConditionalBlock elseBlock) {
         this.elseBlock = elseBlock;
     }
 
+    @Override
+    public @Nullable BranchScope getElseBranch() {
+        return elseBlock;
+    }
+
     public ConditionalBlock getElseBlock() {
         return elseBlock;
     }
 
+    @Override
+    public Expression getCondition() {
+        return condition;
+    }
+
 }
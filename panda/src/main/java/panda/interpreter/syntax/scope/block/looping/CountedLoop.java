@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.scope.block.looping;
+
+import org.jetbrains.annotations.Nullable;
+import panda.interpreter.architecture.dynamic.AbstractLivingFrameUtils;
+import panda.interpreter.architecture.dynamic.ControlledScope;
+import panda.interpreter.architecture.dynamic.Frame;
+import panda.interpreter.architecture.dynamic.assigner.AssignerExpression;
+import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.architecture.expression.ExpressionEvaluator;
+import panda.interpreter.architecture.expression.PandaExpression;
+import panda.interpreter.architecture.statement.LocalVariableAssigner;
+import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.architecture.statement.Statement;
+import panda.interpreter.architecture.statement.Variable;
+import panda.interpreter.architecture.type.Type;
+import panda.interpreter.optimizer.OptimizableExpression;
+import panda.interpreter.optimizer.OptimizableStatement;
+import panda.interpreter.optimizer.OptimizerUtils;
+import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.Result;
+import panda.interpreter.runtime.Status;
+import panda.interpreter.runtime.compiler.Compilation;
+import panda.interpreter.syntax.expressions.subparsers.CreaseExpression;
+import panda.interpreter.syntax.expressions.subparsers.number.NumberPriorities;
+import panda.interpreter.syntax.expressions.subparsers.operation.rpn.RPNOperationExpression;
+import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.logical.LessThanOperator;
+import panda.interpreter.syntax.expressions.subparsers.operation.subparsers.logical.LessThanOrEqualsOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plan of the canonical counted loop: {@code for (mut Int i = a; i < n; ++i)}.
+ * The induction variable is kept as a primitive value and written to the frame only if the loop reads it,
+ * it is also read back from the frame only if the loop may modify it.
+ */
+final class CountedLoop {
+
+    private final int pointer;
+    private final boolean intIndex;
+    private final Expression bound;
+    private final boolean inclusive;
+    private final boolean readsIndex;
+    private final boolean writesIndex;
+
+    private CountedLoop(int pointer, boolean intIndex, Expression bound, boolean inclusive, boolean readsIndex, boolean writesIndex) {
+        this.pointer = pointer;
+        this.intIndex = intIndex;
+        this.bound = bound;
+        this.inclusive = inclusive;
+        this.readsIndex = readsIndex;
+        this.writesIndex = writesIndex;
+    }
+
+    /**
+     * Call the loop, the induction variable has to be initialized before
+     *
+     * @param stack the current stack
+     * @param instance the current instance
+     * @param scope the body of loop
+     * @return the result of loop
+     * @throws Exception if something happen
+     */
+    @Nullable Result<?> iterate(ProcessStack stack, Object instance, ControlledScope scope) throws Exception {
+        Frame frame = stack.getCurrentFrame();
+        long index = ((Number) AbstractLivingFrameUtils.get(frame, pointer)).longValue();
+
+        while (true) {
+            if (readsIndex) {
+                AbstractLivingFrameUtils.set(frame, pointer, box(index));
+            }
+
+            long limit = bound.evaluateLong(stack, instance);
+
+            if (inclusive ? index > limit : index >= limit) {
+                break;
+            }
+
+            Result<?> result = stack.callScope(instance, scope);
+
+            if (writesIndex) {
+                index = ((Number) AbstractLivingFrameUtils.get(frame, pointer)).longValue();
+            }
+
+            index = next(index);
+
+            if (result == null || result.getStatus() == Status.CONTINUE) {
+                continue;
+            }
+
+            if (result.getStatus() == Status.BREAK) {
+                break;
+            }
+
+            AbstractLivingFrameUtils.set(frame, pointer, box(index));
+            return result;
+        }
+
+        AbstractLivingFrameUtils.set(frame, pointer, box(index));
+        return null;
+    }
+
+    /**
+     * Compile the loop, the induction variable has to be initialized before
+     *
+     * @param compilation the current compilation
+     * @param scope the body of loop
+     */
+    void compile(Compilation compilation, Scope scope) {
+        String local = compilation.local(pointer);
+        String index = compilation.variable("index");
+        String boxed = (intIndex ? Integer.class.getName() + ".valueOf((int) " : Long.class.getName() + ".valueOf(") + index + ")";
+        String limit = compilation.toPrimitive(compilation.expression(bound), long.class);
+
+        compilation.line("long " + index + " = ((" + Number.class.getName() + ") " + local + ").longValue();");
+
+        compilation.loop((readsIndex ? "(" + local + " = " + boxed + ") != null && " : "") + index + (inclusive ? " <= " : " < ") + limit, () -> compilation.scope(scope), () -> {
+            if (writesIndex) {
+                compilation.line(index + " = ((" + Number.class.getName() + ") " + local + ").longValue();");
+            }
+
+            compilation.line(index + " = " + (intIndex ? "(long) (int) (" + index + " + 1)" : index + " + 1") + ";");
+        });
+
+        compilation.line(local + " = " + boxed + ";");
+    }
+
+    private long next(long index) {
+        return intIndex ? (int) (index + 1) : index + 1;
+    }
+
+    private Object box(long index) {
+        return intIndex ? Integer.valueOf((int) index) : (Object) Long.valueOf(index);
+    }
+
+    /**
+     * Detect counted loop
+     *
+     * @param block the for block
+     * @param initialization the initialization expression
+     * @param condition the condition expression
+     * @param post the expression called after each iteration
+     * @return the plan of counted loop or null if loop does not match the canonical shape
+     */
+    static @Nullable CountedLoop of(ForBlock block, @Nullable Expression initialization, Expression condition, @Nullable Expression post) {
+        if (!(initialization instanceof AssignerExpression) || !(((AssignerExpression) initialization).getAssigner() instanceof LocalVariableAssigner)) {
+            return null;
+        }
+
+        LocalVariableAssigner assigner = (LocalVariableAssigner) ((AssignerExpression) initialization).getAssigner();
+        Variable variable = assigner.getAccessor().getVariable();
+        Type type = assigner.getAccessor().getKnownType();
+
+        // the variable has to be declared by the loop, so it cannot be used after the loop
+        if (!block.getParentScope().map(scope -> scope.getVariables().contains(variable)).orElseGet(false)) {
+            return null;
+        }
+
+        if (!type.is("panda/panda@::Int") && !type.is("panda/panda@::Long")) {
+            return null;
+        }
+
+        ExpressionEvaluator postEvaluator = post instanceof PandaExpression ? ((PandaExpression) post).getEvaluator() : null;
+
+        if (!(postEvaluator instanceof CreaseExpression) || !((CreaseExpression) postEvaluator).isIncrement() || ((CreaseExpression) postEvaluator).getAccessor().getVariable() != variable) {
+            return null;
+        }
+
+        ExpressionEvaluator conditionEvaluator = condition instanceof PandaExpression ? ((PandaExpression) condition).getEvaluator() : null;
+
+        if (!(conditionEvaluator instanceof RPNOperationExpression)) {
+            return null;
+        }
+
+        RPNOperationExpression comparison = (RPNOperationExpression) conditionEvaluator;
+        boolean inclusive = comparison.getSupplier() instanceof LessThanOrEqualsOperator;
+
+        if (!(comparison.getSupplier() instanceof LessThanOperator) && !inclusive) {
+            return null;
+        }
+
+        Expression bound = comparison.getB();
+        Type boundType = bound.getKnownType();
+
+        if (OptimizerUtils.getReadVariable(comparison.getA()) != variable || !NumberPriorities.isNumber(boundType) || NumberPriorities.getPriority(boundType) > NumberPriorities.LONG) {
+            return null;
+        }
+
+        List<Statement> statements = OptimizerUtils.getAllStatements(block);
+        boolean readsIndex = false;
+        boolean writesIndex = false;
+
+        for (Statement statement : statements) {
+            if (!OptimizerUtils.isTransparent(statement)) {
+                readsIndex = writesIndex = true;
+                break;
+            }
+        }
+
+        List<Expression> expressions = new ArrayList<>();
+
+        for (Statement statement : statements) {
+            if (statement instanceof OptimizableStatement) {
+                expressions.addAll(OptimizerUtils.getAllExpressions((OptimizableStatement) statement));
+            }
+        }
+
+        expressions.add(bound);
+
+        for (Expression expression : expressions) {
+            OptimizableExpression optimizable = OptimizerUtils.asOptimizable(expression);
+
+            if (!OptimizerUtils.isTransparent(expression)) {
+                readsIndex = writesIndex = true;
+            }
+            else if (optimizable != null && optimizable.getModifiedVariable() == variable) {
+                readsIndex = writesIndex = true;
+            }
+            else if (OptimizerUtils.getReadVariable(expression) == variable) {
+                readsIndex = true;
+            }
+        }
+
+        return new CountedLoop(variable.getPointer(), type.is("panda/panda@::Int"), bound, inclusive, readsIndex, writesIndex);
+    }
+
+}
@@ -21,15 +21,20 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.statement.AbstractBlock;
 import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.LoopScope;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 
-final class ForBlock extends AbstractBlock implements ControlledScope {
+final class ForBlock extends AbstractBlock implements ControlledScope, CompilableStatement, LoopScope {
 
-    private final Expression conditionExpression;
-    private final @Nullable Expression initializationStatement;
-    private final @Nullable Expression postExpression;
+    private Expression conditionExpression;
+    private @Nullable Expression initializationStatement;
+    private @Nullable Expression postExpression;
+    private @Nullable CountedLoop countedLoop;
 
     ForBlock(Scope parent, Localizable localizable, @Nullable Expression initializationStatement, Expression conditionExpression, @Nullable Expression postExpression) {
         super(parent, localizable);
@@ -44,12 +49,54 @@ final class ForBlock extends AbstractBlock implements ControlledScope {
             initializationStatement.evaluate(stack, instance);
         }
 
+        if (countedLoop != null) {
+            return countedLoop.iterate(stack, instance, this);
+        }
+
         return new ControlledIteration(
                 () -> conditionExpression.evaluate(stack, instance),
                 () -> evaluate(stack, instance, postExpression)
         ).iterate(stack, instance, this);
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        if (initializationStatement != null) {
+            compilation.discard(initializationStatement);
+        }
+
+        if (countedLoop != null) {
+            countedLoop.compile(compilation, this);
+            return true;
+        }
+
+        String condition = compilation.toPrimitive(compilation.expression(conditionExpression), boolean.class);
+        compilation.loop(condition, () -> compilation.scope(this), postExpression != null ? () -> compilation.discard(postExpression) : null);
+        return true;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        if (initializationStatement != null) {
+            this.initializationStatement = optimizer.optimize(initializationStatement);
+        }
+
+        this.conditionExpression = optimizer.optimize(conditionExpression);
+
+        if (postExpression != null) {
+            this.postExpression = optimizer.optimize(postExpression);
+        }
+
+        detectCountedLoop();
+    }
+
+    /**
+     * Select the counted loop fast path if the loop matches its shape, has to be called when the body is complete
+     */
+    void detectCountedLoop() {
+        this.countedLoop = CountedLoop.of(this, initializationStatement, conditionExpression, postExpression);
+    }
+
     private @Nullable Object evaluate(ProcessStack stack, Object instance, @Nullable Expression expression) throws Exception {
         return expression != null ? expression.evaluate(stack, instance) : null;
     }
@@ -22,37 +22,197 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.statement.AbstractBlock;
 import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.LoopScope;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
+import panda.interpreter.runtime.Status;
+import panda.std.Array;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
-final class ForEachBlock extends AbstractBlock implements ControlledScope {
+final class ForEachBlock extends AbstractBlock implements ControlledScope, LoopScope {
 
     private final int valuePointer;
-    private final Expression iterableExpression;
+    private final ForEachStrategy strategy;
+    private Expression iterableExpression;
 
     ForEachBlock(Scope parent, Localizable localizable, Expression iterableExpression) {
         super(parent, localizable);
         this.iterableExpression = iterableExpression;
+        this.strategy = ForEachStrategy.of(iterableExpression.getKnownType());
         this.valuePointer = getFramedScope().allocate();
     }
 
     @Override
     public @Nullable Result<?> controlledCall(ProcessStack stack, Object instance) throws Exception {
         Frame scope = stack.getCurrentFrame();
-        Iterable<?> iterable = iterableExpression.evaluate(stack, instance);
-        Iterator<?> iterator = iterable.iterator();
+        Object iterable = iterableExpression.evaluate(stack, instance);
 
-        return new ControlledIteration(() -> {
-            if (!iterator.hasNext()) {
-                return false;
+        if (strategy == ForEachStrategy.ARRAY && iterable instanceof Object[]) {
+            return iterateArray(stack, instance, scope, (Object[]) iterable);
+        }
+
+        if (strategy == ForEachStrategy.ARRAY && iterable.getClass().isArray()) {
+            return iteratePrimitiveArray(stack, instance, scope, iterable);
+        }
+
+        if (strategy == ForEachStrategy.STD_ARRAY && iterable instanceof Array) {
+            return iterateArray(stack, instance, scope, ((Array<?>) iterable).getJavaArray());
+        }
+
+        if (strategy == ForEachStrategy.RANDOM_ACCESS_LIST && iterable instanceof RandomAccess) {
+            return iterateList(stack, instance, scope, (List<?>) iterable);
+        }
+
+        return iterate(stack, instance, scope, ((Iterable<?>) iterable).iterator());
+    }
+
+    private @Nullable Result<?> iterateArray(ProcessStack stack, Object instance, Frame scope, Object[] array) throws Exception {
+        for (Object value : array) {
+            Result<?> result = call(stack, instance, scope, value);
+
+            if (!isContinued(result)) {
+                return exit(result);
+            }
+        }
+
+        return null;
+    }
+
+    private @Nullable Result<?> iteratePrimitiveArray(ProcessStack stack, Object instance, Frame scope, Object array) throws Exception {
+        // the type of array is selected once, so elements are read without reflection
+        if (array instanceof int[]) {
+            for (int value : (int[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof long[]) {
+            for (long value : (long[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof double[]) {
+            for (double value : (double[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof float[]) {
+            for (float value : (float[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof byte[]) {
+            for (byte value : (byte[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof short[]) {
+            for (short value : (short[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof char[]) {
+            for (char value : (char[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+        else if (array instanceof boolean[]) {
+            for (boolean value : (boolean[]) array) {
+                Result<?> result = call(stack, instance, scope, value);
+
+                if (!isContinued(result)) {
+                    return exit(result);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private @Nullable Result<?> call(ProcessStack stack, Object instance, Frame scope, Object value) throws Exception {
+        scope.set(valuePointer, value);
+        return stack.callScope(instance, this);
+    }
+
+    private static boolean isContinued(@Nullable Result<?> result) {
+        return result == null || result.getStatus() == Status.CONTINUE;
+    }
+
+    private static @Nullable Result<?> exit(Result<?> result) {
+        return result.getStatus() == Status.BREAK ? null : result;
+    }
+
+    private @Nullable Result<?> iterateList(ProcessStack stack, Object instance, Frame scope, List<?> list) throws Exception {
+        int size = list.size();
+
+        for (int index = 0; index < size; index++) {
+            Result<?> result = call(stack, instance, scope, list.get(index));
+
+            if (!isContinued(result)) {
+                return exit(result);
             }
 
-            scope.set(valuePointer, iterator.next());
-            return true;
-        }).iterate(stack, instance, this);
+            // keep behaviour of fail-fast iterators if the body of loop modifies the list and the loop continues
+            if (list.size() != size) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        return null;
+    }
+
+    private @Nullable Result<?> iterate(ProcessStack stack, Object instance, Frame scope, Iterator<?> iterator) throws Exception {
+        while (iterator.hasNext()) {
+            Result<?> result = call(stack, instance, scope, iterator.next());
+
+            if (!isContinued(result)) {
+                return exit(result);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.iterableExpression = optimizer.optimize(iterableExpression);
+    }
+
+    ForEachStrategy getStrategy() {
+        return strategy;
     }
 
     public Expression getIterableExpression() {
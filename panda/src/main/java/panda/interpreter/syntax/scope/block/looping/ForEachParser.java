@@ -32,6 +32,7 @@
 import panda.interpreter.syntax.scope.block.BlockParser;
 import panda.interpreter.syntax.scope.variable.VariableDataInitializer;
 import panda.std.reactive.Completable;
+import panda.std.Array;
 import panda.std.Option;
 
 public final class ForEachParser extends BlockParser<ForEachBlock> {
@@ -69,15 +70,16 @@ public Option<Completable<ForEachBlock>> parse(Context<?> context) {
         VariableDataInitializer dataInitializer = new VariableDataInitializer(context, forEach);
         VariableData variableData = dataInitializer.createVariableDataByDeclaration(elements[0], true, true);
 
-        Type iterableType = context.getTypeLoader().requireType("panda/panda@::Iterable");
-        Signature expectedIterable = new TypedSignature(null, iterableType.getReference(), new Signature[] { variableData.getSignature() }, Relation.ANY, sourceReader.toSnippet());
-        Signature iterableExpressionSignature = iterableExpression.getSignature().apply(expectedIterable);
+        Type knownType = iterableExpression.getKnownType();
 
-        if (!expectedIterable.isAssignableFrom(iterableExpressionSignature)) {
-            throw new PandaParserFailure(context, forEachArguments.get(),
-                    "ForEach requires Iterable expression.",
-                    expectedIterable + " is not assignable from " + iterableExpressionSignature
-            );
+        if (knownType.getAssociated().isReady() && knownType.getAssociated().get().isArray()) {
+            verifyArray(context, forEachArguments.get(), knownType.getAssociated().get(), variableData);
+        }
+        else if (knownType.getAssociated().isReady() && Array.class.isAssignableFrom(knownType.getAssociated().get())) {
+            verifyStdArray(context, forEachArguments.get(), iterableExpression, variableData);
+        }
+        else {
+            verifyIterable(context, sourceReader, forEachArguments.get(), iterableExpression, variableData);
         }
 
         PandaVariable forVariable = new PandaVariable(forEach.getValuePointer(), variableData);
@@ -89,4 +91,41 @@ public Option<Completable<ForEachBlock>> parse(Context<?> context) {
         return Option.withCompleted(forEach);
     }
 
+    private void verifyArray(Context<?> context, Snippet arguments, Class<?> arrayType, VariableData variableData) {
+        Signature componentSignature = context.getTypeLoader().forJavaType(arrayType.getComponentType())
+                .orThrow(() -> new PandaParserFailure(context, arguments, "Unknown component type of array " + arrayType.getSimpleName()))
+                .getSignature();
+
+        if (!variableData.getSignature().isAssignableFrom(componentSignature)) {
+            throw new PandaParserFailure(context, arguments,
+                    "ForEach variable is not assignable from the component of array.",
+                    variableData.getSignature() + " is not assignable from " + componentSignature
+            );
+        }
+    }
+
+    private void verifyStdArray(Context<?> context, Snippet arguments, Expression arrayExpression, VariableData variableData) {
+        Signature[] generics = arrayExpression.getSignature().getGenerics();
+
+        if (generics.length != 1 || !variableData.getSignature().isAssignableFrom(generics[0])) {
+            throw new PandaParserFailure(context, arguments,
+                    "ForEach variable is not assignable from the component of array.",
+                    variableData.getSignature() + " is not assignable from the component of " + arrayExpression.getSignature()
+            );
+        }
+    }
+
+    private void verifyIterable(Context<?> context, PandaSourceReader sourceReader, Snippet arguments, Expression iterableExpression, VariableData variableData) {
+        Type iterableType = context.getTypeLoader().requireType("panda/panda@::Iterable");
+        Signature expectedIterable = new TypedSignature(null, iterableType.getReference(), new Signature[] { variableData.getSignature() }, Relation.ANY, sourceReader.toSnippet());
+        Signature iterableExpressionSignature = iterableExpression.getSignature().apply(expectedIterable);
+
+        if (!expectedIterable.isAssignableFrom(iterableExpressionSignature)) {
+            throw new PandaParserFailure(context, arguments,
+                    "ForEach requires Iterable expression or array.",
+                    expectedIterable + " is not assignable from " + iterableExpressionSignature
+            );
+        }
+    }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.scope.block.looping;
+
+import panda.interpreter.architecture.type.Type;
+import panda.std.Array;
+
+import java.util.List;
+
+/**
+ * Strategy of for-each loop selected by the static type of iterated expression
+ */
+enum ForEachStrategy {
+
+    /**
+     * Indexed iteration over Java array, including arrays of primitives
+     */
+    ARRAY,
+    /**
+     * Indexed iteration over Java array wrapped by {@link panda.std.Array}
+     */
+    STD_ARRAY,
+    /**
+     * Indexed iteration over {@link java.util.List} that implements {@link java.util.RandomAccess}
+     */
+    RANDOM_ACCESS_LIST,
+    /**
+     * Generic iteration through {@link java.util.Iterator}
+     */
+    ITERATOR;
+
+    /**
+     * Select strategy for the given type of iterated expression.
+     * The selected strategy is verified at runtime, so a value that does not match falls back to the iterator.
+     *
+     * @param type the static type of iterated expression
+     * @return the selected strategy
+     */
+    static ForEachStrategy of(Type type) {
+        if (!type.getAssociated().isReady()) {
+            return ITERATOR;
+        }
+
+        Class<?> associated = type.getAssociated().get();
+
+        if (associated.isArray()) {
+            return ARRAY;
+        }
+
+        if (Array.class.isAssignableFrom(associated)) {
+            return STD_ARRAY;
+        }
+
+        if (List.class.isAssignableFrom(associated)) {
+            return RANDOM_ACCESS_LIST;
+        }
+
+        return ITERATOR;
+    }
+
+}
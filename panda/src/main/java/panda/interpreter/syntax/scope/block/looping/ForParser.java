@@ -98,6 +98,7 @@ public Option<Completable<ForBlock>> parse(Context<?> context) {
         ForBlock forBlock = new ForBlock(forExpressionScope, context, initialization, termination, increment);
         context.getScope().addStatement(forBlock);
         SCOPE_PARSER.parse(delegatedContext, forBlock, sourceReader.readBody().get());
+        forBlock.detectCountedLoop();
 
         return Option.withCompleted(forBlock);
     }
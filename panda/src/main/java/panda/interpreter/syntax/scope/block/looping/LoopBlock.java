@@ -21,14 +21,18 @@
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.statement.AbstractBlock;
 import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.LoopScope;
 import panda.interpreter.source.Localizable;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
-import panda.std.function.ThrowingSupplier;
+import panda.interpreter.runtime.Status;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 
-final class LoopBlock extends AbstractBlock implements ControlledScope {
+final class LoopBlock extends AbstractBlock implements ControlledScope, CompilableStatement, LoopScope {
 
-    private final Expression expression;
+    private Expression expression;
 
     LoopBlock(Scope parent, Localizable localizable, Expression expression) {
         super(parent, localizable);
@@ -37,16 +41,39 @@ final class LoopBlock extends AbstractBlock implements ControlledScope {
 
     @Override
     public @Nullable Result<?> controlledCall(ProcessStack stack, Object instance) throws Exception {
-        int times = expression.evaluate(stack, instance);
+        int times = expression.evaluateInt(stack, instance);
 
-        return new ControlledIteration(new ThrowingSupplier<Boolean, Exception>() {
-            private int index = 0;
+        for (int index = 0; index < times; index++) {
+            Result<?> result = stack.callScope(instance, this);
 
-            @Override
-            public Boolean get() {
-                return index++ < times;
+            if (result == null || result.getStatus() == Status.CONTINUE) {
+                continue;
             }
-        }).iterate(stack, instance, this);
+
+            if (result.getStatus() == Status.BREAK) {
+                break;
+            }
+
+            return result;
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean compile(Compilation compilation) {
+        String times = compilation.variable("times");
+        String index = compilation.variable("index");
+
+        compilation.line("int " + times + " = " + compilation.toPrimitive(compilation.expression(expression), int.class) + ";");
+        compilation.line("int " + index + " = 0;");
+        compilation.loop(index + "++ < " + times, () -> compilation.scope(this), null);
+        return true;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.expression = optimizer.optimize(expression);
     }
 
 }
@@ -20,14 +20,18 @@
 import panda.interpreter.architecture.dynamic.ControlledScope;
 import panda.interpreter.architecture.expression.Expression;
 import panda.interpreter.architecture.statement.Scope;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.LoopScope;
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Result;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 import panda.interpreter.architecture.statement.AbstractBlock;
 
-final class WhileBlock extends AbstractBlock implements ControlledScope {
+final class WhileBlock extends AbstractBlock implements ControlledScope, CompilableStatement, LoopScope {
 
-    private final Expression expression;
+    private Expression expression;
 
     WhileBlock(Scope parent, Location location, Expression expression) {
         super(parent, location);
@@ -39,5 +43,17 @@ final class WhileBlock extends AbstractBlock implements ControlledScope {
         return new ControlledIteration(() -> expression.evaluate(stack, instance)).iterate(stack, instance, this);
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        String condition = compilation.toPrimitive(compilation.expression(expression), boolean.class);
+        compilation.loop(condition, () -> compilation.scope(this), null);
+        return true;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.expression = optimizer.optimize(expression);
+    }
+
 }
 
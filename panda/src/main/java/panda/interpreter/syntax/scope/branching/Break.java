@@ -21,9 +21,11 @@
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Status;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 
-final class Break extends AbstractExecutableStatement implements Controller {
+final class Break extends AbstractExecutableStatement implements Controller, CompilableStatement {
 
     Break(Location location) {
         super(location);
@@ -34,6 +36,12 @@ final class Break extends AbstractExecutableStatement implements Controller {
         return null;
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        compilation.breakLoop();
+        return true;
+    }
+
     @Override
     public byte getStatusCode() {
         return Status.BREAK;
@@ -21,9 +21,11 @@
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Status;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 
-final class Continue extends AbstractExecutableStatement implements Controller {
+final class Continue extends AbstractExecutableStatement implements Controller, CompilableStatement {
 
     Continue(Location location) {
         super(location);
@@ -34,6 +36,12 @@ final class Continue extends AbstractExecutableStatement implements Controller {
         return null;
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        compilation.continueLoop();
+        return true;
+    }
+
     @Override
     public byte getStatusCode() {
         return Status.CONTINUE;
@@ -19,14 +19,19 @@
 import org.jetbrains.annotations.Nullable;
 import panda.interpreter.architecture.dynamic.Controller;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableStatement;
 import panda.interpreter.source.Location;
 import panda.interpreter.runtime.ProcessStack;
+import panda.interpreter.runtime.Result;
 import panda.interpreter.runtime.Status;
+import panda.interpreter.runtime.compiler.CompilableStatement;
+import panda.interpreter.runtime.compiler.Compilation;
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 
-public final class Return extends AbstractExecutableStatement implements Returnable, Controller {
+public final class Return extends AbstractExecutableStatement implements Returnable, Controller, CompilableStatement, OptimizableStatement {
 
-    private final Expression value;
+    private Expression value;
 
     public Return(Location location, Expression value) {
         super(location);
@@ -38,6 +43,20 @@ public Return(Location location, Expression value) {
         return hasReturnValue() ? value.evaluate(stack, instance) : null;
     }
 
+    @Override
+    public boolean compile(Compilation compilation) {
+        String returnValue = hasReturnValue() ? compilation.toObject(compilation.expression(value)) : "null";
+        compilation.result(Result.class.getName() + ".of(" + Status.class.getName() + ".RETURN, " + returnValue + ")");
+        return true;
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        if (hasReturnValue()) {
+            this.value = optimizer.optimize(value);
+        }
+    }
+
     public boolean hasReturnValue() {
         return value != null;
     }
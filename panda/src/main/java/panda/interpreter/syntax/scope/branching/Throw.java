@@ -18,15 +18,19 @@
 
 import panda.interpreter.architecture.dynamic.Controller;
 import panda.interpreter.architecture.expression.Expression;
+import panda.interpreter.optimizer.ExpressionOptimizer;
+import panda.interpreter.optimizer.OptimizableStatement;
 import panda.interpreter.source.Location;
+import panda.interpreter.runtime.PandaRuntimeConstants;
+import panda.interpreter.runtime.PandaRuntimeException;
 import panda.interpreter.runtime.ProcessStack;
 import panda.interpreter.runtime.Status;
 import panda.interpreter.architecture.dynamic.AbstractExecutableStatement;
 import panda.utilities.UnsafeUtils;
 
-final class Throw extends AbstractExecutableStatement implements Returnable, Controller {
+final class Throw extends AbstractExecutableStatement implements Returnable, Controller, OptimizableStatement {
 
-    private final Expression value;
+    private Expression value;
 
     public Throw(Location location, Expression value) {
         super(location);
@@ -35,8 +39,18 @@ public Throw(Location location, Expression value) {
 
     @Override
     public Object execute(ProcessStack stack, Object instance) throws Exception {
-        UnsafeUtils.throwException(value.evaluate(stack, instance));
-        return null;
+        Throwable throwable = value.evaluate(stack, instance);
+
+        if (PandaRuntimeConstants.STACKLESS_EXCEPTIONS && throwable instanceof PandaRuntimeException) {
+            ((PandaRuntimeException) throwable).withProcessStack(stack);
+        }
+
+        return UnsafeUtils.throwException(throwable);
+    }
+
+    @Override
+    public void optimize(ExpressionOptimizer optimizer) {
+        this.value = optimizer.optimize(value);
     }
 
     @Override
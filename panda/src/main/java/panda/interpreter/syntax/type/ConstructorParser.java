@@ -23,6 +23,7 @@
 import panda.interpreter.architecture.type.member.constructor.PandaConstructor;
 import panda.interpreter.architecture.type.member.constructor.TypeConstructor;
 import panda.interpreter.architecture.type.member.parameter.PropertyParameter;
+import panda.interpreter.optimizer.Optimizer;
 import panda.interpreter.parser.Context;
 import panda.interpreter.parser.ContextParser;
 import panda.interpreter.parser.PandaParserFailure;
@@ -103,6 +104,8 @@ public Option<Completable<ConstructorScope>> parse(Context<? extends TypeContext
             scopeParser.parse(context, constructorScope, body.get());
         });
 
+        Optimizer.getDefault().delegate(context, constructorScope);
+
         context.getStageService().delegate("verify base call", Phases.VERIFY, Layer.NEXT_DEFAULT, verifyPhase -> {
             type.getSuperclass()
                     .filterNot(superclass -> superclass.fetchType().is("panda/panda@::Object"))
@@ -26,6 +26,7 @@
 import panda.interpreter.architecture.type.member.method.TypeMethod;
 import panda.interpreter.architecture.type.member.parameter.PropertyParameter;
 import panda.interpreter.architecture.type.signature.Signature;
+import panda.interpreter.optimizer.Optimizer;
 import panda.interpreter.parser.Component;
 import panda.interpreter.parser.Context;
 import panda.interpreter.parser.ContextParser;
@@ -157,6 +158,8 @@ public Option<Completable<TypeMethod>> parse(Context<? extends TypeContext> cont
             body.peek(source -> scopeParser.parse(context, methodScope, source));
         });
 
+        Optimizer.getDefault().delegate(context, methodScope);
+
         context.getStageService().delegate("verify return statement", Phases.VERIFY, Layer.NEXT_DEFAULT, verifyPhase -> {
             if (method.isAbstract()) {
                 return;
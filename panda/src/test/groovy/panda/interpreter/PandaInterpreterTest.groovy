@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.Application
+import panda.interpreter.architecture.PandaApplication
+import panda.interpreter.architecture.packages.Script
+import panda.interpreter.architecture.type.Reference
+import panda.interpreter.utils.PandaUtils
+import panda.manager.PackageUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+
+@CompileStatic
+final class PandaInterpreterTest {
+
+    private static final File DIRECTORY = new File('../examples/summary-example')
+
+    @Test
+    void 'should interpret the same application with parallel lexing' () {
+        Application sequential = interpret(false)
+        Application parallel = interpret(true)
+
+        assertEquals(describe(sequential), describe(parallel))
+        sequential.launch().get()
+        parallel.launch().get()
+    }
+
+    private static Application interpret(boolean parallel) {
+        PandaEnvironment environment = new PandaEnvironment(PandaUtils.defaultInstance(), DIRECTORY)
+        environment.initialize()
+
+        return new PandaInterpreter(environment, parallel)
+                .interpret(PackageUtils.directoryToPackage(DIRECTORY))
+                .get()
+    }
+
+    private static List<String> describe(Application application) {
+        List<String> description = new ArrayList<>()
+
+        for (Script script : ((PandaApplication) application).getScripts()) {
+            List<String> types = new ArrayList<>()
+
+            for (Reference reference : script.getModule().getReferences()) {
+                types.add(reference.getName())
+            }
+
+            Collections.sort(types)
+            description.add(script.getName() + " " + types)
+        }
+
+        return description
+    }
+
+}
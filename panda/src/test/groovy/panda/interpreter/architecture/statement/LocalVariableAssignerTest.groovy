@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.statement
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import panda.interpreter.runtime.PandaProcessFailure
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertThrows
+
+@CompileStatic
+final class LocalVariableAssignerTest {
+
+    @TempDir
+    public File directory
+
+    @Test
+    void 'should reject reassignment of let variable' () {
+        PandaProcessFailure failure = assertThrows(PandaProcessFailure.class, { execute("""
+main {
+    let value = 1
+    value = 2
+}
+""") })
+
+        assertEquals("Cannot change value of immutable variable 'value'", failure.getException().getMessage())
+    }
+
+    @Test
+    void 'should reject nil assigned to local variable without nil modifier' () {
+        PandaProcessFailure failure = assertThrows(PandaProcessFailure.class, { execute("""
+main {
+    mut Int number = 1
+    number = Java.null()
+}
+""") })
+
+        assertEquals("Cannot assign null to variable 'number' without nil modifier", failure.getException().getMessage())
+    }
+
+    @Test
+    void 'should assign immutable late variable in branches and mutable variable repeatedly' () {
+        assertEquals('b3', execute("""
+main {
+    late String branched
+
+    if false {
+        branched = 'a'
+    }
+    else {
+        branched = 'b'
+    }
+
+    mut Int number = 1
+    number = 2
+    number = 3
+
+    return branched + number
+}
+"""))
+    }
+
+    private Object execute(String source) {
+        File script = new File(directory, 'variables.panda')
+        script.text = source
+        return PandaUtils.load(directory, script).get().createProcess().execute()
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.type.member.field.TypeField
+import panda.interpreter.utils.ExpressionTestContext
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+import static panda.interpreter.utils.ExpressionTestContext.javaSignatureOf
+
+@CompileStatic
+final class TypeScopeTest {
+
+    @Test
+    void 'should count fields declared after the first frame' () {
+        ExpressionTestContext context = ExpressionTestContext.create(stubContext -> Collections.emptyMap())
+        Type type = javaSignatureOf(context.getContext(), Point.class).toTyped().fetchType()
+        TypeScope scope = new TypeScope(type.getLocation(), type.getReference())
+
+        int count = type.getFields().getProperties().size()
+        assertTrue(count >= 2)
+        assertEquals(count, scope.getFieldsCount())
+        assertEquals(count, new TypeFrame(null, scope).getMemorySize())
+
+        TypeField field = type.getFields().getDeclaredProperties().first()
+        type.getFields().declare('z', () -> field)
+
+        assertEquals(count + 1, scope.getFieldsCount())
+        assertEquals(count + 1, new TypeFrame(null, scope, scope.getFieldsCount()).getMemorySize())
+    }
+
+    static class Point {
+
+        public int x
+        public int y
+
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import panda.interpreter.utils.PandaUtils
+
+import java.nio.file.Path
+import java.nio.file.Paths
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * Names of generated classes are allocated once per JVM, so every launch runs in a separate JVM
+ */
+@CompileStatic
+final class ClassGeneratorCacheTest {
+
+    private static final String CACHED_CLASSES = 'cached classes: '
+
+    @TempDir
+    public Path directory
+
+    @Test
+    void 'should define classes from cache in the next launch' () {
+        assertEquals 0, launch()
+        assertTrue launch() > 0
+    }
+
+    private int launch() {
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty('java.home'), 'bin', 'java').toString(),
+                '-cp', System.getProperty('java.class.path'),
+                '-D' + GeneratedClassCache.DIRECTORY_PROPERTY + '=' + directory,
+                ClassGeneratorCacheTest.class.getName()
+        ).redirectErrorStream(true).start()
+
+        String output = process.getInputStream().getText()
+        assertEquals(0, process.waitFor(), output)
+
+        String line = output.readLines().find { String outputLine -> outputLine.startsWith(CACHED_CLASSES) }
+        return Integer.parseInt(line.substring(CACHED_CLASSES.length()))
+    }
+
+    static void main(String[] args) {
+        PandaUtils.load('../examples/lang/', '../examples/lang/type.panda').get()
+        System.out.println(CACHED_CLASSES + ClassGenerator.getCachedClasses())
+        System.exit(0)
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.generator
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.type.Type
+import panda.interpreter.architecture.type.member.constructor.TypeConstructor
+import panda.interpreter.architecture.type.member.method.TypeMethod
+import panda.interpreter.runtime.PandaRuntimeException
+import panda.interpreter.utils.ExpressionTestContext
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNull
+import static org.junit.jupiter.api.Assertions.assertThrows
+import static org.junit.jupiter.api.Assertions.assertTrue
+import static panda.interpreter.utils.ExpressionTestContext.javaSignatureOf
+
+@CompileStatic
+final class JavaMemberHandlesTest {
+
+    private Type type
+
+    @BeforeEach
+    void prepare() {
+        ExpressionTestContext context = ExpressionTestContext.create(stubContext -> Collections.emptyMap())
+        this.type = javaSignatureOf(context.getContext(), Mapped.class).toTyped().fetchType()
+    }
+
+    @Test
+    void 'should adapt primitive parameters and return values' () {
+        assertEquals((Object) 7L, invoke('sum', null, 3, 4L))
+        assertEquals((Object) true, invoke('isPositive', null, 0.5d))
+        assertEquals((Object) ('p' as char), invoke('first', new Mapped(1), 'panda'))
+        assertNull(invoke('nothing', null))
+    }
+
+    @Test
+    void 'should create instances through mapped constructor' () {
+        TypeConstructor constructor = type.getConstructors().getDeclaredProperties().first()
+        Mapped mapped = (Mapped) constructor.invoke(null, null, [ 7 ] as Object[])
+        assertEquals(7, mapped.value)
+    }
+
+    @Test
+    void 'should rethrow errors and exceptions of mapped members' () {
+        StackOverflowError error = assertThrows(StackOverflowError.class, { invoke('overflow', null) })
+        assertEquals('overflow', error.getMessage())
+
+        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class, { invoke('unsupported', null) })
+        assertEquals('unsupported', exception.getMessage())
+
+        TypeConstructor constructor = type.getConstructors().getDeclaredProperties().first()
+        AssertionError constructorError = assertThrows(AssertionError.class, { constructor.invoke(null, null, [ -1 ] as Object[]) })
+        assertEquals('negative value', constructorError.getMessage())
+    }
+
+    @Test
+    void 'should wrap single argument of single varargs parameter' () {
+        assertEquals((Object) 1, invoke('count', null, 'a'))
+        assertThrows(PandaRuntimeException.class, { invoke('count', null, 'a', 'b') })
+    }
+
+    @Test
+    void 'should reject varargs arguments' () {
+        PandaRuntimeException missing = assertThrows(PandaRuntimeException.class, { invoke('join', null, '-') })
+        assertEquals('Varargs not allowed', missing.getMessage())
+
+        PandaRuntimeException spread = assertThrows(PandaRuntimeException.class, { invoke('join', null, '-', 'a', 'b') })
+        assertTrue(spread.getMessage().startsWith('Cannot invoke mapped'))
+
+        assertEquals('a-b', invoke('join', null, '-', [ 'a', 'b' ] as String[]))
+    }
+
+    private Object invoke(String name, Object instance, Object... arguments) {
+        TypeMethod method = type.getMethods().getPropertiesLike(name).first()
+        return method.invoke(null, instance, arguments)
+    }
+
+    static class Mapped {
+
+        public final int value
+
+        Mapped(int value) {
+            if (value < 0) {
+                throw new AssertionError('negative value')
+            }
+
+            this.value = value
+        }
+
+        char first(String value) {
+            return value.charAt(0)
+        }
+
+        static long sum(int a, long b) {
+            return a + b
+        }
+
+        static boolean isPositive(double value) {
+            return value > 0
+        }
+
+        static void nothing() { }
+
+        static void overflow() {
+            throw new StackOverflowError('overflow')
+        }
+
+        static void unsupported() {
+            throw new UnsupportedOperationException('unsupported')
+        }
+
+        static int count(String... values) {
+            return values.length
+        }
+
+        static String join(String separator, String... values) {
+            return String.join(separator, values)
+        }
+
+    }
+
+}
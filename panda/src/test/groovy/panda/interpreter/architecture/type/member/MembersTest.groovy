@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.member
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.type.Type
+import panda.interpreter.architecture.type.member.method.TypeMethod
+import panda.interpreter.utils.ExpressionTestContext
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertNotEquals
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertThrows
+import static org.junit.jupiter.api.Assertions.assertTrue
+import static panda.interpreter.utils.ExpressionTestContext.javaSignatureOf
+
+@CompileStatic
+final class MembersTest {
+
+    private Type base
+    private Type sub
+    private TypeMethod baseMethod
+
+    @BeforeEach
+    void prepare() {
+        ExpressionTestContext context = ExpressionTestContext.create(stubContext -> Collections.emptyMap())
+        this.base = javaSignatureOf(context.getContext(), Base.class).toTyped().fetchType()
+        this.sub = javaSignatureOf(context.getContext(), Sub.class).toTyped().fetchType()
+        this.baseMethod = base.getMethods().getPropertiesLike('base').first()
+    }
+
+    @Test
+    void 'should invalidate lookups of subtype after late declaration in base' () {
+        String name = 'late' + System.nanoTime()
+        assertFalse(sub.getMethods().hasPropertyLike(name))
+        assertTrue(sub.getMethods().getPropertiesLike(name).isEmpty())
+        int version = sub.getVersion()
+
+        base.getMethods().declare(name, () -> baseMethod)
+
+        assertNotEquals(version, sub.getVersion())
+        assertTrue(sub.getMethods().hasPropertyLike(name))
+        assertEquals([ baseMethod ], sub.getMethods().getPropertiesLike(name))
+        assertTrue(sub.getMethods().getProperties().contains(baseMethod))
+    }
+
+    @Test
+    void 'should reuse lookups of unmodified types' () {
+        List<? extends TypeMethod> properties = sub.getMethods().getPropertiesLike('base')
+        assertTrue(properties.contains(baseMethod))
+        assertSame(properties, sub.getMethods().getPropertiesLike('base'))
+    }
+
+    @Test
+    void 'should expose unmodifiable lists of members' () {
+        List<TypeMethod> propertiesLike = (List<TypeMethod>) sub.getMethods().getPropertiesLike('base')
+        List<TypeMethod> properties = (List<TypeMethod>) sub.getMethods().getProperties()
+        List<TypeMethod> declaredProperties = (List<TypeMethod>) base.getMethods().getDeclaredProperties()
+
+        assertThrows(UnsupportedOperationException.class, { propertiesLike.add(baseMethod) })
+        assertThrows(UnsupportedOperationException.class, { properties.add(baseMethod) })
+        assertThrows(UnsupportedOperationException.class, { declaredProperties.clear() })
+    }
+
+    static class Base {
+
+        String base() {
+            return 'base'
+        }
+
+    }
+
+    static class Sub extends Base { }
+
+}
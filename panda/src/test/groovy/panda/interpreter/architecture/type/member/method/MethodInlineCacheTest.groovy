@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.architecture.type.member.method
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import panda.interpreter.architecture.Application
+import panda.interpreter.architecture.module.Module
+import panda.interpreter.architecture.type.Type
+import panda.interpreter.architecture.type.TypeFrame
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNull
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class MethodInlineCacheTest {
+
+    private static final List<String> SUBTYPES = [ 'Cat', 'Dog', 'Fox', 'Owl', 'Bat' ]
+
+    private static final String SOURCE = """
+main {
+    Animal animal = new Animal()
+    Animal cat = new Cat()
+    Animal dog = new Dog()
+
+    if animal.name() != 'animal' {
+        throw new RuntimeException('Invalid dispatch of base method')
+    }
+
+    if cat.name() != 'cat' {
+        throw new RuntimeException('Invalid dispatch of overridden method')
+    }
+
+    if Animal.describe(dog) != 'dog' {
+        throw new RuntimeException('Invalid dispatch of overridden method in base type')
+    }
+}
+
+type Animal {
+    open name () -> String {
+        return 'animal'
+    }
+
+    open static describe (Animal animal) -> String {
+        return animal.name()
+    }
+}
+""" + SUBTYPES.collect { subtype -> """
+type ${subtype} : Animal {
+    override name () -> String {
+        return '${subtype.toLowerCase()}'
+    }
+}
+""" }.join('')
+
+    @TempDir
+    public File directory
+
+    private Module module
+
+    @BeforeEach
+    void prepare() {
+        File script = new File(directory, 'dispatch.panda')
+        script.text = SOURCE
+
+        Application application = PandaUtils.load(directory, script).get()
+        assertTrue(application.launch().isOk())
+        this.module = application.getScripts().find { it.getName().contains('dispatch') }.getModule()
+    }
+
+    @Test
+    void 'should dispatch calls to overriding methods' () {
+        MethodInlineCache cache = MethodInlineCache.of(nameOf('Animal'))
+
+        assertSame(nameOf('Animal'), cache.resolve(frameOf('Animal')))
+        assertSame(nameOf('Cat'), cache.resolve(frameOf('Cat')))
+        assertSame(nameOf('Dog'), cache.resolve(frameOf('Dog')))
+        assertSame(nameOf('Animal'), cache.resolve('not a frame'))
+    }
+
+    @Test
+    void 'should become megamorphic after exceeding polymorphic limit' () {
+        MethodInlineCache cache = MethodInlineCache.of(nameOf('Animal'))
+        assertEquals(MethodInlineCache.State.UNINITIALIZED, cache.getState())
+
+        cache.resolve(frameOf('Cat'))
+        cache.resolve(frameOf('Cat'))
+        assertEquals(MethodInlineCache.State.MONOMORPHIC, cache.getState())
+
+        for (String subtype : SUBTYPES.subList(1, MethodInlineCache.POLYMORPHIC_LIMIT)) {
+            assertSame(nameOf(subtype), cache.resolve(frameOf(subtype)))
+            assertEquals(MethodInlineCache.State.POLYMORPHIC, cache.getState())
+        }
+
+        assertSame(nameOf('Bat'), cache.resolve(frameOf('Bat')))
+        assertEquals(MethodInlineCache.State.MEGAMORPHIC, cache.getState())
+
+        for (String subtype : SUBTYPES) {
+            assertSame(nameOf(subtype), cache.resolve(frameOf(subtype)))
+        }
+
+        assertSame(nameOf('Animal'), cache.resolve(frameOf('Animal')))
+        assertEquals(MethodInlineCache.State.MEGAMORPHIC, cache.getState())
+    }
+
+    @Test
+    void 'should not count calls if statistics are disabled' () {
+        MethodInlineCache cache = MethodInlineCache.of(nameOf('Animal'))
+        cache.resolve(frameOf('Cat'))
+        cache.resolve(frameOf('Cat'))
+
+        assertEquals(0L, cache.getHits())
+        assertEquals(0L, cache.getMisses())
+    }
+
+    @Test
+    void 'should not cache static methods' () {
+        assertNull(MethodInlineCache.of(typeOf('Animal').getMethods().getPropertiesLike('describe').first()))
+    }
+
+    private TypeMethod nameOf(String type) {
+        return typeOf(type).getMethods().getPropertiesLike('name').find { method -> method.getType() == typeOf(type) }
+    }
+
+    private TypeFrame frameOf(String type) {
+        return new TypeFrame(null, typeOf(type).getTypeScope().get(), 0)
+    }
+
+    private Type typeOf(String type) {
+        return module.get(type).get().fetchType()
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.optimizer
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import panda.interpreter.architecture.PandaApplication
+import panda.interpreter.optimizer.passes.BranchPruningPass
+import panda.interpreter.optimizer.passes.ConstantPropagationPass
+import panda.interpreter.optimizer.passes.LoopInvariantHoistingPass
+import panda.interpreter.optimizer.passes.UnreachableStatementsPass
+import panda.interpreter.syntax.head.MainScope
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class OptimizerPassesTest {
+
+    private static final List<String> PASSES = [
+            ConstantPropagationPass.NAME,
+            BranchPruningPass.NAME,
+            UnreachableStatementsPass.NAME,
+            LoopInvariantHoistingPass.NAME
+    ]
+
+    private static final String SOURCE = '''
+main {
+    let limit = 10
+    log limit
+
+    if true {
+        log 'enabled'
+    }
+    else {
+        log 'disabled'
+    }
+
+    Int factor = 'panda'.length()
+    mut Int sum = 0
+
+    for (mut Int index = 0; index < limit; index++) {
+        sum = sum + factor * 2
+    }
+
+    while true {
+        break
+        log sum
+    }
+}
+'''
+
+    @TempDir
+    public File directory
+
+    @AfterEach
+    void clear() {
+        System.clearProperty(Optimizer.DISABLED_PASSES_PROPERTY)
+    }
+
+    @Test
+    void 'should apply every pass' () {
+        OptimizationReport report = Optimizer.createDefault('').optimize(parseUnoptimized())
+
+        assertTrue(report.count(ConstantPropagationPass.NAME) > 0)
+        assertTrue(report.count(BranchPruningPass.NAME) > 0)
+        assertTrue(report.count(UnreachableStatementsPass.NAME) > 0)
+        assertEquals(1, report.count(LoopInvariantHoistingPass.NAME))
+    }
+
+    @Test
+    void 'should hoist invariant over non constant variable' () {
+        Optimizer optimizer = new Optimizer([ new LoopInvariantHoistingPass() ])
+        OptimizationReport report = optimizer.optimize(parseUnoptimized())
+
+        assertEquals(1, report.count(LoopInvariantHoistingPass.NAME))
+        assertEquals(1, report.getChanges().size())
+    }
+
+    @Test
+    void 'should disable passes using property' () {
+        for (String disabledPass : PASSES) {
+            System.setProperty(Optimizer.DISABLED_PASSES_PROPERTY, disabledPass)
+            Optimizer optimizer = Optimizer.getDefault()
+
+            assertFalse(optimizer.getPasses().any { pass -> pass.getName() == disabledPass })
+            assertEquals(0, optimizer.optimize(parseUnoptimized()).count(disabledPass))
+        }
+    }
+
+    @Test
+    void 'should not optimize scopes during parsing if all passes are disabled' () {
+        assertTrue(Optimizer.getDefault().getPasses().size() == PASSES.size())
+        MainScope scope = parseUnoptimized()
+        assertFalse(Optimizer.createDefault('').optimize(scope).isEmpty())
+    }
+
+    private MainScope parseUnoptimized() {
+        String previous = System.getProperty(Optimizer.DISABLED_PASSES_PROPERTY)
+        System.setProperty(Optimizer.DISABLED_PASSES_PROPERTY, PASSES.join(','))
+
+        try {
+            File script = new File(directory, 'optimizer.panda')
+            script.text = SOURCE
+
+            PandaApplication application = PandaUtils.load(directory, script).get() as PandaApplication
+            return application.getScripts().collectMany { it.select(MainScope.class) as List<MainScope> }.first()
+        } finally {
+            if (previous == null) {
+                System.clearProperty(Optimizer.DISABLED_PASSES_PROPERTY)
+            } else {
+                System.setProperty(Optimizer.DISABLED_PASSES_PROPERTY, previous)
+            }
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertThrows
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class PandaTasksTest {
+
+    @Test
+    void 'should run awaited task inline if all threads of pool are busy' () {
+        ExecutorService executor = PandaTasks.createPlatformExecutor(1)
+
+        try {
+            Future<Object> outer = PandaTasks.submit(executor, () -> {
+                Future<Object> inner = PandaTasks.submit(executor, () -> Thread.currentThread().getName())
+                return PandaTasks.await(inner)
+            })
+
+            assertEquals('panda-task-1', outer.get(5, TimeUnit.SECONDS))
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    void 'should rethrow exception of failed task' () {
+        CompletableFuture<Object> task = new CompletableFuture<>()
+        task.completeExceptionally(new IllegalStateException("failed"))
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> PandaTasks.await(task))
+        assertEquals("failed", exception.getMessage())
+    }
+
+    @Test
+    void 'should cancel task and restore interrupt flag if awaiting thread is interrupted' () {
+        CompletableFuture<Object> task = new CompletableFuture<>()
+        Thread.currentThread().interrupt()
+
+        try {
+            assertThrows(PandaRuntimeException.class, () -> PandaTasks.await(task))
+            assertTrue(task.isCancelled())
+            assertTrue(Thread.currentThread().isInterrupted())
+        } finally {
+            Thread.interrupted()
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import panda.interpreter.architecture.Application
+import panda.interpreter.logging.DefaultLogger
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertThrows
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class ProcessFailureTest {
+
+    private static final String SOURCE = """
+main {
+    throw new RuntimeException('Failure')
+}
+"""
+
+    @TempDir
+    public File directory
+
+    @Test
+    void 'should report living frames of failed process' () {
+        File script = new File(directory, 'failure.panda')
+        script.text = SOURCE
+
+        Application application = PandaUtils.load(directory, script).get()
+        PandaProcessFailure failure = assertThrows(PandaProcessFailure.class, { application.createProcess().execute() })
+
+        assertEquals('Failure', failure.getException().getMessage())
+        assertEquals(1, failure.getLivingFrames().length)
+        assertEquals(0, failure.getStack().getDepth())
+
+        List<String> messages = new ArrayList<>()
+        new DefaultLogger(messages::add).exception(failure)
+
+        assertTrue(messages.any { message -> message.startsWith('#   at ') && message.contains('failure.panda') })
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.Application
+import panda.interpreter.utils.PandaUtils
+import panda.std.Option
+import panda.std.Result
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNotNull
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class ProcessRunnerTest {
+
+    @Test
+    void 'should run processes of the same application concurrently and initialize static fields once' () {
+        Application application = PandaUtils.load('../examples/lang/', '../examples/lang/statics.panda').get()
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        try {
+            List<Result<Option<Object>, Throwable>> results = new PandaProcessRunner(application, executor).run(16)
+            assertEquals(16, results.size())
+            results.each { result -> assertTrue(result.isOk()) }
+
+            Object instance = results.get(0).get().get()
+            assertNotNull(instance)
+            results.each { result -> assertSame(instance, result.get().get()) }
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+}
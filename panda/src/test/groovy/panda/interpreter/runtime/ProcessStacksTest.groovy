@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+
+import java.util.concurrent.CompletableFuture
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNotSame
+import static org.junit.jupiter.api.Assertions.assertSame
+
+@CompileStatic
+final class ProcessStacksTest {
+
+    @Test
+    void 'should bind stack per process until the outermost call returns' () {
+        Process first = new PandaProcess(null, null)
+        Process second = new PandaProcess(null, null)
+
+        PandaProcessStack firstStack = PandaProcessStacks.enter(first)
+        PandaProcessStack secondStack = PandaProcessStacks.enter(second)
+        assertNotSame(firstStack, secondStack)
+
+        assertSame(firstStack, PandaProcessStacks.enter(first))
+        PandaProcessStacks.exit(first)
+        assertSame(firstStack, PandaProcessStacks.enter(first))
+
+        PandaProcessStacks.exit(first)
+        PandaProcessStacks.exit(first)
+        PandaProcessStacks.exit(second)
+
+        assertNotSame(firstStack, PandaProcessStacks.enter(first))
+        PandaProcessStacks.exit(first)
+    }
+
+    @Test
+    void 'should reuse released stack of the same process and thread' () {
+        Process process = new PandaProcess(null, null)
+
+        PandaProcessStack stack = PandaProcessStacks.enter(process)
+        PandaProcessStacks.exit(process)
+
+        assertSame(stack, PandaProcessStacks.enter(process))
+        assertEquals(0, stack.getDepth())
+        assertSame(null, stack.getCurrentFrame())
+        PandaProcessStacks.exit(process)
+
+        Process another = new PandaProcess(null, null)
+        assertNotSame(stack, PandaProcessStacks.enter(another))
+        PandaProcessStacks.exit(another)
+    }
+
+    @Test
+    void 'should bind separate stacks to separate threads' () {
+        Process process = new PandaProcess(null, null)
+        PandaProcessStack stack = PandaProcessStacks.enter(process)
+
+        try {
+            PandaProcessStack foreignStack = CompletableFuture.supplyAsync({
+                PandaProcessStack first = PandaProcessStacks.enter(process)
+                PandaProcessStacks.exit(process)
+
+                PandaProcessStack second = PandaProcessStacks.enter(process)
+                PandaProcessStacks.exit(process)
+
+                assertSame(first, second)
+                return first
+            }).get()
+
+            assertNotSame(stack, foreignStack)
+            assertSame(stack, PandaProcessStacks.enter(process))
+            PandaProcessStacks.exit(process)
+        } finally {
+            PandaProcessStacks.exit(process)
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+
+import java.lang.reflect.Field
+import java.lang.reflect.Modifier
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNotSame
+import static org.junit.jupiter.api.Assertions.assertNull
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class ResultTest {
+
+    private static final byte[] STATUSES = [ Status.THROW, Status.RETURN, Status.BREAK, Status.CONTINUE ] as byte[]
+
+    @Test
+    void 'should share empty results of default statuses' () {
+        for (byte status : STATUSES) {
+            Result<?> result = Result.of(status, null)
+
+            assertSame(result, Result.of(status, null))
+            assertEquals(status, result.getStatus())
+            assertNull(result.getResult())
+        }
+    }
+
+    @Test
+    void 'should not leak shared results across statuses' () {
+        Set<Result<?>> results = Collections.newSetFromMap(new IdentityHashMap<Result<?>, Boolean>())
+
+        for (byte status : STATUSES) {
+            results.add(Result.of(status, null))
+        }
+
+        assertEquals(STATUSES.length, results.size())
+        assertEquals(Status.BREAK, Result.of(Status.BREAK, null).getStatus())
+        assertEquals(Status.CONTINUE, Result.of(Status.CONTINUE, null).getStatus())
+    }
+
+    @Test
+    void 'should not reuse shared results for values and custom statuses' () {
+        Result<String> value = Result.of(Status.RETURN, 'value')
+        assertEquals('value', value.getResult())
+        assertNotSame(Result.of(Status.RETURN, null), value)
+
+        // creating results with values must not affect the shared empty result
+        assertNull(Result.of(Status.RETURN, null).getResult())
+
+        byte customStatus = (byte) 0x10
+        Result<?> custom = Result.of(customStatus, null)
+        assertEquals(customStatus, custom.getStatus())
+        assertNotSame(custom, Result.of(customStatus, null))
+        assertNotSame(Result.of((byte) -1, null), Result.of((byte) -1, null))
+    }
+
+    @Test
+    void 'should keep state of results immutable' () {
+        for (Field field : Result.class.getDeclaredFields()) {
+            assertTrue(Modifier.isFinal(field.getModifiers()), field.getName())
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.runtime.compiler
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.expression.Expression
+import panda.interpreter.lexer.PandaLexerUtils
+import panda.interpreter.parser.expression.PandaExpressionParser
+import panda.interpreter.runtime.PandaProcess
+import panda.interpreter.runtime.PandaProcessStack
+import panda.interpreter.runtime.Result
+import panda.interpreter.syntax.expressions.PandaExpressions
+import panda.interpreter.syntax.head.MainScope
+import panda.interpreter.syntax.scope.branching.Return
+import panda.interpreter.token.PandaLocation
+import panda.interpreter.utils.PandaContextUtils
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class MethodCompilerTest {
+
+    @Test
+    void 'should compile body and return the same result as interpreter' () {
+        Expression expression = new PandaExpressionParser(PandaExpressions.createExpressionSubparsers()).parse(
+                PandaContextUtils.createStubContext(PandaUtils.defaultInstance()),
+                PandaLexerUtils.convert(MethodCompilerTest.class.getSimpleName(), "6 * 7")
+        )
+
+        MainScope body = new MainScope(PandaLocation.unknownLocation(null, "method-compiler-test"))
+        body.addStatement(new Return(body.getSourceLocation(), expression))
+
+        int compiledMethods = MethodCompiler.getCompiledMethods()
+        CompiledMethod compiled = MethodCompiler.compile("test", body).get()
+        assertTrue(MethodCompiler.getCompiledMethods() > compiledMethods)
+
+        PandaProcessStack stack = new PandaProcessStack(new PandaProcess(null, body), 1024)
+        Result<?> result = compiled.call(stack, null, new Object[body.getRequiredMemorySize()])
+        assertEquals((Object) 42, result.getResult())
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.std
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.module.Module
+import panda.interpreter.architecture.module.PandaTypeLoader
+import panda.interpreter.architecture.packages.Package
+import panda.interpreter.architecture.packages.Packages
+import panda.interpreter.architecture.type.LazyReference
+import panda.interpreter.architecture.type.Reference
+import panda.interpreter.architecture.type.Type
+import panda.interpreter.architecture.type.generator.TypeGenerator
+import panda.interpreter.source.SourceService
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class StdLoaderTest {
+
+    @Test
+    void 'should materialize only touched types in lazy mode' () {
+        Packages packages = new Packages(new SourceService())
+        PandaTypeLoader typeLoader = new PandaTypeLoader(packages)
+        StdLoader stdLoader = new StdLoader(true)
+        stdLoader.load(packages, new TypeGenerator(PandaUtils.defaultInstance()), typeLoader)
+
+        Module module = packages.getPackage('java').get().getModuleSource(Package.DEFAULT_MODULE).get().getModule()
+        Reference lazyReference = module.get('Runnable').get()
+        assertTrue(lazyReference instanceof LazyReference)
+        assertFalse(((LazyReference) lazyReference).isMaterialized())
+
+        int materializedTypes = stdLoader.getMaterializedTypes()
+        assertTrue(materializedTypes < stdLoader.getRegisteredTypes())
+
+        Type runnableType = typeLoader.requireType('panda/java@::Runnable')
+        assertEquals(materializedTypes + 1, stdLoader.getMaterializedTypes())
+        assertTrue(((LazyReference) lazyReference).isMaterialized())
+
+        typeLoader.requireType('panda/java@::Runnable')
+        assertEquals(materializedTypes + 1, stdLoader.getMaterializedTypes())
+
+        Reference materializedReference = runnableType.getReference()
+        assertEquals(lazyReference, materializedReference)
+        assertEquals(materializedReference, lazyReference)
+        assertEquals(lazyReference.hashCode(), materializedReference.hashCode())
+    }
+
+}
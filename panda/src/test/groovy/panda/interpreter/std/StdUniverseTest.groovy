@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.std
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import panda.interpreter.FrameworkController
+import panda.interpreter.PandaEnvironment
+import panda.interpreter.architecture.module.Module
+import panda.interpreter.architecture.packages.Package
+import panda.interpreter.architecture.type.Type
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertNotSame
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+@CompileStatic
+final class StdUniverseTest {
+
+    @Test
+    void 'should share std types and keep user types per environment' () {
+        FrameworkController controller = PandaUtils.defaultInstance()
+        StdUniverse universe = new StdUniverse(controller)
+
+        PandaEnvironment first = new PandaEnvironment(controller, new File('./'), universe)
+        PandaEnvironment second = new PandaEnvironment(controller, new File('./'), universe)
+        first.initialize()
+        second.initialize()
+
+        Type stringType = universe.getTypeLoader().requireType('panda/panda@::String')
+        assertSame(stringType, first.getTypeLoader().requireType('panda/panda@::String'))
+        assertSame(stringType, second.getTypeLoader().requireType('panda/panda@::String'))
+        assertSame(stringType, second.getTypeLoader().forJavaType(String.class).get())
+
+        Type firstUserType = generateUserType(first)
+        assertTrue(second.getTypeLoader().forJavaType(UserType.class).isEmpty())
+        assertTrue(universe.getTypeLoader().forJavaType(UserType.class).isEmpty())
+
+        Type secondUserType = generateUserType(second)
+        assertNotSame(firstUserType, secondUserType)
+        assertSame(firstUserType, first.getTypeLoader().forJavaType(UserType.class).get())
+        assertSame(secondUserType, second.getTypeLoader().forJavaType(UserType.class).get())
+    }
+
+    private static Type generateUserType(PandaEnvironment environment) {
+        Package userPackage = new Package('user', 'user', '1.0.0', new File('user'))
+        environment.getPackages().registerPackage(userPackage)
+        Module module = userPackage.createModule('user').getModule()
+
+        return environment.getTypeLoader().load(environment.getTypeGenerator()
+                .generate(environment.getTypeLoader(), module, 'UserType', UserType.class)
+                .fetchType())
+    }
+
+    static final class UserType { }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.statement.PandaVariableData
+import panda.interpreter.architecture.statement.VariableData
+import panda.interpreter.utils.ExpressionTestContext
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static panda.interpreter.utils.ExpressionTestContext.arraySignatureOf
+
+@CompileStatic
+final class ArrayAccessTest {
+
+    private static ExpressionTestContext CONTEXT
+
+    @BeforeAll
+    static void prepare() {
+        CONTEXT = ExpressionTestContext.create(context -> {
+            Map<VariableData, Object> variables = new HashMap<>()
+            variables.put(new PandaVariableData(arraySignatureOf(context, Double[].class), 'doubles'), [ 0.5d ] as Double[])
+            variables.put(new PandaVariableData(arraySignatureOf(context, Long[].class), 'longs'), [ 5_000_000_000L ] as Long[])
+            variables.put(new PandaVariableData(arraySignatureOf(context, float[].class), 'floats'), [ 1.5f ] as float[])
+            variables.put(new PandaVariableData(arraySignatureOf(context, byte[].class), 'bytes'), [ (byte) 7 ] as byte[])
+            return variables
+        })
+    }
+
+    @Test
+    void 'should read elements of arrays in arithmetic' () {
+        assertEquals((Object) 1.0d, CONTEXT.evaluate('doubles.get(0) * 2.0'))
+        assertEquals((Object) 5_000_000_001L, CONTEXT.evaluate('longs.get(0) + 1L'))
+        assertEquals((Object) 3.0d, CONTEXT.evaluate('floats.get(0) * 2.0'))
+        assertEquals((Object) 8, CONTEXT.evaluate('bytes.get(0) + 1'))
+    }
+
+    @Test
+    void 'should read elements of arrays in concatenation' () {
+        assertEquals 'd0.5', CONTEXT.evaluate("'d' + doubles.get(0)")
+        assertEquals 'l5000000000', CONTEXT.evaluate("'l' + longs.get(0)")
+        assertEquals 'f1.5', CONTEXT.evaluate("'f' + floats.get(0)")
+        assertEquals 'b7', CONTEXT.evaluate("'b' + bytes.get(0)")
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers.operation.subparsers
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import panda.interpreter.architecture.statement.PandaVariableData
+import panda.interpreter.architecture.statement.VariableData
+import panda.interpreter.syntax.expressions.subparsers.number.PandaNumbers
+import panda.interpreter.utils.ExpressionTestContext
+import panda.interpreter.utils.PandaUtils
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static panda.interpreter.utils.ExpressionTestContext.signatureOf
+
+@CompileStatic
+final class ConcatenationExpressionCallbackTest {
+
+    private static final String LATE_SOURCE = """
+main {
+    late Int unassigned
+    late Int branched
+
+    if false {
+        branched = 1
+    }
+
+    Int number = 7
+    return 'v' + unassigned + branched + number + (number + 1)
+}
+"""
+
+    @TempDir
+    public File directory
+
+    @Test
+    void 'should concatenate numbers of variables' () {
+        ExpressionTestContext context = ExpressionTestContext.create(stubContext -> {
+            Map<VariableData, Object> variables = new HashMap<>()
+            variables.put(new PandaVariableData(signatureOf(stubContext, PandaNumbers.INT), 'number'), 7)
+            variables.put(new PandaVariableData(signatureOf(stubContext, PandaNumbers.LONG), 'longNumber'), 8L)
+            variables.put(new PandaVariableData(signatureOf(stubContext, PandaNumbers.DOUBLE), 'doubleNumber'), 0.5d)
+            variables.put(new PandaVariableData(signatureOf(stubContext, PandaNumbers.INT), 'nilNumber', false, true), null)
+            return variables
+        })
+
+        assertEquals('v7', context.evaluate("'v' + number"))
+        assertEquals('v780.5', context.evaluate("'v' + number + longNumber + doubleNumber"))
+        assertEquals('vnull15', context.evaluate("'v' + nilNumber + (number + longNumber)"))
+    }
+
+    @Test
+    void 'should not unbox late variables that are not assigned yet' () {
+        File script = new File(directory, 'late.panda')
+        script.text = LATE_SOURCE
+
+        assertEquals('vnullnull78', PandaUtils.load(directory, script).get().createProcess().execute())
+    }
+
+}
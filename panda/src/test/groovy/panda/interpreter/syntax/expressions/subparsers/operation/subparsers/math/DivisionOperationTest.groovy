@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.expressions.subparsers.operation.subparsers.math
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.dynamic.Frame
+import panda.interpreter.architecture.expression.Expression
+import panda.interpreter.architecture.statement.PandaVariableData
+import panda.interpreter.architecture.statement.VariableData
+import panda.interpreter.runtime.ArithmeticUtils
+import panda.interpreter.runtime.PandaRuntimeException
+import panda.interpreter.runtime.ProcessStack
+import panda.interpreter.syntax.expressions.subparsers.number.PandaNumbers
+import panda.interpreter.utils.ExpressionTestContext
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertThrows
+import static panda.interpreter.utils.ExpressionTestContext.signatureOf
+
+@CompileStatic
+final class DivisionOperationTest {
+
+    private static ExpressionTestContext CONTEXT
+
+    @BeforeAll
+    static void prepare() {
+        CONTEXT = ExpressionTestContext.create(context -> {
+            Map<VariableData, Object> variables = new HashMap<>()
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.INT), 'seven'), 7)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.INT), 'two'), 2)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.INT), 'zero'), 0)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.LONG), 'longSeven'), 7L)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.LONG), 'longZero'), 0L)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.DOUBLE), 'half'), 0.5d)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.BYTE), 'byteNine'), (byte) 9)
+            variables.put(new PandaVariableData(signatureOf(context, PandaNumbers.BYTE), 'byteZero'), (byte) 0)
+            return variables
+        })
+    }
+
+    @Test
+    void 'should divide primitive operands' () {
+        Expression ints = CONTEXT.parse('seven / two')
+        assertEquals((Object) 3, CONTEXT.evaluate(ints))
+        assertEquals((Object) 3, CONTEXT.evaluate({ ProcessStack stack, Frame frame -> (Object) ints.evaluateInt(stack, frame) }))
+        assertEquals((Object) 3L, CONTEXT.evaluate({ ProcessStack stack, Frame frame -> (Object) ints.evaluateLong(stack, frame) }))
+        assertEquals((Object) 3.0d, CONTEXT.evaluate({ ProcessStack stack, Frame frame -> (Object) ints.evaluateDouble(stack, frame) }))
+
+        Expression longs = CONTEXT.parse('longSeven / two')
+        assertEquals((Object) 3L, CONTEXT.evaluate(longs))
+        assertEquals((Object) 3L, CONTEXT.evaluate({ ProcessStack stack, Frame frame -> (Object) longs.evaluateLong(stack, frame) }))
+
+        Expression doubles = CONTEXT.parse('seven / half')
+        assertEquals((Object) 14.0d, CONTEXT.evaluate(doubles))
+        assertEquals((Object) 14.0d, CONTEXT.evaluate({ ProcessStack stack, Frame frame -> (Object) doubles.evaluateDouble(stack, frame) }))
+        assertEquals((Object) 14, CONTEXT.evaluate({ ProcessStack stack, Frame frame -> (Object) doubles.evaluateInt(stack, frame) }))
+    }
+
+    @Test
+    void 'should select the widest priority of mixed operands' () {
+        assertEquals((Object) 1L, CONTEXT.evaluate('seven / longSeven'))
+        assertEquals((Object) 14.0d, CONTEXT.evaluate('longSeven / half'))
+        assertEquals((Object) 4, CONTEXT.evaluate('byteNine / two'))
+    }
+
+    @Test
+    void 'should report integer division by zero as runtime exception' () {
+        for (String expression : [ 'seven / zero', 'longSeven / longZero', 'seven / longZero', 'byteNine / byteZero' ]) {
+            PandaRuntimeException exception = assertThrows(PandaRuntimeException.class, { CONTEXT.evaluate(expression) })
+            assertEquals(ArithmeticException.class, exception.getCause().getClass())
+        }
+
+        assertEquals((Object) Double.POSITIVE_INFINITY, CONTEXT.evaluate('seven / (half - half)'))
+        assertThrows(PandaRuntimeException.class, { ArithmeticUtils.divide(1, 0) })
+        assertThrows(PandaRuntimeException.class, { ArithmeticUtils.divide(1L, 0L) })
+    }
+
+}
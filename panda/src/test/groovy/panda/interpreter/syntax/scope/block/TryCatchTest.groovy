@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.scope.block
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.dynamic.Executable
+import panda.interpreter.architecture.statement.AbstractStatement
+import panda.interpreter.architecture.statement.PandaBlock
+import panda.interpreter.architecture.statement.PandaVariableData
+import panda.interpreter.architecture.statement.Scope
+import panda.interpreter.architecture.statement.Variable
+import panda.interpreter.runtime.PandaProcess
+import panda.interpreter.runtime.PandaProcessFailure
+import panda.interpreter.runtime.PandaRuntimeException
+import panda.interpreter.runtime.ProcessStack
+import panda.interpreter.source.Location
+import panda.interpreter.syntax.head.MainScope
+import panda.interpreter.token.PandaLocation
+
+import java.util.function.Function
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertThrows
+
+@CompileStatic
+final class TryCatchTest {
+
+    private final List<String> calls = new ArrayList<>()
+    private MainScope main
+    private Location location
+    private Throwable thrown
+
+    @BeforeEach
+    void prepare() {
+        this.main = new MainScope(PandaLocation.unknownLocation(null, 'try-catch-test'))
+        this.location = main.getSourceLocation()
+    }
+
+    @Test
+    void 'should select the most specific handler regardless of declaration order' () {
+        TryCatch tryCatch = createTryCatch()
+        tryCatch.addHandler(Exception.class, createVariable('exception'), createBlock('exception'))
+        tryCatch.addHandler(IllegalArgumentException.class, createVariable('illegal'), createBlock('illegal'))
+        tryCatch.addHandler(RuntimeException.class, createVariable('runtime'), createBlock('runtime'))
+
+        assertEquals([ 'illegal:2', 'finally:2' ], execute(new NumberFormatException()))
+        assertEquals([ 'runtime:2', 'finally:2' ], execute(new IllegalStateException()))
+        assertEquals([ 'exception:2', 'finally:2' ], execute(new IOException()))
+    }
+
+    @Test
+    void 'should replace handler of the same type' () {
+        TryCatch tryCatch = createTryCatch()
+        tryCatch.addHandler(RuntimeException.class, createVariable('first'), createBlock('first'))
+        tryCatch.addHandler(RuntimeException.class, createVariable('second'), createBlock('second'))
+
+        assertEquals([ 'second:2', 'finally:2' ], execute(new RuntimeException()))
+    }
+
+    @Test
+    void 'should reset resolved handlers when handler is added' () {
+        TryCatch tryCatch = createTryCatch()
+        tryCatch.addHandler(RuntimeException.class, createVariable('runtime'), createBlock('runtime'))
+
+        assertEquals([ 'runtime:2', 'finally:2' ], execute(new IllegalStateException()))
+        assertEquals([ 'runtime:2', 'finally:2' ], execute(new IllegalStateException()))
+
+        tryCatch.addHandler(IllegalStateException.class, createVariable('state'), createBlock('state'))
+        assertEquals([ 'state:2', 'finally:2' ], execute(new IllegalStateException()))
+        assertEquals([ 'runtime:2', 'finally:2' ], execute(new UnsupportedOperationException()))
+    }
+
+    @Test
+    void 'should keep interrupted statements of unhandled exception on the stack' () {
+        TryCatch tryCatch = createTryCatch()
+        tryCatch.addHandler(IllegalStateException.class, createVariable('state'), createBlock('state'))
+
+        this.thrown = new IllegalArgumentException()
+        PandaProcessFailure failure = assertThrows(PandaProcessFailure.class, { new PandaProcess(null, main).execute() })
+
+        assertSame(thrown, failure.getException())
+        assertEquals([ 'finally:3' ], calls)
+        assertEquals(2, failure.getLivingFrames().length)
+        assertSame(tryCatch, failure.getLivingFrames()[1])
+    }
+
+    @Test
+    void 'should describe stackless exceptions using statements on the stack' () {
+        Variable variable = createVariable('exception')
+        Scope handlerBlock = new PandaBlock(main, location)
+        handlerBlock.addStatement(new StatementStub(location, { ProcessStack stack ->
+            PandaRuntimeException exception = stack.getCurrentFrame().get(variable.getPointer())
+            calls.add(exception.getStackTrace().collect { element -> element.getClassName() + ':' + element.getFileName() }.join(','))
+            return null
+        }))
+
+        Scope tryBlock = new PandaBlock(main, location)
+        tryBlock.addStatement(new StatementStub(location, { ProcessStack stack ->
+            throw new PandaRuntimeException('stackless').withProcessStack(stack)
+        }))
+
+        TryCatch tryCatch = new TryCatch(location, tryBlock, new PandaBlock(main, location))
+        tryCatch.addHandler(PandaRuntimeException.class, variable, handlerBlock)
+        main.addStatement(tryCatch)
+
+        new PandaProcess(null, main).execute()
+        assertEquals([ 'panda:try-catch-test,panda:try-catch-test' ], calls)
+    }
+
+    private List<String> execute(Throwable throwable) {
+        this.thrown = throwable
+        calls.clear()
+        new PandaProcess(null, main).execute()
+        return new ArrayList<>(calls)
+    }
+
+    private TryCatch createTryCatch() {
+        Scope tryBlock = new PandaBlock(main, location)
+        tryBlock.addStatement(new StatementStub(location, { ProcessStack stack -> throw thrown }))
+
+        TryCatch tryCatch = new TryCatch(location, tryBlock, createBlock('finally'))
+        main.addStatement(tryCatch)
+        return tryCatch
+    }
+
+    private Variable createVariable(String name) {
+        return new PandaBlock(main, location).createVariable(new PandaVariableData(name, false, false))
+    }
+
+    private Scope createBlock(String name) {
+        Scope block = new PandaBlock(main, location)
+        block.addStatement(new StatementStub(location, { ProcessStack stack ->
+            calls.add(name + ':' + stack.getDepth())
+            return null
+        }))
+        return block
+    }
+
+    private static final class StatementStub extends AbstractStatement implements Executable {
+
+        private final Function<ProcessStack, Object> body
+
+        private StatementStub(Location location, Function<ProcessStack, Object> body) {
+            super(location)
+            this.body = body
+        }
+
+        @Override
+        Object execute(ProcessStack stack, Object instance) {
+            return body.apply(stack)
+        }
+
+    }
+
+}
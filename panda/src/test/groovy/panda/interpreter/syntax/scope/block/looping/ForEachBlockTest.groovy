@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.syntax.scope.block.looping
+
+import groovy.transform.CompileStatic
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import panda.interpreter.architecture.dynamic.Controller
+import panda.interpreter.architecture.dynamic.Executable
+import panda.interpreter.architecture.statement.AbstractStatement
+import panda.interpreter.architecture.statement.PandaVariableData
+import panda.interpreter.architecture.statement.VariableData
+import panda.interpreter.runtime.ProcessStack
+import panda.interpreter.runtime.Status
+import panda.interpreter.source.Location
+import panda.interpreter.utils.ExpressionTestContext
+import panda.std.Array
+
+import java.util.function.Function
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNull
+import static org.junit.jupiter.api.Assertions.assertThrows
+import static panda.interpreter.utils.ExpressionTestContext.javaSignatureOf
+
+@CompileStatic
+final class ForEachBlockTest {
+
+    private final List<Object> values = new ArrayList<>()
+    private final List<Object> arrayList = new ArrayList<>()
+    private ExpressionTestContext context
+
+    @BeforeEach
+    void prepare() {
+        arrayList.addAll([ 'a', 'b', 'c' ])
+
+        this.context = ExpressionTestContext.create(stubContext -> {
+            Map<VariableData, Object> variables = new HashMap<>()
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, String[].class), 'objects'), [ 'a', 'b', 'c' ] as String[])
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, int[].class), 'ints'), [ 1, 2, 3 ] as int[])
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, char[].class), 'chars'), [ 'a' as char, 'b' as char ] as char[])
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, Array.class), 'stdArray'), Array.of('a', 'b', 'c'))
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, List.class), 'arrayList'), arrayList)
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, List.class), 'linkedList'), new LinkedList<>([ 'a', 'b', 'c' ]))
+            variables.put(new PandaVariableData(javaSignatureOf(stubContext, Collection.class), 'collection'), new LinkedHashSet<>([ 'a', 'b', 'c' ]))
+            return variables
+        })
+    }
+
+    @Test
+    void 'should select strategy by the type of iterable' () {
+        assertEquals(ForEachStrategy.ARRAY, createLoop('objects').getStrategy())
+        assertEquals(ForEachStrategy.ARRAY, createLoop('ints').getStrategy())
+        assertEquals(ForEachStrategy.STD_ARRAY, createLoop('stdArray').getStrategy())
+        assertEquals(ForEachStrategy.RANDOM_ACCESS_LIST, createLoop('arrayList').getStrategy())
+        assertEquals(ForEachStrategy.RANDOM_ACCESS_LIST, createLoop('linkedList').getStrategy())
+        assertEquals(ForEachStrategy.ITERATOR, createLoop('collection').getStrategy())
+    }
+
+    @Test
+    void 'should iterate over values using every strategy' () {
+        assertEquals([ 'a', 'b', 'c' ], iterate('objects'))
+        assertEquals([ 1, 2, 3 ], iterate('ints'))
+        assertEquals([ 'a' as char, 'b' as char ], iterate('chars'))
+        assertEquals([ 'a', 'b', 'c' ], iterate('stdArray'))
+        assertEquals([ 'a', 'b', 'c' ], iterate('arrayList'))
+        assertEquals([ 'a', 'b', 'c' ], iterate('linkedList'))
+        assertEquals([ 'a', 'b', 'c' ], iterate('collection'))
+    }
+
+    @Test
+    void 'should stop iteration on break and return' () {
+        for (String iterable : [ 'objects', 'ints', 'chars', 'stdArray', 'arrayList', 'linkedList', 'collection' ]) {
+            ForEachBlock breakLoop = createLoop(iterable)
+            breakLoop.addStatement(new RecordingStub(breakLoop, null))
+            breakLoop.addStatement(new ControllerStub(breakLoop, Status.BREAK))
+
+            values.clear()
+            assertNull(context.call(breakLoop))
+            assertEquals(1, values.size())
+
+            ForEachBlock returnLoop = createLoop(iterable)
+            returnLoop.addStatement(new RecordingStub(returnLoop, null))
+            returnLoop.addStatement(new ControllerStub(returnLoop, Status.RETURN))
+
+            values.clear()
+            assertEquals(Status.RETURN, context.call(returnLoop).getStatus())
+            assertEquals(1, values.size())
+        }
+    }
+
+    @Test
+    void 'should allow modification of list followed by break' () {
+        ForEachBlock loop = createLoop('arrayList')
+        loop.addStatement(new RecordingStub(loop, (Object value) -> arrayList.remove(value)))
+        loop.addStatement(new ControllerStub(loop, Status.BREAK))
+
+        assertNull(context.call(loop))
+        assertEquals([ 'b', 'c' ], arrayList)
+    }
+
+    @Test
+    void 'should fail fast if list is modified and iteration continues' () {
+        ForEachBlock loop = createLoop('arrayList')
+        loop.addStatement(new RecordingStub(loop, (Object value) -> arrayList.remove(value)))
+
+        assertThrows(ConcurrentModificationException.class, { context.call(loop) })
+    }
+
+    private List<Object> iterate(String iterable) {
+        ForEachBlock loop = createLoop(iterable)
+        loop.addStatement(new RecordingStub(loop, null))
+
+        values.clear()
+        assertNull(context.call(loop))
+        return new ArrayList<>(values)
+    }
+
+    private ForEachBlock createLoop(String iterable) {
+        return new ForEachBlock(context.getContext().getScope(), context.getContext().getScope().getSourceLocation(), context.parse(iterable))
+    }
+
+    private final class RecordingStub extends AbstractStatement implements Executable {
+
+        private final ForEachBlock loop
+        private final Function<Object, Object> action
+
+        private RecordingStub(ForEachBlock loop, Function<Object, Object> action) {
+            super(loop.getSourceLocation())
+            this.loop = loop
+            this.action = action
+        }
+
+        @Override
+        Object execute(ProcessStack stack, Object instance) {
+            Object value = stack.getCurrentFrame().get(loop.getValuePointer())
+            values.add(value)
+
+            if (action != null) {
+                action.apply(value)
+            }
+
+            return null
+        }
+
+    }
+
+    private static final class ControllerStub extends AbstractStatement implements Controller {
+
+        private final byte status
+
+        private ControllerStub(ForEachBlock loop, byte status) {
+            super(loop.getSourceLocation())
+            this.status = status
+        }
+
+        @Override
+        Object execute(ProcessStack stack, Object instance) {
+            return null
+        }
+
+        @Override
+        byte getStatusCode() {
+            return status
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 dzikoysk
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package panda.interpreter.utils
+
+import groovy.transform.CompileStatic
+import panda.interpreter.PandaEnvironment
+import panda.interpreter.architecture.dynamic.Frame
+import panda.interpreter.architecture.expression.Expression
+import panda.interpreter.architecture.statement.Statement
+import panda.interpreter.architecture.statement.StaticScope
+import panda.interpreter.architecture.statement.VariableData
+import panda.interpreter.architecture.type.Reference
+import panda.interpreter.architecture.type.signature.Signature
+import panda.interpreter.lexer.PandaLexerUtils
+import panda.interpreter.parser.Context
+import panda.interpreter.parser.expression.ExpressionParser
+import panda.interpreter.parser.expression.PandaExpressionParser
+import panda.interpreter.runtime.PandaProcess
+import panda.interpreter.runtime.PandaProcessStack
+import panda.interpreter.runtime.ProcessStack
+import panda.interpreter.runtime.Result
+import panda.interpreter.runtime.Status
+import panda.interpreter.syntax.expressions.PandaExpressions
+import panda.std.function.ThrowingBiFunction
+
+import java.util.function.Function
+
+/**
+ * Parses and evaluates expressions in the scope of stub context with the given variables
+ */
+@CompileStatic
+final class ExpressionTestContext {
+
+    private static final ExpressionParser PARSER = new PandaExpressionParser(PandaExpressions.createExpressionSubparsers())
+
+    private final Context<?> context
+
+    private ExpressionTestContext(Context<?> context) {
+        this.context = context
+    }
+
+    Expression parse(String source) {
+        return PARSER.parse(context, PandaLexerUtils.convert(ExpressionTestContext.class.getSimpleName(), source))
+    }
+
+    Object evaluate(String source) {
+        return evaluate(parse(source))
+    }
+
+    Object evaluate(Expression expression) {
+        return call((stack, frame) -> Result.of(Status.RETURN, expression.evaluate(stack, frame))).getResult()
+    }
+
+    Object evaluate(ThrowingBiFunction<ProcessStack, Frame, Object, Exception> evaluator) {
+        return call((stack, frame) -> Result.of(Status.RETURN, evaluator.apply(stack, frame))).getResult()
+    }
+
+    Result<?> call(Statement statement) {
+        return call((stack, frame) -> stack.callStatement(frame, statement))
+    }
+
+    private Result<?> call(ThrowingBiFunction<ProcessStack, Frame, Result<?>, Exception> body) {
+        StaticScope scope = (StaticScope) context.getScope()
+        Frame frame = scope.revive(null, null)
+        PandaProcessStack stack = new PandaProcessStack(new PandaProcess(null, scope), 64)
+
+        return stack.callCustomFrame(frame, frame, () -> body.apply(stack, frame))
+    }
+
+    Context<?> getContext() {
+        return context
+    }
+
+    static ExpressionTestContext create(Function<Context<?>, Map<VariableData, Object>> variables) {
+        return new ExpressionTestContext(PandaContextUtils.createStubContext(PandaUtils.defaultInstance(), variables).toContext())
+    }
+
+    static Signature signatureOf(Context<?> context, String type) {
+        return context.getTypeLoader().requireType(type).getSignature()
+    }
+
+    static Signature arraySignatureOf(Context<?> context, Class<?> arrayType) {
+        return javaSignatureOf(context, arrayType)
+    }
+
+    static Signature javaSignatureOf(Context<?> context, Class<?> javaType) {
+        PandaEnvironment environment = (PandaEnvironment) context.getEnvironment()
+        Reference reference = environment.getTypeGenerator().generate(context.getTypeLoader(), context.getScript().getModule(), javaType.getSimpleName(), javaType)
+        return context.getTypeLoader().load(reference.fetchType()).getSignature()
+    }
+
+}